@@ -0,0 +1,77 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.domain.Reservation;
+import meeting.meeting_room_reservation.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 시간 검증, 예약 변경 가능 여부 판단(메모리 연산만) 측정
+ * ./gradlew jmh -Pjmh.args='ReservationRuleBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationRuleBenchmark {
+
+    private static final int CASE_CNT = 1024;
+
+    private LocalDateTime[] starts;
+    private LocalDateTime[] ends;
+    private List<List<Reservation>> duplicates;
+
+    @Setup
+    public void setUp() {
+        // 정상(00분, 30분), 분 단위 오류, 시작 > 종료가 섞인 입력
+        LocalDateTime base = LocalDateTime.of(2025, 5, 1, 9, 0);
+        starts = new LocalDateTime[CASE_CNT];
+        ends = new LocalDateTime[CASE_CNT];
+        for (int i = 0; i < CASE_CNT; i++) {
+            starts[i] = base.plusMinutes(15L * i);
+            ends[i] = starts[i].plusMinutes(i % 7 == 0 ? -30 : 30L * (1 + i % 4));
+        }
+
+        User owner = User.builder().userId("e101010").build();
+        User other = User.builder().userId("e202020").build();
+        duplicates = List.of(
+                List.of(),
+                List.of(Reservation.builder().resvNo(1L).user(owner).build()),
+                List.of(Reservation.builder().resvNo(2L).user(other).build()),
+                List.of(Reservation.builder().resvNo(1L).user(owner).build(),
+                        Reservation.builder().resvNo(2L).user(other).build())
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CASE_CNT)
+    public void isTimeValid(Blackhole blackhole) {
+        for (int i = 0; i < CASE_CNT; i++) {
+            blackhole.consume(ReservationService.isTimeValid(starts[i], ends[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void isModifiable(Blackhole blackhole) {
+        for (List<Reservation> duplicated : duplicates) {
+            blackhole.consume(ReservationService.isModifiable(duplicated, 1L, "e101010"));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.MeetingRoomReservationApplication;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 조회, 변경 중복 판단, 등록을 내장 H2(예약 10k / 1M 건)에서 측정
+ * ./gradlew jmh -Pjmh.args='ReservationServiceBenchmark -p rows=10000'
+ *
+ * 예약은 회의실 50개에 1시간 단위로 연속 생성하며 슬롯(30분 2개)도 함께 생성합니다.
+ * 월간 조회는 캐시를 거치지 않도록 프록시가 아닌 서비스 객체를 읽기 전용 트랜잭션 안에서 호출합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ReservationServiceBenchmark {
+
+    private static final int ROOM_CNT = 50;
+    private static final String[] USER_IDS = {"e101010", "e202020", "e303030", "e404040"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private ReservationService uncachedService;
+    private ReservationRepository reservationRepository;
+    private ReservationIndex reservationIndex;
+    private TransactionTemplate readOnlyTx;
+
+    private int hours;
+    private int months;
+    private int seq;
+    private int saveSeq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MeetingRoomReservationApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh" + rows + ";DB_CLOSE_DELAY=-1",
+                     "--spring.datasource.driver-class-name=org.h2.Driver",
+                     "--spring.datasource.username=sa",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                     "--spring.jpa.show-sql=false",
+                     "--logging.level.root=WARN");
+        reservationService = context.getBean(ReservationService.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+        reservationIndex = context.getBean(ReservationIndex.class);
+        uncachedService = (ReservationService) AopProxyUtils.getSingletonTarget(reservationService);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+
+        loadReservations(context.getBean(JdbcTemplate.class));
+        reservationIndex.load();
+
+        hours = rows / ROOM_CNT;
+        months = Math.max(1, hours / 24 / 31);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    /**
+     * 월간 조회(ResvResponseDto 직접 조회 + 반복 예약 병합)
+     */
+    @Benchmark
+    public List<ResvResponseDto> selectMonthlyResvList() {
+        int next = seq++;
+        return readOnlyTx.execute(status -> uncachedService.selectMonthlyResvList(
+                roomCd(next % ROOM_CNT), BASE.plusMonths(next % months).format(DateTimeFormatter.ofPattern("yyyyMM"))));
+    }
+
+    /**
+     * 월간 조회 비교 기준(엔티티 적재 후 ResvResponseDto 변환)
+     */
+    @Benchmark
+    public List<ResvResponseDto> selectMonthlyResvListByEntity() {
+        int next = seq++;
+        LocalDateTime start = BASE.plusMonths(next % months);
+        return readOnlyTx.execute(status -> reservationRepository
+                .findOverlappingReservations(roomCd(next % ROOM_CNT), start, start.plusMonths(1))
+                .stream()
+                .map(resv -> ResvResponseDto.builder()
+                                            .resvNo(resv.getResvNo())
+                                            .userNm(resv.getUserNm())
+                                            .roomCd(resv.getMeetingRoom().getRoomCd())
+                                            .startTime(resv.getStartTime())
+                                            .endTime(resv.getEndTime())
+                                            .build())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 예약 변경 중복 판단(DB 조회 + 변경 가능 여부)
+     */
+    @Benchmark
+    public Boolean modifyOverlapDecision() {
+        int i = (seq++ * 7919) % rows;
+        LocalDateTime start = BASE.plusHours(i / ROOM_CNT);
+        return readOnlyTx.execute(status -> ReservationService.isModifiable(
+                reservationRepository.findOverlappingReservations(roomCd(i % ROOM_CNT), start, start.plusHours(1)),
+                i + 1L, USER_IDS[i % USER_IDS.length]));
+    }
+
+    /**
+     * 예약 변경 중복 판단(메모리 인덱스, 변경 대상 예약 제외)
+     */
+    @Benchmark
+    public boolean modifyOverlapDecisionByIndex() {
+        int i = (seq++ * 7919) % rows;
+        LocalDateTime start = BASE.plusHours(i / ROOM_CNT);
+        return reservationIndex.hasOverlap(roomCd(i % ROOM_CNT), start, start.plusHours(1), i + 1L);
+    }
+
+    /**
+     * 예약 등록(중복 확인, 채번, 예약 + 슬롯 저장, 인덱스 반영) - 기존 예약 이후 빈 시간대
+     */
+    @Benchmark
+    public ResvResponseDto saveReservation() {
+        int next = saveSeq++;
+        LocalDateTime start = BASE.plusHours(hours + 1).plusMinutes(30L * (next / ROOM_CNT));
+        return reservationService.saveReservation(ResvDto.builder()
+                                                         .userId(USER_IDS[next % USER_IDS.length])
+                                                         .roomCd(roomCd(next % ROOM_CNT))
+                                                         .startTime(start)
+                                                         .endTime(start.plusMinutes(30))
+                                                         .build());
+    }
+
+    private void loadReservations(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOM_CNT; i++) {
+            rooms.add(new Object[]{roomCd(i), "회의실" + i, 10});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meeting_rooms (room_cd, room_nm, capacity) VALUES (?, ?, ?)", rooms);
+
+        List<Object[]> reservations = new ArrayList<>(10_000);
+        List<Object[]> slots = new ArrayList<>(20_000);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime start = BASE.plusHours(i / ROOM_CNT);
+            reservations.add(new Object[]{i + 1L, USER_IDS[i % USER_IDS.length], "사용자", roomCd(i % ROOM_CNT),
+                                          Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1))});
+            slots.add(new Object[]{roomCd(i % ROOM_CNT), Timestamp.valueOf(start), i + 1L});
+            slots.add(new Object[]{roomCd(i % ROOM_CNT), Timestamp.valueOf(start.plusMinutes(30)), i + 1L});
+            if (reservations.size() == 10_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO reservations (resv_no, user_id, user_nm, room_cd, start_time, end_time)"
+                                         + " VALUES (?, ?, ?, ?, ?, ?)", reservations);
+                jdbcTemplate.batchUpdate("INSERT INTO reservation_slots (room_cd, slot_start, resv_no) VALUES (?, ?, ?)",
+                                         slots);
+                reservations.clear();
+                slots.clear();
+            }
+        }
+        jdbcTemplate.update("UPDATE id_sequences SET next_val = ? WHERE seq_name = 'reservations'", rows + 1L);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static String roomCd(int no) {
+        return String.format("R%03d", no);
+    }
+}
@@ -0,0 +1,48 @@
+package meeting.meeting_room_reservation.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * *******************************
+ * 캐시 설정(Caffeine)
+ *
+ * 크기, 만료 시간은 application.properties 의 spring.cache.caffeine.spec 으로 지정합니다.
+ * 회의실, 사용자 정보는 Repository 저장/삭제 시 캐시를 비웁니다.
+ * 트랜잭션 안에서의 캐시 저장/삭제는 커밋 이후에 반영됩니다.
+ * *******************************
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    // 회의실 콤보 리스트(ResvRmResponseDto 목록)
+    public static final String MEETING_ROOM_LIST = "meetingRoomList";
+
+    // 수용 인원별 회의실 목록(회의실 검색)
+    public static final String ROOM_CAPACITY_INDEX = "roomCapacityIndex";
+
+    // 회의실 코드별 회의실 정보
+    public static final String MEETING_ROOM = "meetingRoom";
+
+    // 사용자 ID별 사용자 정보
+    public static final String USER = "user";
+
+    // 회의실 월간 예약 목록((회의실 코드, 연월)별 ResvResponseDto 목록)
+    public static final String MONTHLY_RESV_LIST = "monthlyResvList";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,56 @@
+package meeting.meeting_room_reservation.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import meeting.meeting_room_reservation.service.ReservationMetrics;
+import meeting.meeting_room_reservation.service.ReservationStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * *******************************
+ * 예약 처리 지표 설정
+ *
+ * 지표는 /actuator/metrics, /actuator/prometheus 로 조회합니다.
+ * roomCd 태그는 등록된 회의실 코드만 사용하며(ReservationMetricsAspect), 회의실이 많아도 지표가 계속 늘지 않도록
+ * 최대 종류 수를 넘은 회의실 코드는 other 로 합산합니다. (기록을 버리지 않으므로 전체 처리 건수는 유지)
+ * *******************************
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ReservationStatementInspector());
+    }
+
+    @Bean
+    public MeterFilter reservationRoomTagLimit(@Value("${reservation.metrics.max-room-tags:200}") int maxRoomTags) {
+        Set<String> roomTags = ConcurrentHashMap.newKeySet();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                String roomCd = id.getTag("roomCd");
+                if (!ReservationMetrics.OPERATION.equals(id.getName()) || roomCd == null
+                        || ReservationMetrics.NO_ROOM.equals(roomCd) || ReservationMetrics.OTHER_ROOM.equals(roomCd)
+                        || roomTags.contains(roomCd)) {
+                    return id;
+                }
+                synchronized (roomTags) {
+                    if (roomTags.size() < maxRoomTags) {
+                        roomTags.add(roomCd);
+                        return id;
+                    }
+                }
+                return id.replaceTags(Tags.of(id.getTagsAsIterable()).and("roomCd", ReservationMetrics.OTHER_ROOM));
+            }
+        };
+    }
+}
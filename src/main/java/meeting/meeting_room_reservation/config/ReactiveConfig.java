@@ -0,0 +1,24 @@
+package meeting.meeting_room_reservation.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * *******************************
+ * 반응형 API 서버 설정(reactive 프로필)
+ *
+ * Tomcat 이 함께 포함되어 있으므로 Netty 이벤트 루프 서버를 직접 지정합니다.
+ * (ServletHttpHandlerAdapter 없이 요청을 이벤트 루프에서 처리)
+ * *******************************
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
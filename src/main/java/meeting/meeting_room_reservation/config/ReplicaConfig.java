@@ -0,0 +1,75 @@
+package meeting.meeting_room_reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * *******************************
+ * 읽기 복제본 DataSource 설정(reservation.replica.enabled=true)
+ *
+ * 주 DB 는 spring.datasource 설정, 복제본은 reservation.replica.urls 의 DB 를 같은 계정으로 사용합니다.
+ * 커넥션을 첫 SQL 실행 시점에 가져오도록(LazyConnectionDataSourceProxy) 하여
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본 풀에서, 그 외는 주 DB 에서 커넥션을 가져옵니다.
+ * 스키마는 주 DB 에만 마이그레이션하고 복제본은 DB 복제로 반영합니다.
+ * 회의실 샤딩과 함께 사용할 수 없습니다.
+ * *******************************
+ */
+@Configuration
+@ConditionalOnProperty(name = "reservation.replica.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    public ReplicaConfig(@Value("${reservation.sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException("읽기 복제본과 회의실 샤딩은 함께 사용할 수 없습니다.");
+        }
+    }
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(DataSourceProperties properties,
+                                               @Qualifier("primaryDataSource") DataSource primary,
+                                               @Value("${reservation.replica.urls}") List<String> urls,
+                                               @Value("${reservation.replica.pool-size:10}") int poolSize,
+                                               @Value("${reservation.replica.max-lag-ms:1000}") long maxLagMs,
+                                               @Value("${reservation.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<String> replicaUrls = urls.stream().filter(url -> !url.isBlank()).toList();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                                                 .type(HikariDataSource.class)
+                                                 .url(replicaUrls.get(i))
+                                                 .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaDataSource(primary, replicas, maxLagMs, checkIntervalMs);
+    }
+
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                    ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
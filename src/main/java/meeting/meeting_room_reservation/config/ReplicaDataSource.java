@@ -0,0 +1,136 @@
+package meeting.meeting_room_reservation.config;
+
+import meeting.meeting_room_reservation.service.ReplicaReadRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * *******************************
+ * 읽기 전용 커넥션 DataSource(복제본 풀)
+ *
+ * 사용 가능한 복제본을 순서대로 돌아가며 사용하고, 사용 가능한 복제본이 없거나
+ * 주 DB 조회가 지정된 경우(ReplicaReadRouting.primaryRequired) 주 DB 커넥션을 반환합니다.
+ * check-interval 마다 주 DB 의 replica_heartbeat 에 현재 시각을 기록하고, 복제본에 복제된 값이
+ * max-lag + check-interval 보다 오래되었거나 연결할 수 없는 복제본은 다음 확인 때까지 제외합니다.
+ * *******************************
+ */
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long stalenessMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaDataSource(DataSource primary, List<DataSource> replicas, long maxLagMs, long checkIntervalMs) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.stalenessMillis = maxLagMs + checkIntervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkReplicas, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReplicaReadRouting.primaryRequired()) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                replica.available = false;
+                log.warn("복제본 연결 실패, 다음 확인 때까지 제외합니다. (replica-{})", replicas.indexOf(replica), e);
+            }
+        }
+        // 사용 가능한 복제본이 없으면 주 DB 로 조회
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("복제본 DataSource 는 설정된 계정만 사용합니다.");
+    }
+
+    /**
+     * *******************************
+     * 복제 지연 확인(주 DB heartbeat 기록 후 복제본별 기록값 비교)
+     * *******************************
+     */
+    public void checkReplicas() {
+        try {
+            new JdbcTemplate(primary).update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1",
+                                             System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("replica_heartbeat 기록 실패", e);
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            boolean available;
+            try {
+                Long beatAt = new JdbcTemplate(replica.dataSource)
+                        .queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+                available = beatAt != null && System.currentTimeMillis() - beatAt <= stalenessMillis;
+            } catch (RuntimeException e) {
+                available = false;
+            }
+            if (replica.available != available) {
+                log.info("복제본 상태 변경 replica-{}: {}", i, available ? "사용" : "제외");
+            }
+            replica.available = available;
+        }
+    }
+
+    /**
+     * *******************************
+     * 현재 사용 가능한 복제본 수
+     * *******************************
+     */
+    public int availableCount() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
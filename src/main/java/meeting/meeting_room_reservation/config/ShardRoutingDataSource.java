@@ -0,0 +1,30 @@
+package meeting.meeting_room_reservation.config;
+
+import meeting.meeting_room_reservation.service.ReservationShards;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * *******************************
+ * 현재 스레드의 샤드 번호로 DataSource 선택(샤드 번호가 없으면 0번 샤드)
+ * *******************************
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReservationShards.current();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package meeting.meeting_room_reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * *******************************
+ * 회의실 샤딩 DataSource 설정(reservation.sharding.enabled=true)
+ *
+ * reservation.sharding.urls 순서대로 샤드 0..N-1 커넥션 풀을 만들고, 계정과 드라이버는 spring.datasource 설정을 사용합니다.
+ * 회의실, 사용자 기본 데이터와 스키마는 모든 샤드에 동일하게 마이그레이션합니다.
+ * 예약 번호 채번(id_sequences)은 spring.datasource.url 의 DB 한 곳에서만 하므로 0번 샤드와 같은 DB 를 지정합니다.
+ * *******************************
+ */
+@Configuration
+@ConditionalOnProperty(name = "reservation.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties,
+                                             @Value("${reservation.sharding.urls}") List<String> urls,
+                                             @Value("${reservation.sharding.pool-size:10}") int poolSize) {
+        Map<Object, Object> shards = new HashMap<>();
+        List<String> shardUrls = urls.stream().filter(url -> !url.isBlank()).toList();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = properties.initializeDataSourceBuilder()
+                                               .type(HikariDataSource.class)
+                                               .url(shardUrls.get(i))
+                                               .build();
+            shard.setPoolName("shard-" + i);
+            shard.setMaximumPoolSize(poolSize);
+            shards.put(i, shard);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        routing.setDefaultTargetDataSource(shards.get(0));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    // 모든 샤드에 같은 마이그레이션 적용
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(ShardRoutingDataSource dataSource) {
+        return flyway -> {
+            for (DataSource shard : dataSource.getResolvedDataSources().values()) {
+                Flyway.configure().configuration(flyway.getConfiguration()).dataSource(shard).load().migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package meeting.meeting_room_reservation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.service.ReactiveReservationService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Reactive Reservation API", description = "회의실 예약 관련 API(reactive 프로필)")
+@RestController
+@RequestMapping("/meeting-rooms")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReservationController {
+
+    private final ReactiveReservationService reactiveReservationService;
+
+    @Operation(summary = "회의실 종류 콤보 리스트 조회", description = "회의실 종류를 조회합니다.")
+    @GetMapping("/room-category")
+    public Flux<ResvRmResponseDto> getMeetingRoomList() {
+        return reactiveReservationService.selectMeetingRoomList();
+    }
+
+    @Operation(summary = "회의실 예약 월간 조회",
+               description = "회의실 예약을 조회합니다. (JSON 배열 또는 NDJSON, If-None-Match 일치 시 304)")
+    @GetMapping(value = "/reservations/monthly", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ResvResponseDto> findMonthlyResvList(@RequestParam String roomCd,
+                                                     @RequestParam String date,
+                                                     ServerWebExchange exchange) {
+        // 응답할 목록(캐시)에서 ETag를 구하여 본문과 ETag가 항상 같은 조회 결과를 가리키도록 함
+        return reactiveReservationService.selectMonthlyResvList(roomCd, date).flatMapMany(resvList -> {
+            String eTag = reactiveReservationService.monthlyResvETag(resvList);
+            if (exchange.checkNotModified(eTag)) {
+                return Flux.empty();
+            }
+            exchange.getResponse().getHeaders().setETag(eTag);
+            return Flux.fromIterable(resvList);
+        });
+    }
+
+    @Operation(summary = "회의실 예약 일간 조회", description = "회의실 예약을 조회합니다.")
+    @GetMapping("/reservations/daily")
+    public Flux<ResvResponseDto> findReservationList(@RequestParam String roomCd,
+                                                     @RequestParam String date) {
+        return reactiveReservationService.selectReservationList(roomCd, date);
+    }
+
+    @Operation(summary = "회의실 예약 생성", description = "회의실 예약을 신규 등록합니다.")
+    @PostMapping("/reservations")
+    public Mono<ResvResponseDto> createReservation(@RequestBody ResvDto resvDto) {
+        return reactiveReservationService.saveReservation(resvDto);
+    }
+
+    @Operation(summary = "회의실 예약 수정",
+               description = "회의실 예약을 수정합니다. (version 이 현재 버전과 다르면 409 와 현재 예약 정보 반환)")
+    @PutMapping("/reservations/{resvNo}")
+    public Mono<ResvResponseDto> updateReservation(@PathVariable Long resvNo,
+                                                   @RequestBody ResvDto resvDto) {
+        return reactiveReservationService.modifyReservation(resvNo, resvDto);
+    }
+
+    @Operation(summary = "회의실 예약 취소", description = "회의실 예약을 삭제합니다.")
+    @DeleteMapping("/reservations/{resvNo}")
+    public Mono<ResponseEntity<Void>> deleteReservation(@PathVariable Long resvNo) {
+        return reactiveReservationService.deleteReservation(resvNo)
+                                         .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+}
@@ -0,0 +1,49 @@
+package meeting.meeting_room_reservation.controller;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.domain.Reservation;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.service.ReactiveReservationService;
+import meeting.meeting_room_reservation.service.ReservationConflictException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+
+/**
+ * *******************************
+ * 예약 수정 충돌 응답(409 + 현재 예약 정보, reactive 프로필)
+ * (현재 예약 정보는 이벤트 루프를 막지 않도록 R2DBC 로 재조회)
+ * *******************************
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReservationControllerAdvice {
+
+    private final ReactiveReservationService reactiveReservationService;
+
+    // 요청 버전이 현재 버전과 다른 경우
+    @ExceptionHandler(ReservationConflictException.class)
+    public ResponseEntity<ResvResponseDto> handleConflict(ReservationConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getCurrent());
+    }
+
+    // 같은 버전으로 동시에 변경하여 커밋 시 버전 조건 UPDATE 가 실패한 경우 - 먼저 반영된 예약 정보 재조회
+    // (예약이 아닌 엔티티이거나 그사이 삭제된 예약이면 본문 없이 409)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public Mono<ResponseEntity<ResvResponseDto>> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        if (!Reservation.class.equals(e.getPersistentClass()) || !(e.getIdentifier() instanceof Long resvNo)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        }
+        return reactiveReservationService.selectReservation(resvNo)
+                                         .map(current -> ResponseEntity.status(HttpStatus.CONFLICT).body(current))
+                                         .onErrorResume(NoSuchElementException.class,
+                                                        deleted -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+    }
+}
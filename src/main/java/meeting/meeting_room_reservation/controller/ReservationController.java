@@ -1,24 +1,43 @@
 package meeting.meeting_room_reservation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvAvailResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvPageDto;
 import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.service.ReservationChangePublisher;
 import meeting.meeting_room_reservation.service.ReservationService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Tag(name = "Reservation API", description = "회의실 예약 관련 API")
 @RestController
 @RequestMapping("/meeting-rooms")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final ObjectMapper objectMapper;
     // private final ResvMapstruct resvMapstruct;
 
     @Operation(summary = "회의실 종류 콤보 리스트 조회", description = "회의실 종류를 조회합니다.")
@@ -27,11 +46,28 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.selectMeetingRoomList());
     }
 
-    @Operation(summary = "회의실 예약 월간 조회", description = "회의실 예약을 조회합니다.")
+    @Operation(summary = "예약 가능 회의실 검색",
+               description = "참석 인원 이상 수용 가능하고 시간대(yyyy-MM-dd HH:mm)가 비어 있는 회의실을 수용 인원이 작은 순으로 limit 개 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<ResvRmResponseDto>> searchRooms(@RequestParam int attendees,
+                                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime start,
+                                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime end,
+                                                               @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(reservationService.searchAvailableRooms(attendees, start, end, limit));
+    }
+
+    @Operation(summary = "회의실 예약 월간 조회", description = "회의실 예약을 조회합니다. (If-None-Match 일치 시 304)")
     @GetMapping("/reservations/monthly")
     public ResponseEntity<List<ResvResponseDto>> findMonthlyResvList(@RequestParam String roomCd,
-                                                                     @RequestParam String date) {
-        return ResponseEntity.ok(reservationService.selectMonthlyResvList(roomCd, date));
+                                                                     @RequestParam String date,
+                                                                     WebRequest request) {
+        // 응답할 목록(캐시)에서 ETag를 구하여 본문과 ETag가 항상 같은 조회 결과를 가리키도록 함
+        List<ResvResponseDto> resvList = reservationService.selectMonthlyResvList(roomCd, date);
+        String eTag = reservationService.monthlyResvETag(resvList);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(resvList);
     }
     
     @Operation(summary = "회의실 예약 일간 조회", description = "회의실 예약을 조회합니다.")
@@ -41,13 +77,136 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.selectReservationList(roomCd, date));
     }
 
+    @Operation(summary = "회의실 예약 기간 조회(페이지)",
+               description = "기간(yyyyMMdd ~ yyyyMMdd) 내 예약을 시작시간 순으로 size 건씩 조회합니다. 다음 페이지는 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/reservations/page")
+    public ResponseEntity<ResvPageDto> findReservationPage(@RequestParam String roomCd,
+                                                           @RequestParam String from,
+                                                           @RequestParam String to,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(reservationService.selectReservationPage(roomCd, from, to, cursor, size));
+    }
+
+    @Operation(summary = "회의실 예약 기간 조회(스트림)",
+               description = "기간(yyyyMMdd ~ yyyyMMdd) 내 예약 전체를 시작시간 순으로 조회되는 대로 전송합니다. (format: ndjson | json)")
+    @GetMapping(value = "/reservations/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportReservationList(@RequestParam String roomCd,
+                                                                       @RequestParam String from,
+                                                                       @RequestParam String to,
+                                                                       @RequestParam(defaultValue = "ndjson") String format) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"json".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. (ndjson, json)");
+        }
+        // 조회 조건 검증과 조회 시작은 응답 전송 전에 수행하고, 결과는 한 건씩 변환하여 전송
+        Stream<ResvResponseDto> reservations = reservationService.streamReservationList(roomCd, from, to);
+        StreamingResponseBody body = out -> {
+            try (reservations) {
+                Iterator<ResvResponseDto> iterator = reservations.iterator();
+                if (!ndjson) {
+                    out.write('[');
+                }
+                boolean first = true;
+                while (iterator.hasNext()) {
+                    if (!ndjson && !first) {
+                        out.write(',');
+                    }
+                    out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    if (ndjson) {
+                        out.write('\n');
+                    }
+                    first = false;
+                }
+                if (!ndjson) {
+                    out.write(']');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                             .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                             .body(body);
+    }
+
+    @Operation(summary = "회의실 예약 가능 시간 조회", description = "기간(yyyyMMdd ~ yyyyMMdd) 내 일자별 예약 가능 시간대를 조회합니다.")
+    @GetMapping("/availability")
+    public ResponseEntity<List<ResvAvailResponseDto>> findAvailability(@RequestParam String roomCd,
+                                                                       @RequestParam String from,
+                                                                       @RequestParam String to) {
+        return ResponseEntity.ok(reservationService.selectAvailability(roomCd, from, to));
+    }
+
+    @Operation(summary = "사용자 공통 빈 시간 조회",
+               description = "기간(yyyyMMdd ~ yyyyMMdd) 내 일자별로 모든 사용자가 예약이 없는 시간대를 조회합니다. (roomCd 지정 시 회의실도 비어 있는 시간대)")
+    @GetMapping("/free-time")
+    public ResponseEntity<List<ResvAvailResponseDto>> findCommonFreeTime(@RequestParam List<String> userIds,
+                                                                         @RequestParam String from,
+                                                                         @RequestParam String to,
+                                                                         @RequestParam(required = false) String roomCd) {
+        return ResponseEntity.ok(reservationService.selectCommonFreeTime(userIds, from, to, roomCd));
+    }
+
+    @Operation(summary = "회의실 예약 가능 시간 일괄 조회",
+               description = "여러 회의실(미지정 시 전체)의 기간 내 일자별 예약 가능 시간대를 NDJSON 으로 조회합니다.")
+    @GetMapping(value = "/availability/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> findBulkAvailability(@RequestParam(required = false) List<String> roomCds,
+                                                                      @RequestParam String from,
+                                                                      @RequestParam String to,
+                                                                      @RequestParam(required = false) Integer minCapacity) {
+        // 조회 조건 검증은 응답 전송 전에 수행하고, 결과는 생성되는 대로 한 줄씩 전송
+        Stream<ResvAvailResponseDto> availability = reservationService.selectBulkAvailability(roomCds, from, to, minCapacity);
+        StreamingResponseBody body = out -> {
+            try (availability) {
+                Iterator<ResvAvailResponseDto> iterator = availability.iterator();
+                String roomCd = null;
+                while (iterator.hasNext()) {
+                    ResvAvailResponseDto dto = iterator.next();
+                    if (roomCd != null && !roomCd.equals(dto.getRoomCd())) {
+                        out.flush();
+                    }
+                    roomCd = dto.getRoomCd();
+                    out.write(objectMapper.writeValueAsBytes(dto));
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(summary = "회의실 예약 변경 구독",
+               description = "기간(yyyyMMdd ~ yyyyMMdd) 내 예약이 등록/수정/삭제되면 reservation-change 이벤트(회의실, 변경 일자 구간)를 전송합니다. (Server-Sent Events)")
+    @GetMapping(value = "/reservations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReservationChanges(@RequestParam String roomCd,
+                                                  @RequestParam String from,
+                                                  @RequestParam String to) {
+        return reservationChangePublisher.subscribe(roomCd, from, to);
+    }
+
     @Operation(summary = "회의실 예약 생성", description = "회의실 예약을 신규 등록합니다.")
     @PostMapping("/reservations")
     public ResponseEntity<ResvResponseDto> createReservation(@RequestBody ResvDto resvDto) {
         return ResponseEntity.ok(reservationService.saveReservation(resvDto));
     }
 
-    @Operation(summary = "회의실 예약 수정", description = "회의실 예약을 수정합니다.")
+    @Operation(summary = "회의실 예약 일괄 생성",
+               description = "회의실 예약을 일괄 등록합니다. (ATOMIC: 한 건이라도 실패 시 전체 미등록 후 409, PARTIAL: 건별 결과 반환)")
+    @PostMapping("/reservations/batch")
+    public ResponseEntity<ResvBatchResponseDto> createReservationBatch(@RequestBody ResvBatchDto batchDto) {
+        ResvBatchResponseDto result = reservationService.saveReservationBatch(batchDto);
+        if (result.getMode() == ResvBatchDto.Mode.ATOMIC && result.getFailCnt() > 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "회의실 예약 단건 조회", description = "회의실 예약과 현재 버전을 조회합니다.")
+    @GetMapping("/reservations/{resvNo}")
+    public ResponseEntity<ResvResponseDto> findReservation(@PathVariable Long resvNo) {
+        return ResponseEntity.ok(reservationService.selectReservation(resvNo));
+    }
+
+    @Operation(summary = "회의실 예약 수정",
+               description = "회의실 예약을 수정합니다. (version 이 현재 버전과 다르면 409 와 현재 예약 정보 반환)")
     @PutMapping("/reservations/{resvNo}")
     public ResponseEntity<ResvResponseDto> updateReservation(@PathVariable Long resvNo,
                                                              @RequestBody ResvDto resvDto) {
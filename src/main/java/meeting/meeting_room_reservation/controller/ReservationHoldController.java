@@ -0,0 +1,42 @@
+package meeting.meeting_room_reservation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvHoldResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.service.ReservationHoldService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Reservation Hold API", description = "회의실 예약 대기(임시 점유) API")
+@RestController
+@RequestMapping("/meeting-rooms/holds")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ReservationHoldController {
+
+    private final ReservationHoldService reservationHoldService;
+
+    @Operation(summary = "회의실 예약 대기 등록",
+               description = "회의실, 시간대를 일정 시간(기본 2분) 동안 점유합니다. 점유 중에는 다른 사용자의 대기/예약 등록이 거절됩니다.")
+    @PostMapping
+    public ResponseEntity<ResvHoldResponseDto> createHold(@RequestBody ResvDto resvDto) {
+        return ResponseEntity.ok(reservationHoldService.holdSlot(resvDto));
+    }
+
+    @Operation(summary = "회의실 예약 대기 확정", description = "대기 중인 회의실, 시간대로 예약을 등록하고 대기를 해제합니다.")
+    @PostMapping("/{holdNo}/confirm")
+    public ResponseEntity<ResvResponseDto> confirmHold(@PathVariable Long holdNo, @RequestParam String userId) {
+        return ResponseEntity.ok(reservationHoldService.confirmHold(holdNo, userId));
+    }
+
+    @Operation(summary = "회의실 예약 대기 취소", description = "대기를 해제합니다.")
+    @DeleteMapping("/{holdNo}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long holdNo, @RequestParam String userId) {
+        reservationHoldService.releaseHold(holdNo, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,44 @@
+package meeting.meeting_room_reservation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesResponseDto;
+import meeting.meeting_room_reservation.service.ReservationSeriesService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Reservation Series API", description = "회의실 반복 예약 관련 API")
+@RestController
+@RequestMapping("/meeting-rooms/reservation-series")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ReservationSeriesController {
+
+    private final ReservationSeriesService reservationSeriesService;
+
+    @Operation(summary = "회의실 반복 예약 생성", description = "반복 규칙(FREQ=DAILY|WEEKLY;INTERVAL=n;BYDAY=MO,...)으로 예약을 등록합니다.")
+    @PostMapping
+    public ResponseEntity<ResvSeriesResponseDto> createSeries(@RequestBody ResvSeriesDto seriesDto) {
+        return ResponseEntity.ok(reservationSeriesService.saveSeries(seriesDto));
+    }
+
+    @Operation(summary = "회의실 반복 예약 발생일 취소", description = "반복 예약 중 해당 일자만 취소합니다.")
+    @DeleteMapping("/{seriesNo}/occurrences/{date}")
+    public ResponseEntity<ResvSeriesResponseDto> deleteOccurrence(@PathVariable Long seriesNo,
+                                                                  @PathVariable @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date) {
+        return ResponseEntity.ok(reservationSeriesService.addExDate(seriesNo, date));
+    }
+
+    @Operation(summary = "회의실 반복 예약 취소", description = "반복 예약 전체를 삭제합니다.")
+    @DeleteMapping("/{seriesNo}")
+    public ResponseEntity<Void> deleteSeries(@PathVariable Long seriesNo) {
+        reservationSeriesService.deleteSeries(seriesNo);
+        return ResponseEntity.noContent().build();
+    }
+}
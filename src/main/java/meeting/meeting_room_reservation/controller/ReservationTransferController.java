@@ -0,0 +1,69 @@
+package meeting.meeting_room_reservation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.model.dto.ResvImportResponseDto;
+import meeting.meeting_room_reservation.service.ReservationImportService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Tag(name = "Reservation Transfer API", description = "회의실 예약 대량 등록/내보내기 API(관리자)")
+@RestController
+@RequestMapping("/meeting-rooms/admin/reservations")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ReservationTransferController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final ReservationImportService reservationImportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "회의실 예약 대량 등록",
+               description = "CSV(헤더: userId,roomCd,startTime,endTime) 또는 NDJSON 본문을 한 줄씩 읽어 등록하고, 실패 행의 줄 번호와 사유를 반환합니다. (format: csv | ndjson)")
+    @PostMapping("/import")
+    public ResponseEntity<ResvImportResponseDto> importReservations(@RequestParam(defaultValue = "csv") String format,
+                                                                    InputStream body) {
+        return ResponseEntity.ok(reservationImportService.importReservations(body,
+                                                                             ReservationImportService.Format.of(format)));
+    }
+
+    @Operation(summary = "회의실 예약 내보내기",
+               description = "기간(yyyyMMdd ~ yyyyMMdd) 내 전체 회의실 예약을 조회되는 대로 전송합니다. 결과는 대량 등록 형식과 같습니다. (format: csv | ndjson)")
+    @GetMapping(value = "/export", produces = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportReservations(@RequestParam String from,
+                                                                    @RequestParam String to,
+                                                                    @RequestParam(defaultValue = "csv") String format) {
+        boolean csv = ReservationImportService.Format.of(format) == ReservationImportService.Format.CSV;
+        // 조회 조건 검증과 조회 시작은 응답 전송 전에 수행하고, 결과는 한 건씩 변환하여 전송
+        Stream<ResvExportDto> reservations = reservationImportService.exportReservations(from, to);
+        StreamingResponseBody body = out -> {
+            try (reservations) {
+                Iterator<ResvExportDto> iterator = reservations.iterator();
+                if (csv) {
+                    out.write((ReservationImportService.CSV_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                while (iterator.hasNext()) {
+                    ResvExportDto resv = iterator.next();
+                    out.write(csv ? ReservationImportService.toCsv(resv).getBytes(StandardCharsets.UTF_8)
+                                  : objectMapper.writeValueAsBytes(resv));
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                             .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                             .body(body);
+    }
+}
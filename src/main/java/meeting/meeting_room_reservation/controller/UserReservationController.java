@@ -0,0 +1,29 @@
+package meeting.meeting_room_reservation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvPageDto;
+import meeting.meeting_room_reservation.service.ReservationService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "User Reservation API", description = "사용자별 예약 조회 API")
+@RestController
+@RequestMapping("/users")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class UserReservationController {
+
+    private final ReservationService reservationService;
+
+    @Operation(summary = "사용자 예정 예약 조회(페이지)",
+               description = "사용자의 전체 회의실 예약 중 조회 시점 이후 시작하는 예약을 시작시간 순으로 size 건씩 조회합니다. 다음 페이지는 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/{userId}/reservations")
+    public ResponseEntity<ResvPageDto> findUserReservationPage(@PathVariable String userId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.selectUserReservationPage(userId, cursor, size));
+    }
+}
@@ -0,0 +1,26 @@
+package meeting.meeting_room_reservation.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * *******************************
+ * 회의실 조회 행(R2DBC, reactive 프로필)
+ * *******************************
+ */
+@Table("meeting_rooms")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingRoomRow {
+
+    @Id
+    private String roomCd;
+
+    private String roomNm;
+
+    private int capacity;
+}
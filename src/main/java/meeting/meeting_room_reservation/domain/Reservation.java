@@ -3,6 +3,7 @@ package meeting.meeting_room_reservation.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -13,10 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Reservation {
+public class Reservation implements Persistable<Long> {
 
+    // 저장 전에 ResvNoSequence 로 번호를 할당하여 insert 배치 처리
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Comment(value = "예약 번호")
     private Long resvNo;
 
@@ -42,4 +43,30 @@ public class Reservation {
     @Column(nullable = false)
     private LocalDateTime endTime;
 
+    // 수정 시 다른 사용자의 변경과 충돌 확인(낙관적 잠금)
+    @Version
+    @Comment(value = "수정 버전")
+    private Long version;
+
+    // 저장 또는 조회된 엔티티 여부(번호가 미리 할당되어 있어도 신규 예약은 persist)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return resvNo;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
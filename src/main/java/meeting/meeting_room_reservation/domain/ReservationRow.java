@@ -0,0 +1,37 @@
+package meeting.meeting_room_reservation.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * *******************************
+ * 예약 조회 행(R2DBC, reactive 프로필)
+ * (조회 전용, 등록/수정/삭제는 Reservation 엔티티로 처리)
+ * *******************************
+ */
+@Table("reservations")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRow {
+
+    @Id
+    private Long resvNo;
+
+    private String userId;
+
+    private String userNm;
+
+    private String roomCd;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private Long version;
+}
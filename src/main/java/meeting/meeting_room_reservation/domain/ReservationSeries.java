@@ -0,0 +1,92 @@
+package meeting.meeting_room_reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 반복 예약
+ * 발생일별 예약을 저장하지 않고 반복 규칙(rrule)과 기간, 제외일만 저장합니다.
+ */
+@Entity
+@Table(name = "reservation_series")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationSeries implements Persistable<Long> {
+
+    // 저장 전에 ResvNoSequence 로 번호를 할당(샤딩 사용 시에도 모든 샤드에서 유일)
+    @Id
+    @Comment(value = "반복 예약 번호")
+    private Long seriesNo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @Comment(value = "사용자 정보")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_cd", nullable = false)
+    @Comment(value = "회의실 정보")
+    private MeetingRoom meetingRoom;
+
+    @Column(nullable = false)
+    @Comment(value = "사용자명")
+    private String userNm;
+
+    @Column(nullable = false, length = 100)
+    @Comment(value = "반복 규칙(FREQ=WEEKLY;INTERVAL=1;BYDAY=MO)")
+    private String rrule;
+
+    @Column(nullable = false)
+    @Comment(value = "반복 시작일")
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    @Comment(value = "반복 종료일")
+    private LocalDate untilDate;
+
+    @Column(name = "start_tm", nullable = false)
+    @Comment(value = "예약 시작 시각")
+    private LocalTime startTime;
+
+    @Column(name = "end_tm", nullable = false)
+    @Comment(value = "예약 종료 시각")
+    private LocalTime endTime;
+
+    @ElementCollection
+    @CollectionTable(name = "reservation_series_exdates", joinColumns = @JoinColumn(name = "series_no"))
+    @Column(name = "ex_date")
+    @Builder.Default
+    private Set<LocalDate> exDates = new HashSet<>();
+
+    // 저장 또는 조회된 엔티티 여부(번호가 미리 할당되어 있어도 신규 반복 예약은 persist)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return seriesNo;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,50 @@
+package meeting.meeting_room_reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 30분 슬롯 점유 정보
+ * (room_cd, slot_start) 기본키로 같은 슬롯에 두 건의 예약이 저장되지 않도록 DB에서 보장합니다.
+ */
+@Entity
+@Table(name = "reservation_slots")
+@IdClass(ReservationSlotId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationSlot implements Persistable<ReservationSlotId> {
+
+    @Id
+    @Column(name = "room_cd", length = 50)
+    @Comment(value = "회의실 코드")
+    private String roomCd;
+
+    @Id
+    @Column(name = "slot_start")
+    @Comment(value = "슬롯 시작 시간")
+    private LocalDateTime slotStart;
+
+    @Column(name = "resv_no", nullable = false)
+    @Comment(value = "예약 번호")
+    private Long resvNo;
+
+    @Override
+    public ReservationSlotId getId() {
+        return new ReservationSlotId(roomCd, slotStart);
+    }
+
+    // 항상 신규 저장(persist)하여 중복 슬롯은 키 중복 오류로 처리
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package meeting.meeting_room_reservation.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReservationSlotId implements Serializable {
+
+    private String roomCd;
+
+    private LocalDateTime slotStart;
+}
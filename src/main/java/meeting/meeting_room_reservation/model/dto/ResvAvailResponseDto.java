@@ -0,0 +1,27 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvAvailResponseDto {
+
+    @Schema(description = "회의실 분류 코드", example = "A101")
+    private String roomCd;
+
+    @Schema(description = "일자", example = "2025-05-06")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    @Schema(description = "예약된 슬롯 수(30분 단위)", example = "4")
+    private int occupiedSlotCnt;
+
+    @Schema(description = "예약 가능 시간대")
+    private List<ResvTimeRangeDto> freeSlots;
+}
@@ -0,0 +1,25 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvBatchDto {
+
+    @Schema(description = "처리 방식(ATOMIC: 전체 등록 가능할 때만 등록, PARTIAL: 등록 가능한 건만 등록)", example = "ATOMIC")
+    private Mode mode;
+
+    @NotNull
+    @Schema(description = "예약 목록")
+    private List<ResvDto> reservations;
+
+    public enum Mode {
+        ATOMIC,
+        PARTIAL
+    }
+}
@@ -0,0 +1,24 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvBatchResponseDto {
+
+    @Schema(description = "처리 방식", example = "ATOMIC")
+    private ResvBatchDto.Mode mode;
+
+    @Schema(description = "등록 건수", example = "10")
+    private int successCnt;
+
+    @Schema(description = "실패 건수", example = "0")
+    private int failCnt;
+
+    @Schema(description = "요청 순서별 처리 결과")
+    private List<ResvBatchResultDto> results;
+}
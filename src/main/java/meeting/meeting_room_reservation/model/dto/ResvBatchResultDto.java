@@ -0,0 +1,22 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ResvBatchResultDto {
+
+    @Schema(description = "요청 목록 내 순번(0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "등록 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "등록된 예약 정보")
+    private ResvResponseDto reservation;
+
+    @Schema(description = "실패 사유", example = "이미 해당 시간에 예약이 존재합니다.")
+    private String message;
+}
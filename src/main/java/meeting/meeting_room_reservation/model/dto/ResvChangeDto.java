@@ -0,0 +1,35 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ResvChangeDto {
+
+    @Schema(description = "회의실 분류 코드", example = "A101")
+    private String roomCd;
+
+    @Schema(description = "변경된 예약이 걸친 시작 일자", example = "2025-05-06")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+
+    @Schema(description = "변경된 예약이 걸친 종료 일자", example = "2025-05-06")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+
+    /**
+     * 같은 회의실의 변경 구간 병합
+     */
+    public ResvChangeDto merge(ResvChangeDto other) {
+        return ResvChangeDto.builder()
+                            .roomCd(roomCd)
+                            .fromDate(fromDate.isBefore(other.fromDate) ? fromDate : other.fromDate)
+                            .toDate(toDate.isAfter(other.toDate) ? toDate : other.toDate)
+                            .build();
+    }
+}
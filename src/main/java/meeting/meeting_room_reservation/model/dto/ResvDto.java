@@ -29,4 +29,7 @@ public class ResvDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
     @Schema(description = "예약 종료시간", example = "")
     private LocalDateTime endTime;
+
+    @Schema(description = "수정 시 조회한 예약 버전(다르면 409, 없으면 버전 확인 생략)", example = "0")
+    private Long version;
 }
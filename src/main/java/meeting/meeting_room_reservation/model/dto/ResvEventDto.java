@@ -0,0 +1,43 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ResvEventDto {
+
+    @Schema(description = "이벤트 번호(발행 순서, 소비 위치)", example = "1")
+    private Long eventNo;
+
+    @Schema(description = "이벤트 종류(CREATED, MODIFIED, DELETED)", example = "CREATED")
+    private Type eventType;
+
+    @Schema(description = "예약 번호", example = "1")
+    private Long resvNo;
+
+    @Schema(description = "회의실 분류 코드(수정은 변경 후 회의실)", example = "A101")
+    private String roomCd;
+
+    @Schema(description = "예약 시작시간(수정은 변경 후, 삭제는 삭제 전 시간)", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime startTime;
+
+    @Schema(description = "예약 종료시간(수정은 변경 후, 삭제는 삭제 전 시간)", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime endTime;
+
+    @Schema(description = "이벤트 발생 시간", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime createdAt;
+
+    public enum Type {
+        CREATED,
+        MODIFIED,
+        DELETED
+    }
+}
@@ -0,0 +1,31 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ResvHoldResponseDto {
+
+    @Schema(description = "예약 대기 번호(확정/취소 시 전달)", example = "1")
+    private Long holdNo;
+
+    @Schema(description = "회의실 분류 코드", example = "A101")
+    private String roomCd;
+
+    @Schema(description = "예약 시작시간", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime startTime;
+
+    @Schema(description = "예약 종료시간", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime endTime;
+
+    @Schema(description = "대기 만료시간(이후 확정 불가)", example = "")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ResvImportRejectDto {
+
+    @Schema(description = "파일 내 줄 번호(1부터, CSV 는 헤더 포함)", example = "2")
+    private long line;
+
+    @Schema(description = "원본 행", example = "e101010,A101,2025-05-06 10:00,2025-05-06 10:15")
+    private String content;
+
+    @Schema(description = "실패 사유", example = "시간 형식이 잘못되었습니다. (00분, 30분 단위)")
+    private String message;
+}
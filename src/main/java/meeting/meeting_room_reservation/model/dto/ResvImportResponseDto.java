@@ -0,0 +1,24 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvImportResponseDto {
+
+    @Schema(description = "처리 행 수(헤더, 빈 줄 제외)", example = "100000")
+    private long totalCnt;
+
+    @Schema(description = "등록 건수", example = "99990")
+    private long successCnt;
+
+    @Schema(description = "실패 건수", example = "10")
+    private long failCnt;
+
+    @Schema(description = "실패 행 목록(최대 reservation.import.max-rejects 건)")
+    private List<ResvImportRejectDto> rejects;
+}
@@ -0,0 +1,18 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvPageDto {
+
+    @Schema(description = "예약 목록(시작시간, 예약 번호 순)")
+    private List<ResvResponseDto> reservations;
+
+    @Schema(description = "다음 페이지 조회 커서(마지막 페이지는 없음)", example = "")
+    private String nextCursor;
+}
@@ -2,6 +2,7 @@ package meeting.meeting_room_reservation.model.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,11 +10,15 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ResvResponseDto {
 
-    @Schema(description = "예약 번호", example = "1")
+    @Schema(description = "예약 번호(반복 예약 발생분은 없음)", example = "1")
     private Long resvNo;
 
+    @Schema(description = "반복 예약 번호(반복 예약 발생분만 존재)", example = "")
+    private Long seriesNo;
+
     @Schema(description = "사용자명", example = "김재원")
     private String userNm;
 
@@ -27,4 +32,13 @@ public class ResvResponseDto {
     @Schema(description = "예약 종료시간", example = "")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
     private LocalDateTime endTime;
+
+    @Schema(description = "예약 수정 버전(수정 요청 시 전달, 반복 예약 발생분은 없음)", example = "0")
+    private Long version;
+
+    // 예약 목록 조회 쿼리 결과 생성자
+    public ResvResponseDto(Long resvNo, String userNm, String roomCd, LocalDateTime startTime, LocalDateTime endTime,
+                           Long version) {
+        this(resvNo, null, userNm, roomCd, startTime, endTime, version);
+    }
 }
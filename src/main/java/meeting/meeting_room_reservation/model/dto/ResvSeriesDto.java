@@ -0,0 +1,52 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvSeriesDto {
+
+    @NotNull
+    @Schema(description = "사용자ID", example = "e101010")
+    private String userId;
+
+    @NotNull
+    @Schema(description = "회의실 분류 코드", example = "A101")
+    private String roomCd;
+
+    @NotNull
+    @Schema(description = "반복 규칙(FREQ=DAILY|WEEKLY;INTERVAL=n;BYDAY=MO,...)", example = "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE")
+    private String rrule;
+
+    @NotNull
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "반복 시작일", example = "2025-06-02")
+    private LocalDate startDate;
+
+    @NotNull
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "반복 종료일", example = "2025-08-29")
+    private LocalDate untilDate;
+
+    @NotNull
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "예약 시작 시각", example = "10:00")
+    private LocalTime startTime;
+
+    @NotNull
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "예약 종료 시각", example = "10:30")
+    private LocalTime endTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "제외일 목록")
+    private List<LocalDate> exDates;
+}
@@ -0,0 +1,50 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ResvSeriesResponseDto {
+
+    @Schema(description = "반복 예약 번호", example = "1")
+    private Long seriesNo;
+
+    @Schema(description = "사용자명", example = "김재원")
+    private String userNm;
+
+    @Schema(description = "회의실 분류 코드", example = "A101")
+    private String roomCd;
+
+    @Schema(description = "반복 규칙", example = "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE")
+    private String rrule;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "반복 시작일", example = "2025-06-02")
+    private LocalDate startDate;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "반복 종료일", example = "2025-08-29")
+    private LocalDate untilDate;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "예약 시작 시각", example = "10:00")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "예약 종료 시각", example = "10:30")
+    private LocalTime endTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "제외일 목록")
+    private List<LocalDate> exDates;
+
+    @Schema(description = "발생 건수(제외일 제외)", example = "26")
+    private int occurrenceCnt;
+}
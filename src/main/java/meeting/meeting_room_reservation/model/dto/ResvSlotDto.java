@@ -0,0 +1,19 @@
+package meeting.meeting_room_reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ResvSlotDto {
+
+    private Long resvNo;
+
+    private String roomCd;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+}
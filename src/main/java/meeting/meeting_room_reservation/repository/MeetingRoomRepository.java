@@ -1,12 +1,39 @@
 package meeting.meeting_room_reservation.repository;
 
+import meeting.meeting_room_reservation.config.CacheConfig;
 import meeting.meeting_room_reservation.domain.MeetingRoom;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MeetingRoomRepository extends JpaRepository<MeetingRoom, Long> {
+public interface MeetingRoomRepository extends JpaRepository<MeetingRoom, String> {
+
+    @Cacheable(cacheNames = CacheConfig.MEETING_ROOM, unless = "#result == null")
     Optional<MeetingRoom> findByRoomCd(String roomCd);
-}
\ No newline at end of file
+
+    // 회의실 정보 변경 시 캐시 초기화
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.MEETING_ROOM, CacheConfig.MEETING_ROOM_LIST, CacheConfig.ROOM_CAPACITY_INDEX}, allEntries = true)
+    <S extends MeetingRoom> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.MEETING_ROOM, CacheConfig.MEETING_ROOM_LIST, CacheConfig.ROOM_CAPACITY_INDEX}, allEntries = true)
+    <S extends MeetingRoom> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.MEETING_ROOM, CacheConfig.MEETING_ROOM_LIST, CacheConfig.ROOM_CAPACITY_INDEX}, allEntries = true)
+    void deleteById(String roomCd);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.MEETING_ROOM, CacheConfig.MEETING_ROOM_LIST, CacheConfig.ROOM_CAPACITY_INDEX}, allEntries = true)
+    void delete(MeetingRoom entity);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.MEETING_ROOM, CacheConfig.MEETING_ROOM_LIST, CacheConfig.ROOM_CAPACITY_INDEX}, allEntries = true)
+    void deleteAll();
+}
@@ -0,0 +1,9 @@
+package meeting.meeting_room_reservation.repository;
+
+import meeting.meeting_room_reservation.domain.MeetingRoomRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveMeetingRoomRepository extends R2dbcRepository<MeetingRoomRow, String> {
+}
@@ -0,0 +1,44 @@
+package meeting.meeting_room_reservation.repository;
+
+import meeting.meeting_room_reservation.domain.ReservationRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * *******************************
+ * 예약 조회(R2DBC, reactive 프로필)
+ * (ReservationRepository 의 목록, 시간 중복 조회와 같은 조건)
+ * *******************************
+ */
+@Repository
+public interface ReactiveReservationRepository extends R2dbcRepository<ReservationRow, Long> {
+
+    @Query("""
+        SELECT resv_no, user_id, user_nm, room_cd, start_time, end_time, version
+          FROM reservations
+         WHERE room_cd = :roomCd
+           AND start_time BETWEEN :from AND :to
+         ORDER BY start_time, resv_no
+    """)
+    Flux<ReservationRow> findResvListByRoomCdAndStartTimeBetween(String roomCd, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+        SELECT resv_no, user_id, user_nm, room_cd, start_time, end_time, version
+          FROM reservations
+         WHERE room_cd = :roomCd
+           AND start_time < :end
+           AND end_time > :start
+    """)
+    Flux<ReservationRow> findOverlappingReservations(String roomCd, LocalDateTime start, LocalDateTime end);
+
+    Mono<Boolean> existsByRoomCdAndStartTimeBeforeAndEndTimeAfter(String roomCd, LocalDateTime end, LocalDateTime start);
+
+    default Mono<Boolean> existsByOverlapping(String roomCd, LocalDateTime start, LocalDateTime end) {
+        return existsByRoomCdAndStartTimeBeforeAndEndTimeAfter(roomCd, end, start);
+    }
+}
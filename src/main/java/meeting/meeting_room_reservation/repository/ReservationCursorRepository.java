@@ -0,0 +1,82 @@
+package meeting.meeting_room_reservation.repository;
+
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * *******************************
+ * 예약 목록 커서 조회(JDBC)
+ *
+ * 결과를 fetch-size 단위로 가져오며 한 건씩 반환하므로 조회 기간과 관계없이 메모리 사용량이 일정합니다.
+ * (MySQL 은 URL 에 useCursorFetch=true 가 있어야 서버 커서로 나누어 가져옴)
+ * 반환한 Stream 을 닫을 때까지 커넥션을 점유하므로 반드시 닫아야 합니다.
+ * *******************************
+ */
+@Repository
+public class ReservationCursorRepository {
+
+    private static final String SELECT_RESV_LIST =
+            "SELECT resv_no, user_nm, room_cd, start_time, end_time, version FROM reservations"
+            + " WHERE room_cd = ? AND start_time >= ? AND start_time < ?"
+            + " ORDER BY start_time, resv_no";
+
+    private static final String SELECT_EXPORT_LIST =
+            "SELECT resv_no, user_id, user_nm, room_cd, start_time, end_time FROM reservations"
+            + " WHERE start_time >= ? AND start_time < ?"
+            + " ORDER BY start_time, resv_no";
+
+    private static final RowMapper<ResvResponseDto> RESV_MAPPER = (rs, rowNum) -> new ResvResponseDto(
+            rs.getLong("resv_no"), rs.getString("user_nm"), rs.getString("room_cd"),
+            rs.getTimestamp("start_time").toLocalDateTime(), rs.getTimestamp("end_time").toLocalDateTime(),
+            rs.getLong("version"));
+
+    private static final RowMapper<ResvExportDto> EXPORT_MAPPER = (rs, rowNum) -> new ResvExportDto(
+            rs.getLong("resv_no"), rs.getString("user_id"), rs.getString("user_nm"), rs.getString("room_cd"),
+            rs.getTimestamp("start_time").toLocalDateTime(), rs.getTimestamp("end_time").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationCursorRepository(DataSource dataSource,
+                                       @Value("${reservation.list.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 목록 스트림(시작시간, 예약 번호 순, [from, to))
+     *
+     * @param roomCd
+     * @param from
+     * @param to
+     * @return Stream<ResvResponseDto>
+     * *******************************
+     */
+    public Stream<ResvResponseDto> streamResvList(String roomCd, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForStream(SELECT_RESV_LIST, RESV_MAPPER, roomCd, Timestamp.valueOf(from),
+                                           Timestamp.valueOf(to));
+    }
+
+    /**
+     * *******************************
+     * 전체 회의실 예약 내보내기 스트림(시작시간, 예약 번호 순, [from, to))
+     *
+     * @param from
+     * @param to
+     * @return Stream<ResvExportDto>
+     * *******************************
+     */
+    public Stream<ResvExportDto> streamExportList(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForStream(SELECT_EXPORT_LIST, EXPORT_MAPPER, Timestamp.valueOf(from),
+                                           Timestamp.valueOf(to));
+    }
+}
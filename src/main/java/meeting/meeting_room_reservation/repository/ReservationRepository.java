@@ -1,20 +1,57 @@
 package meeting.meeting_room_reservation.repository;
 
+import meeting.meeting_room_reservation.domain.MeetingRoom;
 import meeting.meeting_room_reservation.domain.Reservation;
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvResponseDto(
+               resv.resvNo, resv.userNm, resv.meetingRoom.roomCd, resv.startTime, resv.endTime, resv.version)
+          FROM Reservation resv
+         WHERE resv.meetingRoom.roomCd = :roomCd
+           AND resv.startTime BETWEEN :from AND :to
+         ORDER BY resv.startTime, resv.resvNo
+    """)
+    List<ResvResponseDto> findResvListByRoomCdAndStartTimeBetween(String roomCd, LocalDateTime from, LocalDateTime to);
+
+    // (시작시간, 예약 번호) 기준 다음 페이지(keyset), 이전 페이지 마지막 예약 이후부터 조회
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvResponseDto(
+               resv.resvNo, resv.userNm, resv.meetingRoom.roomCd, resv.startTime, resv.endTime, resv.version)
+          FROM Reservation resv
+         WHERE resv.meetingRoom.roomCd = :roomCd
+           AND resv.startTime < :to
+           AND (resv.startTime > :afterStart OR (resv.startTime = :afterStart AND resv.resvNo > :afterResvNo))
+         ORDER BY resv.startTime, resv.resvNo
+    """)
+    List<ResvResponseDto> findResvPage(String roomCd, LocalDateTime afterStart, Long afterResvNo, LocalDateTime to,
+                                       Limit limit);
 
-    List<Reservation> findAllByMeetingRoomRoomCdAndStartTimeBetween(String roomCd, LocalDateTime from, LocalDateTime to);
+    // 사용자의 (시작시간, 예약 번호) 기준 다음 페이지(keyset), (user_id, start_time) 인덱스로 조회
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvResponseDto(
+               resv.resvNo, resv.userNm, resv.meetingRoom.roomCd, resv.startTime, resv.endTime, resv.version)
+          FROM Reservation resv
+         WHERE resv.user.userId = :userId
+           AND (resv.startTime > :afterStart OR (resv.startTime = :afterStart AND resv.resvNo > :afterResvNo))
+         ORDER BY resv.startTime, resv.resvNo
+    """)
+    List<ResvResponseDto> findUserResvPage(String userId, LocalDateTime afterStart, Long afterResvNo, Limit limit);
 
     @Query("""
         SELECT resv FROM Reservation resv
@@ -32,18 +69,87 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     """)
     boolean existsByOverlapping(String roomCd, LocalDateTime start, LocalDateTime end);
 
-    @Modifying(clearAutomatically = true)
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.endTime > :from
+    """)
+    List<ResvSlotDto> findAllSlotsEndingAfter(LocalDateTime from);
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+    """)
+    List<ResvSlotDto> findAllSlots();
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvExportDto(
+               resv.resvNo, resv.user.userId, resv.userNm, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.endTime > :from
+    """)
+    List<ResvExportDto> findAllOwnersEndingAfter(LocalDateTime from);
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.meetingRoom.roomCd = :roomCd
+           AND resv.startTime < :end
+           AND resv.endTime > :start
+    """)
+    List<ResvSlotDto> findOverlappingSlots(String roomCd, LocalDateTime start, LocalDateTime end);
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.meetingRoom.roomCd IN :roomCds
+           AND resv.startTime < :end
+           AND resv.endTime > :start
+    """)
+    List<ResvSlotDto> findOverlappingSlotsInRooms(Collection<String> roomCds, LocalDateTime start, LocalDateTime end);
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.user.userId IN :userIds
+           AND resv.startTime < :end
+           AND resv.endTime > :start
+    """)
+    List<ResvSlotDto> findOverlappingSlotsOfUsers(Collection<String> userIds, LocalDateTime start, LocalDateTime end);
+
+    @Query("""
+        SELECT new meeting.meeting_room_reservation.model.dto.ResvSlotDto(
+               resv.resvNo, resv.meetingRoom.roomCd, resv.startTime, resv.endTime)
+          FROM Reservation resv
+         WHERE resv.resvNo = :resvNo
+    """)
+    Optional<ResvSlotDto> findSlotById(Long resvNo);
+
+    // 예약 변경(예약자, 변경 전 회의실/시간, 버전이 그대로일 때만 반영하고 버전 증가, 버전 미지정 시 버전 조건 제외)
+    // (영속성 컨텍스트의 예약 엔티티가 변경 전 값으로 남지 않도록 실행 후 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
         UPDATE Reservation resv
-          SET resv.meetingRoom.roomCd = :roomCd,
-              resv.startTime = :startTime,
-              resv.endTime = :endTime
-        WHERE resv.resvNo = :resvNo
-    """)
-    int updateReservationTime(
-            @Param("resvNo") Long resvNo,
-            @Param("roomCd") String roomCd,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
-    );
+           SET resv.meetingRoom = :meetingRoom,
+               resv.startTime = :start,
+               resv.endTime = :end,
+               resv.version = resv.version + 1
+         WHERE resv.resvNo = :resvNo
+           AND resv.user.userId = :userId
+           AND resv.meetingRoom.roomCd = :beforeRoomCd
+           AND resv.startTime = :beforeStart
+           AND resv.endTime = :beforeEnd
+           AND resv.version = COALESCE(:version, resv.version)
+    """)
+    int updateIfUnchanged(Long resvNo, String userId, String beforeRoomCd, LocalDateTime beforeStart,
+                          LocalDateTime beforeEnd, Long version, MeetingRoom meetingRoom, LocalDateTime start,
+                          LocalDateTime end);
+
+    @Query("SELECT resv.version FROM Reservation resv WHERE resv.resvNo = :resvNo")
+    Optional<Long> findVersionById(Long resvNo);
 }
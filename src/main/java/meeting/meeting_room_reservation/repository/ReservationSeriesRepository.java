@@ -0,0 +1,38 @@
+package meeting.meeting_room_reservation.repository;
+
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationSeriesRepository extends JpaRepository<ReservationSeries, Long> {
+
+    @Query("""
+        SELECT DISTINCT series FROM ReservationSeries series
+          LEFT JOIN FETCH series.exDates
+    """)
+    List<ReservationSeries> findAllWithExDates();
+
+    @Query("""
+        SELECT DISTINCT series FROM ReservationSeries series
+          LEFT JOIN FETCH series.exDates
+         WHERE series.meetingRoom.roomCd = :roomCd
+           AND series.startDate <= :to
+           AND series.untilDate >= :from
+    """)
+    List<ReservationSeries> findActiveInRoom(String roomCd, LocalDate from, LocalDate to);
+
+    @Query("""
+        SELECT DISTINCT series FROM ReservationSeries series
+          LEFT JOIN FETCH series.exDates
+         WHERE series.user.userId IN :userIds
+           AND series.startDate <= :to
+           AND series.untilDate >= :from
+    """)
+    List<ReservationSeries> findActiveOfUsers(Collection<String> userIds, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,23 @@
+package meeting.meeting_room_reservation.repository;
+
+import meeting.meeting_room_reservation.domain.ReservationSlot;
+import meeting.meeting_room_reservation.domain.ReservationSlotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, ReservationSlotId> {
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot slot WHERE slot.resvNo = :resvNo")
+    int deleteAllByResvNo(Long resvNo);
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot slot WHERE slot.roomCd = :roomCd AND slot.slotStart IN :slotStarts")
+    int deleteSlots(String roomCd, Collection<LocalDateTime> slotStarts);
+}
@@ -1,12 +1,39 @@
 package meeting.meeting_room_reservation.repository;
 
+import meeting.meeting_room_reservation.config.CacheConfig;
 import meeting.meeting_room_reservation.domain.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
+
+    @Cacheable(cacheNames = CacheConfig.USER, unless = "#result == null")
     Optional<User> findByUserId(String userId);
+
+    // 사용자 정보 변경 시 캐시 초기화
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER, allEntries = true)
+    <S extends User> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER, allEntries = true)
+    <S extends User> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER, allEntries = true)
+    void deleteById(String userId);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER, allEntries = true)
+    void delete(User entity);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER, allEntries = true)
+    void deleteAll();
 }
@@ -0,0 +1,102 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * *******************************
+ * 메모리 이벤트 브로커(로컬 실행, 테스트용)
+ *
+ * 전달받은 이벤트에 순번(offset)을 붙여 최근 retention 건까지 보관하고, 소비자별 처리 위치(offset)를 관리합니다.
+ * 소비자는 poll 로 처리 위치 이후 이벤트를 받아 처리한 뒤 commit 으로 위치를 기록합니다.
+ * 재전달된 이벤트도 새 offset 으로 보관되므로 소비자는 event_no 로 중복을 구분합니다.
+ * local, test 프로파일에서만 등록되며, 그 외 실행에서는 외부 브로커용 ReservationEventBroker 구현 빈을 등록해야 relay 를 사용할 수 있습니다.
+ * *******************************
+ */
+@Component
+@Profile({"local", "test"})
+public class InMemoryReservationEventBroker implements ReservationEventBroker {
+
+    private final int retention;
+    private final Deque<Record> log = new ArrayDeque<>();
+    private final Map<String, Long> offsets = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextOffset = 1;
+
+    public InMemoryReservationEventBroker(@Value("${reservation.outbox.memory-retention:10000}") int retention) {
+        this.retention = Math.max(1, retention);
+    }
+
+    @Override
+    public void send(List<ResvEventDto> events) {
+        lock.lock();
+        try {
+            for (ResvEventDto event : events) {
+                log.addLast(new Record(nextOffset++, event));
+                if (log.size() > retention) {
+                    log.removeFirst();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * *******************************
+     * 소비자 처리 위치 이후 이벤트 조회
+     *
+     * @param consumerId
+     * @param maxCnt
+     * @return List<Record>
+     * *******************************
+     */
+    public List<Record> poll(String consumerId, int maxCnt) {
+        lock.lock();
+        try {
+            long offset = offsets.getOrDefault(consumerId, 0L);
+            List<Record> records = new ArrayList<>();
+            for (Record record : log) {
+                if (records.size() >= maxCnt) {
+                    break;
+                }
+                if (record.offset() > offset) {
+                    records.add(record);
+                }
+            }
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * *******************************
+     * 소비자 처리 위치 기록
+     *
+     * @param consumerId
+     * @param offset 마지막으로 처리한 이벤트의 offset
+     * *******************************
+     */
+    public void commit(String consumerId, long offset) {
+        lock.lock();
+        try {
+            offsets.merge(consumerId, offset, Math::max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Record(long offset, ResvEventDto event) {
+    }
+}
@@ -0,0 +1,193 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.config.CacheConfig;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * *******************************
+ * 회의실 월간 예약 조회 캐시 관리
+ *
+ * (회의실 코드, 연월) 단위로 월간 조회 결과 캐시를 비웁니다.
+ * ETag 는 캐시된 조회 결과(예약 번호, 수정 버전, 시간 등)로 계산하므로 같은 내용이면 노드와 관계없이 같은 값이며,
+ * 응답 본문과 같은 목록에서 계산하므로 캐시 초기화 중의 조회에도 이전 본문과 새 ETag 가 짝지어지지 않습니다.
+ * 변경 즉시 한 번, 커밋 이후 한 번 더 반영하여 커밋 전 데이터로 다시 채워진 캐시도 비웁니다.
+ * 초기화한 캐시 키는 커밋 직전 monthly_cache_evictions 에 insert 배치 1회로 기록하며,
+ * 다른 노드는 MonthlyResvCacheSync 로 이를 조회하여 자기 노드의 캐시를 비웁니다. (JdbcTemplate 이 없으면 노드 내에서만 반영)
+ * *******************************
+ */
+@Component
+public class MonthlyResvCache {
+
+    private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String INSERT_EVICTION =
+            "INSERT INTO monthly_cache_evictions (cache_key, node_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    private final Cache cache;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 자기 노드가 기록한 초기화는 다른 노드 반영 시 제외
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public MonthlyResvCache(CacheManager cacheManager) {
+        this(cacheManager, null);
+    }
+
+    @Autowired
+    public MonthlyResvCache(CacheManager cacheManager, JdbcTemplate jdbcTemplate) {
+        this.cache = cacheManager.getCache(CacheConfig.MONTHLY_RESV_LIST);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * *******************************
+     * 캐시 키(selectMonthlyResvList 캐시 키와 같은 형식)
+     *
+     * @param roomCd
+     * @param yearMonth
+     * @return String
+     * *******************************
+     */
+    private static String key(String roomCd, YearMonth yearMonth) {
+        return roomCd + ":" + yearMonth.format(YYYYMM);
+    }
+
+    /**
+     * *******************************
+     * 회의실 월간 예약 ETag
+     * (조회 결과 내용으로 계산, 재기동이나 다른 노드에서도 같은 목록이면 같은 값)
+     *
+     * @param resvList 월간 조회 결과
+     * @return String
+     * *******************************
+     */
+    public static String eTag(List<ResvResponseDto> resvList) {
+        long hash = 1;
+        for (ResvResponseDto resv : resvList) {
+            hash = 31 * hash + Objects.hash(resv.getResvNo(), resv.getSeriesNo(), resv.getVersion(), resv.getUserNm(),
+                                            resv.getRoomCd(), resv.getStartTime(), resv.getEndTime());
+        }
+        return "\"" + resvList.size() + "-" + Long.toString(hash, 36) + "\"";
+    }
+
+    /**
+     * *******************************
+     * 예약 시작시간이 포함된 월의 캐시 초기화
+     * (월간 조회는 시작시간 기준 [월초, 다음 월초] 구간이므로 월초 00:00 시작 예약은 이전 월에도 포함)
+     *
+     * @param roomCd
+     * @param start
+     * *******************************
+     */
+    public void evict(String roomCd, LocalDateTime start) {
+        List<String> keys = new ArrayList<>();
+        YearMonth month = YearMonth.from(start);
+        keys.add(key(roomCd, month));
+        if (start.equals(month.atDay(1).atStartOfDay())) {
+            keys.add(key(roomCd, month.minusMonths(1)));
+        }
+
+        evict(keys);
+    }
+
+    /**
+     * *******************************
+     * 기간에 걸친 월의 캐시 초기화(반복 예약)
+     * (시작일이 월초일 수 있으므로 이전 월부터 초기화)
+     *
+     * @param roomCd
+     * @param from
+     * @param to
+     * *******************************
+     */
+    public void evict(String roomCd, LocalDate from, LocalDate to) {
+        List<String> keys = new ArrayList<>();
+        YearMonth last = YearMonth.from(to);
+        for (YearMonth month = YearMonth.from(from).minusMonths(1); !month.isAfter(last); month = month.plusMonths(1)) {
+            keys.add(key(roomCd, month));
+        }
+        evict(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evict(List<String> keys) {
+        invalidate(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(keys);
+            }
+        });
+
+        // 트랜잭션 안의 캐시 키는 모아 두었다가 커밋 직전 한 번에 기록
+        Set<String> txKeys = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (txKeys == null) {
+            Set<String> pending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    record(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MonthlyResvCache.this);
+                }
+            });
+            txKeys = pending;
+        }
+        txKeys.addAll(keys);
+    }
+
+    /**
+     * *******************************
+     * 다른 노드가 확인할 수 있도록 초기화한 캐시 키 기록
+     * *******************************
+     */
+    private void record(Collection<String> keys) {
+        if (jdbcTemplate == null || keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVICTION, keys.stream().map(key -> new Object[]{key, nodeId}).toList());
+    }
+
+    /**
+     * *******************************
+     * 캐시 초기화(다른 노드의 변경 반영 시 MonthlyResvCacheSync 에서 호출)
+     * *******************************
+     */
+    void invalidate(Collection<String> keys) {
+        for (String key : keys) {
+            cache.evictIfPresent(key);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package meeting.meeting_room_reservation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * *******************************
+ * 다른 노드의 월간 예약 조회 캐시 초기화 반영
+ *
+ * sync-interval-ms 마다 최근 lookback-seconds 동안 기록된 다른 노드의 캐시 초기화(monthly_cache_evictions)를 조회하여
+ * 자기 노드의 캐시를 비웁니다. (샤딩 사용 시 샤드별로 조회)
+ * 초기화된 회의실, 월의 예약, 반복 예약은 DB 에서 다시 읽어 예약 인덱스에도 반영하고(다른 노드의 삭제/변경 반영),
+ * 해당 회의실, 월 구간을 예약 변경 구독자에게 알립니다.
+ * 복제본 사용 시 캐시를 비우기 전에 회의실을 최근 변경으로 기록하여, 다시 채우는 조회가 복제 지연 한도 동안 주 DB 에서 처리되도록 합니다.
+ * 번호(evict_no) 대신 기록 시각 구간으로 조회하므로 늦게 커밋된 트랜잭션의 기록도 반영되며,
+ * 이미 반영한 기록은 번호로 구분하여 다시 반영하지 않습니다.
+ * (lookback-seconds 보다 오래 걸린 트랜잭션의 기록은 반영되지 않으며, 캐시 만료 시간 이후 다시 조회됩니다)
+ * *******************************
+ */
+@Component
+public class MonthlyResvCacheSync implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyResvCacheSync.class);
+
+    private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_EVICTIONS =
+            "SELECT evict_no, cache_key FROM monthly_cache_evictions"
+            + " WHERE created_at >= TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) AND node_id <> ?";
+    private static final String DELETE_EVICTIONS =
+            "DELETE FROM monthly_cache_evictions WHERE created_at < TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP)";
+
+    private final MonthlyResvCache monthlyResvCache;
+    private final ReservationIndex reservationIndex;
+    private final ReplicaReadRouting replicaReadRouting;
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationShards reservationShards;
+    private final int lookbackSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    // 샤드별 반영한 기록 번호(조회 구간을 벗어나면 정리)
+    private final List<Map<Long, Long>> applied = new ArrayList<>();
+
+    public MonthlyResvCacheSync(MonthlyResvCache monthlyResvCache,
+                                ReservationIndex reservationIndex,
+                                ReplicaReadRouting replicaReadRouting,
+                                ReservationChangePublisher reservationChangePublisher,
+                                JdbcTemplate jdbcTemplate,
+                                ReservationShards reservationShards,
+                                @Value("${reservation.cache.sync-interval-ms:1000}") long syncIntervalMs,
+                                @Value("${reservation.cache.sync-lookback-seconds:60}") int lookbackSeconds) {
+        this.monthlyResvCache = monthlyResvCache;
+        this.reservationIndex = reservationIndex;
+        this.replicaReadRouting = replicaReadRouting;
+        this.reservationChangePublisher = reservationChangePublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationShards = reservationShards;
+        this.lookbackSeconds = Math.max(1, lookbackSeconds);
+        for (int shard = 0; shard < reservationShards.count(); shard++) {
+            applied.add(new HashMap<>());
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monthly-cache-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::syncAll, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.HOURS);
+    }
+
+    private void syncAll() {
+        try {
+            for (int shard = 0; shard < reservationShards.count(); shard++) {
+                int no = shard;
+                reservationShards.onShard(no, () -> sync(no));
+            }
+        } catch (RuntimeException e) {
+            log.warn("월간 예약 캐시 초기화 반영 실패(다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * *******************************
+     * 다른 노드의 캐시 초기화 반영(현재 샤드)
+     *
+     * @param shard
+     * @return int 새로 반영한 캐시 키 수
+     * *******************************
+     */
+    synchronized int sync(int shard) {
+        Map<Long, Long> shardApplied = applied.get(shard);
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>();
+        jdbcTemplate.query(SELECT_EVICTIONS, rs -> {
+            if (shardApplied.putIfAbsent(rs.getLong("evict_no"), now) == null) {
+                keys.add(rs.getString("cache_key"));
+            }
+        }, -lookbackSeconds, monthlyResvCache.nodeId());
+
+        // 조회 구간을 벗어난 기록 번호 정리(반영 후 lookback-seconds 이내에 구간을 벗어나므로 2배 경과 후 정리)
+        shardApplied.values().removeIf(appliedAt -> appliedAt < now - 2_000L * lookbackSeconds);
+        if (!keys.isEmpty()) {
+            keys.forEach(key -> replicaReadRouting.markRemoteChange(key.substring(0, key.lastIndexOf(':'))));
+            monthlyResvCache.invalidate(keys);
+            applyRemoteChanges(keys);
+        }
+        return keys.size();
+    }
+
+    /**
+     * *******************************
+     * 초기화된 회의실, 월의 예약 인덱스를 DB 와 동기화(현재 샤드)하고 변경 구독자에게 알림
+     *
+     * @param keys 캐시 키(회의실 코드:연월)
+     * *******************************
+     */
+    private void applyRemoteChanges(List<String> keys) {
+        for (String key : new LinkedHashSet<>(keys)) {
+            try {
+                int separator = key.lastIndexOf(':');
+                String roomCd = key.substring(0, separator);
+                YearMonth month = YearMonth.parse(key.substring(separator + 1), YYYYMM);
+                LocalDateTime nextMonth = month.plusMonths(1).atDay(1).atStartOfDay();
+                // 인덱스 적재 범위 밖의 월은 DB 로 조회하므로 제외
+                if (reservationIndex.covers(nextMonth)) {
+                    reservationIndex.syncSlots(roomCd, month.atDay(1).atStartOfDay(), nextMonth);
+                    ReplicaReadRouting.onPrimary(() -> {
+                        reservationIndex.syncSeries(roomCd, month.atDay(1), month.atEndOfMonth());
+                        return null;
+                    });
+                }
+                reservationChangePublisher.publishRemote(roomCd, month.atDay(1), month.atEndOfMonth());
+            } catch (RuntimeException e) {
+                log.warn("예약 인덱스 동기화 실패(캐시 키: {})", key, e);
+            }
+        }
+    }
+
+    private void purge() {
+        try {
+            for (int shard = 0; shard < reservationShards.count(); shard++) {
+                reservationShards.onShard(shard, () -> jdbcTemplate.update(DELETE_EVICTIONS, -2 * lookbackSeconds));
+            }
+        } catch (RuntimeException e) {
+            log.warn("월간 예약 캐시 초기화 기록 삭제 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,251 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.domain.ReservationRow;
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.repository.ReactiveMeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReactiveReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+
+/**
+ * *******************************
+ * 회의실 예약 반응형 처리(reactive 프로필)
+ *
+ * 회의실 목록, 일간 조회는 R2DBC 로 조회하여 조회되는 대로 반환하고, 월간 조회는 ETag 를 위해 서블릿 실행과 같은 캐시를 사용합니다.
+ * 등록/수정/삭제는 예약 인덱스 또는 R2DBC 로 시간 중복을 먼저 확인하여 중복이면 블로킹 스레드를 쓰지 않고 거절하고,
+ * 저장은 슬롯 점유, 인덱스, 이벤트 기록을 한 트랜잭션으로 처리하는 ReservationService 에 boundedElastic 스레드에서 위임합니다.
+ * 반복 예약 조회(예외일 포함)도 같은 방식으로 위임합니다.
+ * 샤딩은 지원하지 않습니다. (spring.r2dbc.url 한 곳에서 조회)
+ * *******************************
+ */
+@Service
+@Profile("reactive")
+public class ReactiveReservationService {
+
+    private static final Comparator<ResvResponseDto> START_ORDER = Comparator.comparing(ResvResponseDto::getStartTime);
+
+    private final ReservationService reservationService;
+    private final ReactiveReservationRepository reactiveReservationRepository;
+    private final ReactiveMeetingRoomRepository reactiveMeetingRoomRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationIndex reservationIndex;
+
+    public ReactiveReservationService(ReservationService reservationService,
+                                      ReactiveReservationRepository reactiveReservationRepository,
+                                      ReactiveMeetingRoomRepository reactiveMeetingRoomRepository,
+                                      ReservationSeriesRepository reservationSeriesRepository,
+                                      ReservationIndex reservationIndex,
+                                      ReservationShards reservationShards) {
+        if (reservationShards.count() > 1) {
+            throw new IllegalStateException("reactive 프로필은 회의실 샤딩을 지원하지 않습니다.");
+        }
+        this.reservationService = reservationService;
+        this.reactiveReservationRepository = reactiveReservationRepository;
+        this.reactiveMeetingRoomRepository = reactiveMeetingRoomRepository;
+        this.reservationSeriesRepository = reservationSeriesRepository;
+        this.reservationIndex = reservationIndex;
+    }
+
+    /**
+     * *******************************
+     * 회의실 콤보 리스트 조회
+     *
+     * @return Flux<ResvRmResponseDto>
+     * *******************************
+     */
+    public Flux<ResvRmResponseDto> selectMeetingRoomList() {
+        return reactiveMeetingRoomRepository.findAll()
+                .map(room -> ResvRmResponseDto.builder()
+                                              .roomCd(room.getRoomCd())
+                                              .roomNm(room.getRoomNm())
+                                              .capacity(room.getCapacity())
+                                              .build());
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약건 월 단위 조회
+     * (서블릿 실행과 같은 월간 캐시를 사용하여 노드 간 같은 ETag 를 계산할 수 있도록 함, 캐시 적재는 boundedElastic 스레드에서 처리)
+     *
+     * @param roomCd
+     * @param date yyyyMM
+     * @return Mono<List<ResvResponseDto>>
+     * *******************************
+     */
+    public Mono<List<ResvResponseDto>> selectMonthlyResvList(String roomCd, String date) {
+        return blocking(() -> reservationService.selectMonthlyResvList(roomCd, date));
+    }
+
+    public String monthlyResvETag(List<ResvResponseDto> resvList) {
+        return reservationService.monthlyResvETag(resvList);
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약건 일 단위 조회
+     *
+     * @param roomCd
+     * @param date yyyyMMdd
+     * @return Flux<ResvResponseDto>
+     * *******************************
+     */
+    public Flux<ResvResponseDto> selectReservationList(String roomCd, String date) {
+        LocalDateTime startOfDay = LocalDate.parse(date, DateTimeFormatter.ofPattern("yyyyMMdd")).atStartOfDay();
+        return selectResvList(roomCd, startOfDay, startOfDay.plusDays(1));
+    }
+
+    /**
+     * *******************************
+     * 시작시간 기준 [from, to] 구간 예약과 반복 예약 발생분 병합 조회
+     * (두 목록 모두 시작시간 순이므로 정렬을 위해 모으지 않고 순서대로 병합)
+     * *******************************
+     */
+    private Flux<ResvResponseDto> selectResvList(String roomCd, LocalDateTime from, LocalDateTime to) {
+        Flux<ResvResponseDto> reservations = reactiveReservationRepository
+                .findResvListByRoomCdAndStartTimeBetween(roomCd, from, to)
+                .map(this::toResponse);
+        return Flux.mergeComparing(START_ORDER, reservations, seriesOccurrences(roomCd, from, to));
+    }
+
+    private Flux<ResvResponseDto> seriesOccurrences(String roomCd, LocalDateTime from, LocalDateTime to) {
+        return blocking(() -> reservationSeriesRepository.findActiveInRoom(roomCd, from.toLocalDate(), to.toLocalDate()))
+                .flatMapIterable(seriesList -> {
+                    List<ResvResponseDto> occurrences = new ArrayList<>();
+                    for (ReservationSeries series : seriesList) {
+                        for (LocalDate day : Recurrence.of(series).dates(from.toLocalDate(), to.toLocalDate())) {
+                            LocalDateTime start = day.atTime(series.getStartTime());
+                            if (start.isBefore(from) || start.isAfter(to)) {
+                                continue;
+                            }
+                            occurrences.add(ResvResponseDto.builder()
+                                                           .seriesNo(series.getSeriesNo())
+                                                           .userNm(series.getUserNm())
+                                                           .roomCd(roomCd)
+                                                           .startTime(start)
+                                                           .endTime(day.atTime(series.getEndTime()))
+                                                           .build());
+                        }
+                    }
+                    occurrences.sort(START_ORDER);
+                    return occurrences;
+                });
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 단건 조회(수정 충돌 시 현재 예약 정보 응답용)
+     *
+     * @param resvNo
+     * @return Mono<ResvResponseDto>
+     * *******************************
+     */
+    public Mono<ResvResponseDto> selectReservation(Long resvNo) {
+        return reactiveReservationRepository.findById(resvNo)
+                                            .map(this::toResponse)
+                                            .switchIfEmpty(Mono.error(new NoSuchElementException("예약을 찾을 수 없습니다.")));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 신규 등록
+     * (시간 중복이면 DB 저장 없이 거절)
+     *
+     * @param resvDto
+     * @return Mono<ResvResponseDto>
+     * *******************************
+     */
+    public Mono<ResvResponseDto> saveReservation(ResvDto resvDto) {
+        return overlaps(resvDto, null)
+                .flatMap(duplicate -> duplicate
+                        ? Mono.error(new IllegalStateException("이미 해당 시간에 예약이 존재합니다."))
+                        : blocking(() -> reservationService.saveReservation(resvDto)));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 수정
+     * (변경 대상 외 예약과 시간이 겹치면 DB 저장 없이 거절)
+     *
+     * @param resvNo
+     * @param resvDto
+     * @return Mono<ResvResponseDto>
+     * *******************************
+     */
+    public Mono<ResvResponseDto> modifyReservation(Long resvNo, ResvDto resvDto) {
+        return overlaps(resvDto, resvNo)
+                .flatMap(duplicate -> duplicate
+                        ? Mono.error(new IllegalStateException("이미 해당 시간에 예약이 존재합니다."))
+                        : blocking(() -> reservationService.modifyReservation(resvNo, resvDto)));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 취소(삭제)
+     *
+     * @param resvNo
+     * @return Mono<Void>
+     * *******************************
+     */
+    public Mono<Void> deleteReservation(Long resvNo) {
+        return blocking(() -> {
+            reservationService.deleteReservation(resvNo);
+            return resvNo;
+        }).then();
+    }
+
+    /**
+     * *******************************
+     * 저장 전 시간 중복 확인
+     * (인덱스 적재 범위 안이면 인덱스로 확인하고, 인덱스가 중복으로 판단했거나 적재 범위 밖이면 R2DBC 조회,
+     *  다른 서버에서 삭제/변경된 예약이 인덱스에 남아 있을 수 있으므로 인덱스의 중복 판단은 DB 로 확인, 입력값 오류는 저장 처리에서 확인)
+     *
+     * @param resvDto
+     * @param excludeResvNo 중복 체크에서 제외할 예약 번호(수정 시 본인 예약)
+     * @return Mono<Boolean>
+     * *******************************
+     */
+    private Mono<Boolean> overlaps(ResvDto resvDto, Long excludeResvNo) {
+        String roomCd = resvDto.getRoomCd();
+        LocalDateTime start = resvDto.getStartTime();
+        LocalDateTime end = resvDto.getEndTime();
+        if (roomCd == null || start == null || end == null || !ReservationService.isTimeValid(start, end)) {
+            return Mono.just(false);
+        }
+        if (reservationIndex.covers(start) && !reservationIndex.hasOverlap(roomCd, start, end, excludeResvNo)) {
+            return Mono.just(false);
+        }
+        if (reservationIndex.hasSeriesOverlap(roomCd, start, end, null)) {
+            return Mono.just(true);
+        }
+        return excludeResvNo == null
+                ? reactiveReservationRepository.existsByOverlapping(roomCd, start, end)
+                : reactiveReservationRepository.findOverlappingReservations(roomCd, start, end)
+                                               .any(resv -> !resv.getResvNo().equals(excludeResvNo));
+    }
+
+    // 블로킹 처리(JPA)는 이벤트 루프가 아닌 boundedElastic 스레드에서 실행
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ResvResponseDto toResponse(ReservationRow row) {
+        return new ResvResponseDto(row.getResvNo(), row.getUserNm(), row.getRoomCd(),
+                                   row.getStartTime(), row.getEndTime(), row.getVersion());
+    }
+}
@@ -0,0 +1,151 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * *******************************
+ * 반복 예약 규칙(RRULE 형식 일부)
+ *
+ * FREQ=DAILY|WEEKLY, INTERVAL=n, BYDAY=MO,TU,... 만 지원합니다.
+ * 주 단위 반복은 월요일 기준 주차로 INTERVAL 을 계산합니다. (WKST=MO)
+ * 발생일은 시작일 ~ 종료일 중 제외일을 뺀 날이며, 필요한 구간만 계산합니다.
+ * *******************************
+ */
+public record Recurrence(Frequency frequency, int interval, Set<DayOfWeek> byDays,
+                         LocalDate startDate, LocalDate untilDate, Set<LocalDate> exDates) {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY
+    }
+
+    /**
+     * *******************************
+     * 반복 규칙 문자열 해석
+     *
+     * @param rrule FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE
+     * @param startDate
+     * @param untilDate
+     * @param exDates
+     * @return Recurrence
+     * *******************************
+     */
+    public static Recurrence parse(String rrule, LocalDate startDate, LocalDate untilDate, Set<LocalDate> exDates) {
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDays = EnumSet.noneOf(DayOfWeek.class);
+
+        try {
+            for (String part : rrule.toUpperCase(Locale.ROOT).split(";")) {
+                String[] pair = part.split("=", 2);
+                switch (pair[0].trim()) {
+                    case "FREQ" -> frequency = Frequency.valueOf(pair[1].trim());
+                    case "INTERVAL" -> interval = Integer.parseInt(pair[1].trim());
+                    case "BYDAY" -> {
+                        for (String day : pair[1].split(",")) {
+                            byDays.add(dayOf(day.trim()));
+                        }
+                    }
+                    default -> throw new IllegalArgumentException(pair[0]);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("반복 규칙 형식이 잘못되었습니다. (FREQ=DAILY|WEEKLY;INTERVAL=n;BYDAY=MO,...)");
+        }
+
+        if (frequency == null || interval < 1 || (frequency == Frequency.DAILY && !byDays.isEmpty())) {
+            throw new IllegalArgumentException("반복 규칙 형식이 잘못되었습니다. (FREQ=DAILY|WEEKLY;INTERVAL=n;BYDAY=MO,...)");
+        }
+        // 주 단위 반복에 요일이 없으면 시작일 요일
+        if (frequency == Frequency.WEEKLY && byDays.isEmpty()) {
+            byDays.add(startDate.getDayOfWeek());
+        }
+        return new Recurrence(frequency, interval, Set.copyOf(byDays), startDate, untilDate, Set.copyOf(exDates));
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 엔티티의 반복 규칙
+     * *******************************
+     */
+    public static Recurrence of(ReservationSeries series) {
+        return parse(series.getRrule(), series.getStartDate(), series.getUntilDate(), series.getExDates());
+    }
+
+    /**
+     * *******************************
+     * 반복 규칙 문자열(정규화)
+     * *******************************
+     */
+    public String toRule() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency).append(";INTERVAL=").append(interval);
+        if (frequency == Frequency.WEEKLY) {
+            rule.append(";BYDAY=").append(byDays.stream().sorted()
+                                                .map(day -> day.name().substring(0, 2))
+                                                .collect(Collectors.joining(",")));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * *******************************
+     * 해당 일자 발생 여부
+     * *******************************
+     */
+    public boolean occursOn(LocalDate day) {
+        if (day.isBefore(startDate) || day.isAfter(untilDate) || exDates.contains(day)) {
+            return false;
+        }
+        if (frequency == Frequency.DAILY) {
+            return ChronoUnit.DAYS.between(startDate, day) % interval == 0;
+        }
+        if (!byDays.contains(day.getDayOfWeek())) {
+            return false;
+        }
+        return ChronoUnit.WEEKS.between(weekOf(startDate), weekOf(day)) % interval == 0;
+    }
+
+    /**
+     * *******************************
+     * 구간 내 발생일 목록
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @return List<LocalDate>
+     * *******************************
+     */
+    public List<LocalDate> dates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate last = to.isBefore(untilDate) ? to : untilDate;
+        for (LocalDate day = from.isAfter(startDate) ? from : startDate; !day.isAfter(last); day = day.plusDays(1)) {
+            if (occursOn(day)) {
+                dates.add(day);
+            }
+        }
+        return dates;
+    }
+
+    private static LocalDate weekOf(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static DayOfWeek dayOf(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException(code);
+    }
+}
@@ -0,0 +1,108 @@
+package meeting.meeting_room_reservation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * *******************************
+ * 읽기 복제본 조회 기준
+ *
+ * 복제본 사용 시(reservation.replica.enabled) 읽기 전용 트랜잭션은 복제본에서 조회합니다. (ReplicaDataSource)
+ * 복제본은 최대 max-lag + check-interval 만큼 늦을 수 있으므로,
+ * 그 시간 안에 이 서버에서 예약 변경이 커밋된 회의실의 조회는 주 DB 에서 처리합니다. (등록 직후 조회에 예약이 보이도록)
+ * 다른 서버의 변경도 캐시 초기화 기록을 반영한 시점(MonthlyResvCacheSync)부터 같은 시간 동안 주 DB 에서 조회하여,
+ * 초기화된 캐시가 아직 변경이 복제되지 않은 복제본 결과로 다시 채워지지 않도록 합니다.
+ * 주 DB 사용 여부는 트랜잭션 시작 전에 정해야 합니다. (커넥션이 트랜잭션의 첫 조회 시 결정됨)
+ * *******************************
+ */
+@Component
+public class ReplicaReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final boolean enabled;
+    private final long stalenessMillis;
+
+    // 회의실별 다른 서버 변경 반영 시각(epoch ms)
+    private final Map<String, Long> remoteChangedAt = new ConcurrentHashMap<>();
+
+    public ReplicaReadRouting(ReservationChangePublisher reservationChangePublisher,
+                              @Value("${reservation.replica.enabled:false}") boolean enabled,
+                              @Value("${reservation.replica.max-lag-ms:1000}") long maxLagMs,
+                              @Value("${reservation.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        this.reservationChangePublisher = reservationChangePublisher;
+        this.enabled = enabled;
+        this.stalenessMillis = maxLagMs + checkIntervalMs;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * *******************************
+     * 복제본에 아직 반영되지 않았을 수 있는 변경이 있는 회의실인지 여부
+     *
+     * @param roomCd
+     * @return boolean
+     * *******************************
+     */
+    public boolean recentlyChanged(String roomCd) {
+        long changedAt = Math.max(reservationChangePublisher.lastCommittedAt(roomCd),
+                                  remoteChangedAt.getOrDefault(roomCd, 0L));
+        return System.currentTimeMillis() - changedAt <= stalenessMillis;
+    }
+
+    /**
+     * *******************************
+     * 다른 서버에서 변경된 회의실 기록(MonthlyResvCacheSync 에서 캐시 초기화 시 호출)
+     * (변경 커밋 이후에 반영하므로 반영 시각부터 복제 지연 한도 동안 주 DB 에서 조회하면 변경이 보임)
+     *
+     * @param roomCd
+     * *******************************
+     */
+    public void markRemoteChange(String roomCd) {
+        if (enabled) {
+            long now = System.currentTimeMillis();
+            remoteChangedAt.put(roomCd, now);
+            // 복제 지연 한도가 지난 기록 정리
+            remoteChangedAt.values().removeIf(changedAt -> now - changedAt > stalenessMillis);
+        }
+    }
+
+    /**
+     * *******************************
+     * 현재 스레드의 조회를 주 DB 에서 처리해야 하는지 여부
+     * *******************************
+     */
+    public static boolean primaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+
+    /**
+     * *******************************
+     * 읽기 전용 트랜잭션도 주 DB 에서 실행(실행 후 이전 상태로 복구)
+     *
+     * @param action
+     * @return T
+     * *******************************
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * *******************************
+ * 예약 서비스 조회의 주 DB / 복제본 선택(복제본 사용 시)
+ *
+ * 트랜잭션 시작 전에 요청의 회의실 코드(roomCd 인자) 또는 예약 번호(인덱스의 회의실 코드)로
+ * 최근 변경이 커밋된 회의실이면 주 DB 에서 조회하도록 지정합니다.
+ * 변경 트랜잭션은 항상 주 DB 를 사용하므로 조회 여부와 관계없이 같은 기준을 적용합니다.
+ * *******************************
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class ReplicaRoutingAspect {
+
+    private final ReplicaReadRouting replicaReadRouting;
+    private final ReservationIndex reservationIndex;
+
+    @Around("execution(public * meeting.meeting_room_reservation.service.ReservationService.*(..))"
+            + " || execution(public * meeting.meeting_room_reservation.service.ReservationSeriesService.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 복제본 미사용, 또는 이미 시작된 트랜잭션 안의 호출은 DB 를 바꾸지 않음
+        if (!replicaReadRouting.enabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String roomCd = roomCdOf(joinPoint);
+        if (roomCd == null || !replicaReadRouting.recentlyChanged(roomCd)) {
+            return joinPoint.proceed();
+        }
+        return ReplicaReadRouting.onPrimary(() -> proceed(joinPoint));
+    }
+
+    private String roomCdOf(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            String name = names == null ? "" : names[i];
+            if (args[i] instanceof String roomCd && "roomCd".equals(name)) {
+                return roomCd;
+            }
+            if (args[i] instanceof Long resvNo && "resvNo".equals(name)) {
+                return reservationIndex.roomOf(resvNo);
+            }
+        }
+        return null;
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package meeting.meeting_room_reservation.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import meeting.meeting_room_reservation.model.dto.ResvChangeDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * *******************************
+ * 회의실 예약 변경 알림(Server-Sent Events)
+ *
+ * 회의실 코드, 기간별 구독자에게 예약 등록/수정/삭제가 커밋된 회의실과 변경 일자 구간을 전송합니다.
+ * 변경은 커밋 이후에만 반영되며, flush-interval 동안 같은 회의실의 변경은 한 건으로 병합하여 전송합니다.
+ * 다른 서버의 변경은 월간 캐시 초기화 기록(MonthlyResvCacheSync)으로 전달받아 해당 회의실, 월 구간으로 전송합니다.
+ * 구독 연결은 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 구독자가 스레드를 점유하지 않습니다.
+ * 병합, heartbeat 는 전용 스레드 1개가 구독자별 대기열(queue-size)에 넣기만 하고, 전송은 구독자별로 가상 스레드에서 처리하므로
+ * 느린 구독자가 다른 구독자의 전송을 막지 않으며, 대기열이 가득 찬(전송이 밀린) 구독자는 연결을 종료합니다.
+ * (heartbeat 주기마다 주석 이벤트로 끊긴 연결 정리)
+ * *******************************
+ */
+@Component
+public class ReservationChangePublisher implements DisposableBean {
+
+    public static final String EVENT_NAME = "reservation-change";
+    public static final String SUBSCRIBERS = "reservation.stream.subscribers";
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationChangePublisher.class);
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 회의실 코드별 구독자
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    // 전송 대기 중인 회의실별 변경 구간(커밋된 변경만)
+    private final Map<String, ResvChangeDto> pending = new ConcurrentHashMap<>();
+    // 회의실별 마지막 변경 커밋 시각(epoch ms, 복제본 조회 기준)
+    private final Map<String, Long> committedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCnt = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler;
+    // 구독자별 전송(구독자당 동시에 1개 작업)
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int maxDays;
+    private final int queueSize;
+
+    public ReservationChangePublisher(MeterRegistry meterRegistry,
+                                      @Value("${reservation.stream.flush-interval-ms:200}") long flushIntervalMs,
+                                      @Value("${reservation.stream.heartbeat-seconds:30}") long heartbeatSeconds,
+                                      @Value("${reservation.stream.timeout-minutes:60}") long timeoutMinutes,
+                                      @Value("${reservation.stream.max-days:92}") int maxDays,
+                                      @Value("${reservation.stream.queue-size:64}") int queueSize) {
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.maxDays = maxDays;
+        this.queueSize = Math.max(1, queueSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resv-change-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        Gauge.builder(SUBSCRIBERS, subscriberCnt, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 변경 구독
+     *
+     * @param roomCd
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @return SseEmitter
+     * *******************************
+     */
+    public SseEmitter subscribe(String roomCd, String fromDate, String toDate) {
+        LocalDate from = LocalDate.parse(fromDate, YYYYMMDD);
+        LocalDate to = LocalDate.parse(toDate, YYYYMMDD);
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        }
+        if (from.plusDays(maxDays).isBefore(to)) {
+            throw new IllegalArgumentException("구독 기간은 최대 " + maxDays + "일까지 가능합니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(roomCd, from, to, emitter);
+        return emitter;
+    }
+
+    void register(String roomCd, LocalDate from, LocalDate to, SseEmitter emitter) {
+        Subscription subscription = new Subscription(roomCd, from, to, emitter, queueSize);
+        subscriptions.computeIfAbsent(roomCd, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscriberCnt.incrementAndGet();
+
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+    }
+
+    private void unregister(Subscription subscription) {
+        Set<Subscription> subscribers = subscriptions.get(subscription.roomCd());
+        if (subscribers != null && subscribers.remove(subscription)) {
+            subscriberCnt.decrementAndGet();
+        }
+    }
+
+    /**
+     * *******************************
+     * 예약 변경 알림 등록(예약 구간이 걸친 일자)
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * *******************************
+     */
+    public void publish(String roomCd, LocalDateTime start, LocalDateTime end) {
+        LocalDate last = end.minusNanos(1).toLocalDate();
+        publish(roomCd, start.toLocalDate(), last.isBefore(start.toLocalDate()) ? start.toLocalDate() : last);
+    }
+
+    /**
+     * *******************************
+     * 예약 변경 알림 등록(기간)
+     * 트랜잭션 안에서는 트랜잭션별로 모아 두었다가 커밋 이후 전송 대기열에 반영하고, 롤백 시 버립니다.
+     *
+     * @param roomCd
+     * @param from
+     * @param to
+     * *******************************
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(String roomCd, LocalDate from, LocalDate to) {
+        ResvChangeDto change = ResvChangeDto.builder().roomCd(roomCd).fromDate(from).toDate(to).build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committedAt.put(roomCd, System.currentTimeMillis());
+            pending.merge(roomCd, change, ResvChangeDto::merge);
+            return;
+        }
+
+        Map<String, ResvChangeDto> changes = (Map<String, ResvChangeDto>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            Map<String, ResvChangeDto> txChanges = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, txChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    long now = System.currentTimeMillis();
+                    txChanges.forEach((key, value) -> {
+                        committedAt.put(key, now);
+                        pending.merge(key, value, ResvChangeDto::merge);
+                    });
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReservationChangePublisher.this);
+                }
+            });
+            changes = txChanges;
+        }
+        changes.merge(roomCd, change, ResvChangeDto::merge);
+    }
+
+    /**
+     * *******************************
+     * 다른 서버의 예약 변경 알림 등록(MonthlyResvCacheSync 에서 캐시 초기화 시 호출)
+     * (이미 커밋된 변경이므로 바로 전송 대기열에 반영, 이 서버의 커밋 시각은 갱신하지 않음)
+     *
+     * @param roomCd
+     * @param from
+     * @param to
+     * *******************************
+     */
+    public void publishRemote(String roomCd, LocalDate from, LocalDate to) {
+        pending.merge(roomCd, ResvChangeDto.builder().roomCd(roomCd).fromDate(from).toDate(to).build(),
+                      ResvChangeDto::merge);
+    }
+
+    /**
+     * *******************************
+     * 회의실의 마지막 예약 변경 커밋 시각(이 서버에서 커밋된 변경, 없으면 0)
+     *
+     * @param roomCd
+     * @return long epoch ms
+     * *******************************
+     */
+    public long lastCommittedAt(String roomCd) {
+        return committedAt.getOrDefault(roomCd, 0L);
+    }
+
+    /**
+     * *******************************
+     * 병합된 변경을 구독 기간이 겹치는 구독자의 대기열에 추가
+     * *******************************
+     */
+    void flush() {
+        for (String roomCd : pending.keySet()) {
+            ResvChangeDto change = pending.remove(roomCd);
+            Set<Subscription> subscribers = subscriptions.get(roomCd);
+            if (change == null || subscribers == null) {
+                continue;
+            }
+            for (Subscription subscription : subscribers) {
+                if (subscription.overlaps(change)) {
+                    enqueue(subscription, SseEmitter.event().name(EVENT_NAME).data(change, MediaType.APPLICATION_JSON));
+                }
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Set<Subscription> subscribers : subscriptions.values()) {
+            for (Subscription subscription : subscribers) {
+                enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 구독자 대기열에 추가하고 전송 작업이 없으면 시작
+     * (대기열이 가득 차면 전송이 밀린 구독자로 보고 연결 종료, 클라이언트는 재연결 후 다시 조회)
+     * *******************************
+     */
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (!subscription.queue().offer(event)) {
+            log.debug("전송이 밀린 예약 변경 구독 종료: {}", subscription.roomCd());
+            unregister(subscription);
+            subscription.queue().clear();
+            subscription.emitter().complete();
+            return;
+        }
+        if (subscription.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.queue().poll()) != null) {
+                if (!send(subscription, event)) {
+                    // 끊긴 구독자는 전송 작업을 다시 시작하지 않음
+                    subscription.queue().clear();
+                    return;
+                }
+            }
+            subscription.draining().set(false);
+        } while (!subscription.queue().isEmpty() && subscription.draining().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 정리
+            unregister(subscription);
+            subscription.emitter().completeWithError(e);
+        } catch (RuntimeException e) {
+            log.warn("예약 변경 알림 전송 실패: {}", subscription.roomCd(), e);
+            unregister(subscription);
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscription -> subscription.emitter().complete()));
+    }
+
+    record Subscription(String roomCd, LocalDate from, LocalDate to, SseEmitter emitter,
+                        BlockingQueue<SseEmitter.SseEventBuilder> queue, AtomicBoolean draining) {
+
+        Subscription(String roomCd, LocalDate from, LocalDate to, SseEmitter emitter, int queueSize) {
+            this(roomCd, from, to, emitter, new ArrayBlockingQueue<>(queueSize), new AtomicBoolean());
+        }
+
+        boolean overlaps(ResvChangeDto change) {
+            return !change.getFromDate().isAfter(to) && !change.getToDate().isBefore(from);
+        }
+    }
+}
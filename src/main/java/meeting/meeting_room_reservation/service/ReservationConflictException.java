@@ -0,0 +1,21 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.Getter;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+
+/**
+ * *******************************
+ * 예약 수정 충돌(조회 이후 다른 사용자가 먼저 수정한 경우)
+ * 현재 예약 상태를 함께 전달합니다. (409 응답 본문)
+ * *******************************
+ */
+@Getter
+public class ReservationConflictException extends IllegalStateException {
+
+    private final ResvResponseDto current;
+
+    public ReservationConflictException(ResvResponseDto current) {
+        super("다른 사용자가 먼저 예약을 변경했습니다. 현재 예약 정보를 확인 후 다시 시도해 주세요.");
+        this.current = current;
+    }
+}
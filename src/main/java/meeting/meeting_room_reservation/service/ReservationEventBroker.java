@@ -0,0 +1,19 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+
+import java.util.List;
+
+/**
+ * *******************************
+ * 예약 변경 이벤트 발행 대상(메시지 브로커)
+ *
+ * relay 가 event_no 순으로 묶어 전달하며, 예외 없이 반환되면 발행 완료로 기록합니다.
+ * 발행 완료 기록 전에 중단되면 같은 이벤트를 다시 전달하므로(at-least-once)
+ * 소비자는 event_no 로 이미 처리한 이벤트를 구분합니다.
+ * *******************************
+ */
+public interface ReservationEventBroker {
+
+    void send(List<ResvEventDto> events);
+}
@@ -0,0 +1,136 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * *******************************
+ * 예약 변경 이벤트 outbox(reservation_events)
+ *
+ * 예약 등록/수정/삭제와 같은 트랜잭션에 이벤트를 저장하여 예약 변경이 커밋된 경우에만 이벤트가 남습니다.
+ * 트랜잭션 안의 이벤트는 모아 두었다가 커밋 직전 insert 배치 1회로 저장합니다.
+ * (JdbcTemplate 은 JPA 트랜잭션의 커넥션을 함께 사용)
+ * relay 를 사용하지 않으면(reservation.outbox.enabled=false) 전달, 삭제할 곳이 없으므로 이벤트를 저장하지 않습니다.
+ * *******************************
+ */
+@Component
+public class ReservationEventOutbox {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO reservation_events (event_type, resv_no, room_cd, start_time, end_time, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public ReservationEventOutbox(JdbcTemplate jdbcTemplate,
+                                  @Value("${reservation.outbox.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * *******************************
+     * 예약 변경 이벤트 추가(relay 사용 시)
+     *
+     * @param eventType
+     * @param resvNo
+     * @param roomCd
+     * @param start
+     * @param end
+     * *******************************
+     */
+    @SuppressWarnings("unchecked")
+    public void append(ResvEventDto.Type eventType, Long resvNo, String roomCd, LocalDateTime start, LocalDateTime end) {
+        if (!enabled) {
+            return;
+        }
+        Object[] event = {eventType.name(), resvNo, roomCd, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                          Timestamp.valueOf(LocalDateTime.now())};
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_EVENT, event);
+            return;
+        }
+
+        List<Object[]> events = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            List<Object[]> txEvents = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, txEvents);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    jdbcTemplate.batchUpdate(INSERT_EVENT, txEvents);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReservationEventOutbox.this);
+                }
+            });
+            events = txEvents;
+        }
+        events.add(event);
+    }
+
+    /**
+     * *******************************
+     * 발행 전 이벤트를 event_no 순으로 조회(행 잠금)
+     * 여러 노드의 relay 가 같은 이벤트를 동시에 발행하지 않도록 발행 완료 기록까지 잠금을 유지합니다.
+     *
+     * @param limit
+     * @return List<ResvEventDto>
+     * *******************************
+     */
+    List<ResvEventDto> lockUnpublished(int limit) {
+        return jdbcTemplate.query(
+                "SELECT event_no, event_type, resv_no, room_cd, start_time, end_time, created_at FROM reservation_events"
+                + " WHERE published_at IS NULL ORDER BY event_no LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> ResvEventDto.builder()
+                                            .eventNo(rs.getLong("event_no"))
+                                            .eventType(ResvEventDto.Type.valueOf(rs.getString("event_type")))
+                                            .resvNo(rs.getLong("resv_no"))
+                                            .roomCd(rs.getString("room_cd"))
+                                            .startTime(rs.getTimestamp("start_time").toLocalDateTime())
+                                            .endTime(rs.getTimestamp("end_time").toLocalDateTime())
+                                            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                                            .build(),
+                limit);
+    }
+
+    /**
+     * *******************************
+     * 발행 완료 기록
+     *
+     * @param eventNos
+     * *******************************
+     */
+    void markPublished(List<Long> eventNos) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(eventNos.size());
+        for (Long eventNo : eventNos) {
+            args.add(new Object[]{now, eventNo});
+        }
+        jdbcTemplate.batchUpdate("UPDATE reservation_events SET published_at = ? WHERE event_no = ?", args);
+    }
+
+    /**
+     * *******************************
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     *
+     * @param before
+     * @return int
+     * *******************************
+     */
+    int purgePublished(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM reservation_events WHERE published_at < ?", Timestamp.valueOf(before));
+    }
+}
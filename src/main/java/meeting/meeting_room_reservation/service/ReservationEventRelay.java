@@ -0,0 +1,122 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * *******************************
+ * 예약 변경 이벤트 relay(outbox -> 브로커)
+ *
+ * 발행 전 이벤트를 event_no 순으로 batch-size 건씩 잠가 조회하여 브로커에 전달하고 발행 완료를 기록합니다.
+ * 전달과 완료 기록은 한 트랜잭션이며, 전달 실패 시 롤백되어 다음 주기에 같은 순서로 다시 전달합니다.
+ * (event_no 순으로만 전달하므로 회의실별 순서가 유지되고, 완료 기록 전 중단 시 재전달 - at-least-once)
+ * 발행 완료 이벤트는 retention-days 이후 삭제합니다. (샤딩 사용 시 샤드별로 전달, 삭제)
+ * reservation.outbox.enabled=true 일 때만 등록되며, ReservationEventBroker 빈이 없으면 기동에 실패합니다.
+ * (사용 안 함 상태에서는 outbox 에 이벤트를 저장하지 않으므로 사용 전 변경은 전달하지 않음)
+ * *******************************
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.enabled", havingValue = "true")
+public class ReservationEventRelay implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationEventRelay.class);
+
+    private final ReservationEventOutbox reservationEventOutbox;
+    private final ReservationEventBroker reservationEventBroker;
+    private final ReservationShards reservationShards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int retentionDays;
+    private final ScheduledExecutorService scheduler;
+
+    public ReservationEventRelay(ReservationEventOutbox reservationEventOutbox,
+                                 ReservationEventBroker reservationEventBroker,
+                                 ReservationShards reservationShards,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${reservation.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                                 @Value("${reservation.outbox.batch-size:500}") int batchSize,
+                                 @Value("${reservation.outbox.retention-days:7}") int retentionDays) {
+        this.reservationEventOutbox = reservationEventOutbox;
+        this.reservationEventBroker = reservationEventBroker;
+        this.reservationShards = reservationShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.retentionDays = retentionDays;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resv-event-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::relayAll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * *******************************
+     * 발행 전 이벤트가 남지 않을 때까지 batch 단위로 전달
+     * *******************************
+     */
+    private void relayAll() {
+        try {
+            // 밀린 이벤트는 주기를 기다리지 않고 이어서 전달
+            for (int shard = 0; shard < reservationShards.count(); shard++) {
+                int no = shard;
+                int relayed;
+                do {
+                    relayed = reservationShards.onShard(no, this::relay);
+                } while (relayed == batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 변경 이벤트 전달 실패(다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * *******************************
+     * 발행 전 이벤트 1 batch 전달(현재 샤드)
+     *
+     * @return int 전달한 이벤트 수
+     * *******************************
+     */
+    int relay() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<ResvEventDto> events = reservationEventOutbox.lockUnpublished(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            reservationEventBroker.send(events);
+            reservationEventOutbox.markPublished(events.stream().map(ResvEventDto::getEventNo).toList());
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private void purge() {
+        try {
+            for (int shard = 0; shard < reservationShards.count(); shard++) {
+                reservationShards.onShard(shard, () ->
+                        reservationEventOutbox.purgePublished(LocalDateTime.now().minusDays(retentionDays)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("발행 완료 이벤트 삭제 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,138 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvHoldResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+/**
+ * *******************************
+ * 회의실 예약 대기(임시 점유) 처리
+ *
+ * 대기 등록 시 예약 중복을 확인한 뒤 메모리 대기 목록에 점유하고, 확정 시 대기 내용으로 예약을 등록합니다.
+ * 대기 중인 시간대는 다른 사용자의 대기/예약 등록이 DB 조회 없이 거절되므로 확정 시 경합이 거의 없습니다.
+ * 예약 등록은 ReservationService 를 거치므로 샤드 지정, 슬롯 점유, 인덱스, 이벤트 기록이 그대로 적용됩니다.
+ * *******************************
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationHoldService {
+
+    private final ReservationService reservationService;
+    private final UserRepository userRepository;
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationIndex reservationIndex;
+    private final ReservationShards reservationShards;
+    private final SlotHolds slotHolds;
+
+    /**
+     * *******************************
+     * 회의실 예약 대기 등록
+     * (이미 예약된 시간, 다른 사용자가 대기 중인 시간이거나 사용자별 대기 수 초과 시 IllegalStateException)
+     *
+     * @param resvDto
+     * @return ResvHoldResponseDto
+     * *******************************
+     */
+    public ResvHoldResponseDto holdSlot(ResvDto resvDto) {
+        String roomCd = resvDto.getRoomCd();
+        LocalDateTime start = resvDto.getStartTime();
+        LocalDateTime end = resvDto.getEndTime();
+        if (roomCd == null || resvDto.getUserId() == null || start == null || end == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (!ReservationService.isTimeValid(start, end)) {
+            throw new IllegalArgumentException("시간 형식이 잘못되었습니다. (00분, 30분 단위)");
+        }
+
+        // 다른 사용자의 대기와 겹치면 DB 조회 없이 거절
+        if (slotHolds.isHeldByOther(roomCd, start, end, resvDto.getUserId())) {
+            throw new IllegalStateException(SlotHolds.HELD_MESSAGE);
+        }
+
+        // 회의실, 사용자 정보는 캐시 조회
+        meetingRoomRepository.findByRoomCd(roomCd)
+                             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+        userRepository.findByUserId(resvDto.getUserId())
+                      .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        // 다른 서버에서 등록/삭제한 반복 예약 반영(예약 등록과 같이 중복 확인 전에 회의실 샤드 주 DB 조회)
+        int shard = reservationShards.shardOf(roomCd);
+        ReplicaReadRouting.onPrimary(() -> reservationShards.onShard(shard, () -> {
+            reservationIndex.syncSeries(roomCd, start.toLocalDate(), end.toLocalDate());
+            return null;
+        }));
+
+        // 기존 예약, 반복 예약 발생분 확인 - 인덱스 적재 범위 밖일 경우 회의실 샤드 DB 조회
+        boolean overlapped = reservationIndex.hasSeriesOverlap(roomCd, start, end, null)
+                || (reservationIndex.covers(start)
+                    ? reservationIndex.confirmOverlap(roomCd, start, end, null)
+                    : reservationShards.onShard(shard, () -> reservationRepository.existsByOverlapping(roomCd, start, end)));
+        if (overlapped) {
+            throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
+        }
+
+        return toResponse(slotHolds.hold(resvDto.getUserId(), roomCd, start, end));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 대기 확정(예약 등록 후 대기 해제)
+     *
+     * @param holdNo
+     * @param userId
+     * @return ResvResponseDto
+     * *******************************
+     */
+    public ResvResponseDto confirmHold(Long holdNo, String userId) {
+        SlotHolds.Hold hold = findOwnHold(holdNo, userId);
+        ResvResponseDto saved = reservationService.saveReservation(ResvDto.builder()
+                                                                          .userId(hold.userId())
+                                                                          .roomCd(hold.roomCd())
+                                                                          .startTime(hold.start())
+                                                                          .endTime(hold.end())
+                                                                          .build());
+        slotHolds.release(holdNo);
+        return saved;
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 대기 취소
+     *
+     * @param holdNo
+     * @param userId
+     * *******************************
+     */
+    public void releaseHold(Long holdNo, String userId) {
+        findOwnHold(holdNo, userId);
+        slotHolds.release(holdNo);
+    }
+
+    private SlotHolds.Hold findOwnHold(Long holdNo, String userId) {
+        SlotHolds.Hold hold = slotHolds.find(holdNo)
+                                       .orElseThrow(() -> new NoSuchElementException("예약 대기 정보를 찾을 수 없습니다. (만료 또는 취소)"));
+        if (!hold.userId().equals(userId)) {
+            throw new IllegalStateException("대기 등록자의 id와 일치하지 않습니다.");
+        }
+        return hold;
+    }
+
+    private ResvHoldResponseDto toResponse(SlotHolds.Hold hold) {
+        return ResvHoldResponseDto.builder()
+                                  .holdNo(hold.holdNo())
+                                  .roomCd(hold.roomCd())
+                                  .startTime(hold.start())
+                                  .endTime(hold.end())
+                                  .expiresAt(hold.expiresAt())
+                                  .build();
+    }
+}
@@ -0,0 +1,557 @@
+package meeting.meeting_room_reservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import meeting.meeting_room_reservation.domain.MeetingRoom;
+import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.model.dto.ResvImportRejectDto;
+import meeting.meeting_room_reservation.model.dto.ResvImportResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationCursorRepository;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * *******************************
+ * 예약 대량 등록(CSV / NDJSON) 및 내보내기
+ *
+ * 파일을 한 줄씩 읽어 batch-size 행 단위로 검증, 중복 확인 후 JDBC insert 배치로 저장합니다.
+ * 행 검증은 단건 등록과 같은 규칙(필수값, 00분/30분 단위, 회의실/사용자 존재)이며, 회의실은 시작 시 한 번,
+ * 사용자는 캐시 조회 결과를 등록 중 메모리에 두고 사용합니다.
+ * 중복 확인은 회의실별로 예약 인덱스(적재 범위 밖은 batch 구간의 기존 예약을 한 번 조회)와 batch 안의 다른 행으로 합니다.
+ * batch 는 각각 한 트랜잭션으로 커밋하며, 다른 서버의 등록과 슬롯이 겹쳐 실패한 batch 는 행 단위로 다시 등록합니다.
+ * 실패 행은 줄 번호와 사유를 max-rejects 건까지 반환합니다. (샤딩 사용 시 batch 를 샤드별로 나누어 저장)
+ * *******************************
+ */
+@Service
+public class ReservationImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationImportService.class);
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // 내보내기 CSV 헤더(등록 시 userId, roomCd, startTime, endTime 열만 사용)
+    public static final String CSV_HEADER = "resvNo,userId,userNm,roomCd,startTime,endTime";
+
+    private static final String DUPLICATED = "이미 해당 시간에 예약이 존재합니다.";
+
+    private static final String INSERT_RESV =
+            "INSERT INTO reservations (resv_no, user_id, user_nm, room_cd, start_time, end_time, version)"
+            + " VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_SLOT = "INSERT INTO reservation_slots (room_cd, slot_start, resv_no) VALUES (?, ?, ?)";
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format of(String format) {
+            for (Format value : values()) {
+                if (value.name().equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. (csv, ndjson)");
+        }
+    }
+
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final UserRepository userRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationCursorRepository reservationCursorRepository;
+    private final ReservationIndex reservationIndex;
+    private final RoomLockStripes roomLockStripes;
+    private final MonthlyResvCache monthlyResvCache;
+    private final ResvNoSequence resvNoSequence;
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final ReservationEventOutbox reservationEventOutbox;
+    private final ReservationShards reservationShards;
+    private final UserBookingQuota userBookingQuota;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxRejects;
+
+    public ReservationImportService(MeetingRoomRepository meetingRoomRepository,
+                                    UserRepository userRepository,
+                                    ReservationRepository reservationRepository,
+                                    ReservationCursorRepository reservationCursorRepository,
+                                    ReservationIndex reservationIndex,
+                                    RoomLockStripes roomLockStripes,
+                                    MonthlyResvCache monthlyResvCache,
+                                    ResvNoSequence resvNoSequence,
+                                    ReservationChangePublisher reservationChangePublisher,
+                                    ReservationEventOutbox reservationEventOutbox,
+                                    ReservationShards reservationShards,
+                                    UserBookingQuota userBookingQuota,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${reservation.import.batch-size:1000}") int batchSize,
+                                    @Value("${reservation.import.max-rejects:1000}") int maxRejects) {
+        this.meetingRoomRepository = meetingRoomRepository;
+        this.userRepository = userRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationCursorRepository = reservationCursorRepository;
+        this.reservationIndex = reservationIndex;
+        this.roomLockStripes = roomLockStripes;
+        this.monthlyResvCache = monthlyResvCache;
+        this.resvNoSequence = resvNoSequence;
+        this.reservationChangePublisher = reservationChangePublisher;
+        this.reservationEventOutbox = reservationEventOutbox;
+        this.reservationShards = reservationShards;
+        this.userBookingQuota = userBookingQuota;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRejects = Math.max(0, maxRejects);
+    }
+
+    /**
+     * *******************************
+     * 예약 대량 등록
+     * (CSV 는 첫 줄이 헤더이며 userId, roomCd, startTime, endTime 열 필수, 시간은 yyyy-MM-dd HH:mm)
+     *
+     * @param in
+     * @param format
+     * @return ResvImportResponseDto
+     * *******************************
+     */
+    public ResvImportResponseDto importReservations(InputStream in, Format format) {
+        ImportResult result = new ImportResult();
+        Map<String, MeetingRoom> rooms = meetingRoomRepository.findAll().stream()
+                .collect(Collectors.toMap(MeetingRoom::getRoomCd, Function.identity()));
+        Map<String, Optional<User>> users = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = null;
+            List<Row> chunk = new ArrayList<>(batchSize);
+            String line;
+            long lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && columns == null) {
+                    columns = csvColumns(line);
+                    continue;
+                }
+
+                chunk.add(toRow(lineNo, line, format == Format.CSV ? parseCsv(line, columns) : parseJson(line),
+                                rooms, users));
+                if (chunk.size() == batchSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, result);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("등록 파일을 읽을 수 없습니다.", e);
+        }
+
+        logger.info("예약 대량 등록: {}건 중 {}건 등록", result.totalCnt, result.successCnt);
+        return ResvImportResponseDto.builder()
+                                    .totalCnt(result.totalCnt)
+                                    .successCnt(result.successCnt)
+                                    .failCnt(result.totalCnt - result.successCnt)
+                                    .rejects(result.rejects)
+                                    .build();
+    }
+
+    /**
+     * *******************************
+     * 전체 회의실 예약 내보내기
+     * (JDBC 커서로 한 건씩 조회, 샤딩 사용 시 샤드 순서대로 조회하며 샤드 안에서 시작시간 순)
+     * 반환한 Stream 을 닫을 때까지 커넥션을 점유합니다.
+     *
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @return Stream<ResvExportDto>
+     * *******************************
+     */
+    public Stream<ResvExportDto> exportReservations(String fromDate, String toDate) {
+        LocalDate from = LocalDate.parse(fromDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate to = LocalDate.parse(toDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 기간이 잘못되었습니다.");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        if (reservationShards.count() == 1) {
+            return reservationCursorRepository.streamExportList(start, end);
+        }
+        // 샤드별 조회는 앞 샤드를 모두 보낸 뒤 시작(동시에 한 커넥션만 점유)
+        return IntStream.range(0, reservationShards.count()).boxed()
+                        .flatMap(shard -> reservationShards.onShard(shard,
+                                () -> reservationCursorRepository.streamExportList(start, end)));
+    }
+
+    /**
+     * *******************************
+     * 내보내기 CSV 행(CSV_HEADER 열 순서)
+     *
+     * @param resv
+     * @return String
+     * *******************************
+     */
+    public static String toCsv(ResvExportDto resv) {
+        return String.join(",", String.valueOf(resv.getResvNo()), csvField(resv.getUserId()),
+                           csvField(resv.getUserNm()), csvField(resv.getRoomCd()),
+                           resv.getStartTime().format(TIME_FORMAT), resv.getEndTime().format(TIME_FORMAT));
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * *******************************
+     * CSV 헤더의 열 이름별 순번
+     * *******************************
+     */
+    private Map<String, Integer> csvColumns(String header) {
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.keySet().containsAll(List.of("userId", "roomCd", "startTime", "endTime"))) {
+            throw new IllegalArgumentException("CSV 헤더에 userId, roomCd, startTime, endTime 열이 필요합니다.");
+        }
+        return columns;
+    }
+
+    private String[] parseCsv(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        return new String[]{field(fields, columns.get("userId")), field(fields, columns.get("roomCd")),
+                            field(fields, columns.get("startTime")), field(fields, columns.get("endTime"))};
+    }
+
+    private String field(List<String> fields, int index) {
+        if (index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    // 쉼표 구분, 큰따옴표로 감싼 값 안의 쉼표와 "" 허용
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String[] parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new String[]{text(node, "userId"), text(node, "roomCd"), text(node, "startTime"), text(node, "endTime")};
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * *******************************
+     * 행 검증(단건 등록과 같은 규칙) 후 등록 대상 또는 실패 행으로 변환
+     *
+     * @param lineNo
+     * @param line
+     * @param fields userId, roomCd, startTime, endTime(형식 오류는 null)
+     * @param rooms
+     * @param users 등록 중 조회한 사용자
+     * @return Row
+     * *******************************
+     */
+    private Row toRow(long lineNo, String line, String[] fields, Map<String, MeetingRoom> rooms,
+                      Map<String, Optional<User>> users) {
+        if (fields == null) {
+            return Row.rejected(lineNo, line, "행 형식이 잘못되었습니다.");
+        }
+        for (String field : fields) {
+            if (field == null) {
+                return Row.rejected(lineNo, line, "필수 입력값이 누락되었습니다.");
+            }
+        }
+
+        LocalDateTime start;
+        LocalDateTime end;
+        try {
+            start = LocalDateTime.parse(fields[2], TIME_FORMAT);
+            end = LocalDateTime.parse(fields[3], TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            return Row.rejected(lineNo, line, "시간 형식이 잘못되었습니다. (yyyy-MM-dd HH:mm)");
+        }
+        if (!ReservationService.isTimeValid(start, end)) {
+            return Row.rejected(lineNo, line, "시간 형식이 잘못되었습니다. (00분, 30분 단위)");
+        }
+        if (!rooms.containsKey(fields[1])) {
+            return Row.rejected(lineNo, line, "존재하지 않는 회의실입니다.");
+        }
+        Optional<User> user = users.computeIfAbsent(fields[0], userRepository::findByUserId);
+        if (user.isEmpty()) {
+            return Row.rejected(lineNo, line, "존재하지 않는 사용자입니다.");
+        }
+
+        return new Row(lineNo, line, ResvDto.builder()
+                                            .userId(fields[0])
+                                            .roomCd(fields[1])
+                                            .startTime(start)
+                                            .endTime(end)
+                                            .build(),
+                       user.get().getUserNm(), null);
+    }
+
+    /**
+     * *******************************
+     * batch 등록(검증 실패 행 기록, 샤드별로 나누어 저장)
+     * *******************************
+     */
+    private void importChunk(List<Row> chunk, ImportResult result) {
+        Map<Integer, List<Row>> rowsByShard = new TreeMap<>();
+        for (Row row : chunk) {
+            result.totalCnt++;
+            if (row.error() != null) {
+                result.reject(row, row.error());
+            } else {
+                rowsByShard.computeIfAbsent(reservationShards.shardOf(row.resv().getRoomCd()), shard -> new ArrayList<>())
+                           .add(row);
+            }
+        }
+        rowsByShard.forEach((shard, rows) -> reservationShards.onShard(shard, () -> {
+            insertRows(rows, result);
+            return null;
+        }));
+    }
+
+    /**
+     * *******************************
+     * 중복 확인 후 insert 배치로 저장(한 트랜잭션)
+     * 다른 서버의 등록과 슬롯이 겹쳐 롤백되면 행 단위로 다시 저장합니다.
+     * *******************************
+     */
+    private void insertRows(List<Row> rows, ImportResult result) {
+        Map<Row, String> duplicated;
+        try {
+            List<ResvDto> resvs = rows.stream().map(Row::resv).collect(Collectors.toList());
+            duplicated = roomLockStripes.withLock(resvs, () -> transactionTemplate.execute(status -> {
+                Map<Row, String> errors = checkOverlap(rows);
+                insert(rows.stream().filter(row -> !errors.containsKey(row)).collect(Collectors.toList()));
+                return errors;
+            }));
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            if (rows.size() == 1) {
+                result.reject(rows.get(0), DUPLICATED);
+                return;
+            }
+            for (Row row : rows) {
+                insertRows(List.of(row), result);
+            }
+            return;
+        }
+
+        result.successCnt += rows.size() - duplicated.size();
+        duplicated.forEach(result::reject);
+    }
+
+    /**
+     * *******************************
+     * 예약 시간 중복 확인
+     * (예약 인덱스 또는 기존 예약 조회 결과, 반복 예약, 같은 batch 안의 앞선 행과 겹치면 실패)
+     *
+     * @param rows
+     * @return Map<Row, String> 실패 행별 사유
+     * *******************************
+     */
+    private Map<Row, String> checkOverlap(List<Row> rows) {
+        // 회의실별 등록(예정) 구간(시작시간 -> 종료시간, 서로 겹치지 않음)
+        Map<String, TreeMap<LocalDateTime, LocalDateTime>> booked = new HashMap<>();
+
+        // 대상 회의실별로 다른 서버에서 등록/삭제한 반복 예약 반영
+        rows.stream()
+            .map(Row::resv)
+            .collect(Collectors.groupingBy(ResvDto::getRoomCd))
+            .forEach((roomCd, resvs) -> reservationIndex.syncSeries(
+                    roomCd,
+                    resvs.stream().map(ResvDto::getStartTime).min(LocalDateTime::compareTo).get().toLocalDate(),
+                    resvs.stream().map(ResvDto::getEndTime).max(LocalDateTime::compareTo).get().toLocalDate()));
+
+        List<ResvDto> uncovered = rows.stream()
+                                      .map(Row::resv)
+                                      .filter(resv -> !reservationIndex.covers(resv.getStartTime()))
+                                      .collect(Collectors.toList());
+        if (!uncovered.isEmpty()) {
+            LocalDateTime from = uncovered.stream().map(ResvDto::getStartTime).min(LocalDateTime::compareTo).get();
+            LocalDateTime to = uncovered.stream().map(ResvDto::getEndTime).max(LocalDateTime::compareTo).get();
+            List<String> roomCds = uncovered.stream().map(ResvDto::getRoomCd).distinct().collect(Collectors.toList());
+            for (ResvSlotDto slot : reservationRepository.findOverlappingSlotsInRooms(roomCds, from, to)) {
+                booked.computeIfAbsent(slot.getRoomCd(), roomCd -> new TreeMap<>())
+                      .put(slot.getStartTime(), slot.getEndTime());
+            }
+        }
+
+        Map<Row, String> errors = new IdentityHashMap<>();
+        for (Row row : rows) {
+            ResvDto resv = row.resv();
+            TreeMap<LocalDateTime, LocalDateTime> roomBooked = booked.computeIfAbsent(resv.getRoomCd(),
+                                                                                     roomCd -> new TreeMap<>());
+            // 시작시간이 종료시간보다 앞선 구간 중 가장 늦게 시작하는 구간만 확인
+            Map.Entry<LocalDateTime, LocalDateTime> before = roomBooked.lowerEntry(resv.getEndTime());
+            boolean indexed = reservationIndex.covers(resv.getStartTime())
+                    ? reservationIndex.confirmOverlap(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime(), null)
+                    : reservationIndex.hasSeriesOverlap(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime(), null);
+            if (indexed || (before != null && before.getValue().isAfter(resv.getStartTime()))) {
+                errors.put(row, DUPLICATED);
+            } else {
+                roomBooked.put(resv.getStartTime(), resv.getEndTime());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * *******************************
+     * 예약, 슬롯 insert 배치 및 인덱스/캐시/변경 알림/이벤트 반영
+     * *******************************
+     */
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> resvNos = resvNoSequence.next(rows.size());
+        List<Object[]> resvArgs = new ArrayList<>(rows.size());
+        List<Object[]> slotArgs = new ArrayList<>(rows.size() * 2);
+        Map<String, LocalDate[]> roomDays = new HashMap<>();
+        for (int n = 0; n < rows.size(); n++) {
+            Row row = rows.get(n);
+            ResvDto resv = row.resv();
+            Long resvNo = resvNos.get(n);
+            resvArgs.add(new Object[]{resvNo, resv.getUserId(), row.userNm(), resv.getRoomCd(),
+                                      Timestamp.valueOf(resv.getStartTime()), Timestamp.valueOf(resv.getEndTime())});
+            for (LocalDateTime slotStart : SlotBitmap.slotStarts(resv.getStartTime(), resv.getEndTime())) {
+                slotArgs.add(new Object[]{resv.getRoomCd(), Timestamp.valueOf(slotStart), resvNo});
+            }
+
+            LocalDate[] days = roomDays.computeIfAbsent(resv.getRoomCd(),
+                    roomCd -> new LocalDate[]{resv.getStartTime().toLocalDate(), resv.getEndTime().toLocalDate()});
+            days[0] = days[0].isAfter(resv.getStartTime().toLocalDate()) ? resv.getStartTime().toLocalDate() : days[0];
+            days[1] = days[1].isBefore(resv.getEndTime().toLocalDate()) ? resv.getEndTime().toLocalDate() : days[1];
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESV, resvArgs);
+        // 슬롯 점유(다른 노드와의 중복은 DB 키 중복으로 차단)
+        jdbcTemplate.batchUpdate(INSERT_SLOT, slotArgs);
+
+        for (int n = 0; n < rows.size(); n++) {
+            ResvDto resv = rows.get(n).resv();
+            reservationIndex.add(resvNos.get(n), resv.getRoomCd(), resv.getStartTime(), resv.getEndTime());
+            // 관리자 대량 등록은 사용자별 예약 가능 건수를 확인하지 않고 건수만 반영
+            userBookingQuota.add(resvNos.get(n), resv.getUserId(), resv.getEndTime());
+            reservationEventOutbox.append(ResvEventDto.Type.CREATED, resvNos.get(n), resv.getRoomCd(),
+                                          resv.getStartTime(), resv.getEndTime());
+        }
+        // 캐시 초기화, 변경 알림은 회의실별 등록 기간 단위로 한 번
+        roomDays.forEach((roomCd, days) -> {
+            monthlyResvCache.evict(roomCd, days[0], days[1]);
+            reservationChangePublisher.publish(roomCd, days[0], days[1]);
+        });
+    }
+
+    /**
+     * 등록 대상 행(검증 실패 시 error)
+     */
+    private record Row(long line, String content, ResvDto resv, String userNm, String error) {
+
+        static Row rejected(long line, String content, String error) {
+            return new Row(line, content, null, null, error);
+        }
+    }
+
+    /**
+     * 등록 결과 집계
+     */
+    private class ImportResult {
+        private long totalCnt;
+        private long successCnt;
+        private final List<ResvImportRejectDto> rejects = new ArrayList<>();
+
+        void reject(Row row, String message) {
+            if (rejects.size() < maxRejects) {
+                rejects.add(ResvImportRejectDto.builder()
+                                               .line(row.line())
+                                               .content(row.content())
+                                               .message(message)
+                                               .build());
+            }
+        }
+    }
+}
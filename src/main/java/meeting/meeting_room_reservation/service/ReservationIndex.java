@@ -0,0 +1,558 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * *******************************
+ * 회의실별 예약 구간 인덱스(메모리)
+ *
+ * 회의실 코드별로 예약 구간을 시작시간 순으로 보관하고 일자별 슬롯 비트맵(SlotBitmap)을 함께 유지하여
+ * 예약 시간 중복 여부와 빈 시간대를 DB 조회 없이 판단합니다.
+ * 반복 예약은 발생일을 펼치지 않고 규칙(Recurrence)만 보관하여 확인하는 일자에 대해서만 계산합니다.
+ * 반복 예약은 슬롯을 점유하지 않으므로 예약 등록/수정 시 해당 회의실, 기간의 반복 예약을 DB 에서 다시 읽어 다른 서버의 변경을 반영합니다.
+ * 기동 시 DB에서 적재하고, 예약 등록/수정/삭제 시 함께 갱신합니다.
+ * 다른 서버의 단건 예약 변경은 등록/수정 시 인덱스가 중복으로 판단한 경우 해당 구간을 DB 에서 다시 읽어 확인하고(confirmOverlap),
+ * 다른 서버가 기록한 월간 캐시 초기화(MonthlyResvCacheSync)를 받으면 해당 회의실, 월을 다시 읽어 반영합니다.
+ * 트랜잭션이 롤백되면 변경 내용을 되돌리며, 트랜잭션 진행 중인 예약, 반복 예약은 DB 동기화 대상에서 제외합니다.
+ * 회의실별 synchronized 구간은 메모리 연산만 포함하고 DB I/O 를 기다리지 않습니다. (가상 스레드 고정 최소화)
+ * *******************************
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationIndex implements SmartInitializingSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationIndex.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationShards reservationShards;
+
+    private final Map<String, RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, Slot> slotsByResvNo = new ConcurrentHashMap<>();
+    private final Map<Long, Series> seriesBySeriesNo = new ConcurrentHashMap<>();
+
+    // 이 서버에서 등록/변경/삭제 중(트랜잭션 진행 중)인 예약, 반복 예약 번호(DB 동기화 대상에서 제외)
+    private final Set<Long> pendingResvs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingSeries = ConcurrentHashMap.newKeySet();
+
+    // 적재 기준일수(0 이하일 경우 전체 예약 적재)
+    @Value("${reservation.index.horizon-days:0}")
+    private int horizonDays;
+
+    // 인덱스가 보장하는 시작 시점(이전 구간은 DB로 조회)
+    private volatile LocalDateTime coveredFrom;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * *******************************
+     * DB 예약 정보 적재
+     * *******************************
+     */
+    public void load() {
+        LocalDateTime from = horizonDays > 0 ? LocalDateTime.now().minusDays(horizonDays) : LocalDateTime.MIN;
+        // 샤딩 사용 시 모든 샤드에서 병렬 조회, 복제본 사용 시 주 DB 에서 조회
+        List<ResvSlotDto> reservations = ReplicaReadRouting.onPrimary(() -> reservationShards.fanOut(
+                shard -> horizonDays > 0
+                        ? reservationRepository.findAllSlotsEndingAfter(from)
+                        : reservationRepository.findAllSlots()))
+                .stream().flatMap(List::stream).toList();
+        List<ReservationSeries> seriesList = ReplicaReadRouting.onPrimary(() -> reservationShards.fanOut(
+                shard -> reservationSeriesRepository.findAllWithExDates()))
+                .stream().flatMap(List::stream).toList();
+
+        timelines.clear();
+        slotsByResvNo.clear();
+        seriesBySeriesNo.clear();
+
+        for (ResvSlotDto resv : reservations) {
+            put(new Slot(resv.getResvNo(), resv.getRoomCd(), resv.getStartTime(), resv.getEndTime()));
+        }
+        // 반복 예약은 기간과 관계없이 전체 적재(규칙만 보관)
+        for (ReservationSeries series : seriesList) {
+            putSeries(new Series(series.getSeriesNo(), series.getMeetingRoom().getRoomCd(),
+                                 series.getStartTime(), series.getEndTime(), Recurrence.of(series)));
+        }
+        coveredFrom = from;
+
+        logger.info("예약 인덱스 적재 완료: {}건, 반복 예약 {}건", slotsByResvNo.size(), seriesBySeriesNo.size());
+    }
+
+    /**
+     * *******************************
+     * 인덱스로 중복 체크가 가능한 시간인지 확인
+     *
+     * @param start
+     * @return boolean
+     * *******************************
+     */
+    public boolean covers(LocalDateTime start) {
+        LocalDateTime from = coveredFrom;
+        return from != null && !start.isBefore(from);
+    }
+
+    /**
+     * *******************************
+     * 예약 시간 중복 여부 확인
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * @param excludeResvNo 중복 체크에서 제외할 예약 번호(수정 시 본인 예약)
+     * @return boolean
+     * *******************************
+     */
+    public boolean hasOverlap(String roomCd, LocalDateTime start, LocalDateTime end, Long excludeResvNo) {
+        RoomTimeline timeline = timelines.get(roomCd);
+        return timeline != null && timeline.hasOverlap(start, end, excludeResvNo);
+    }
+
+    /**
+     * *******************************
+     * 예약 시간 중복 여부 확인(등록/수정용)
+     * 인덱스가 중복으로 판단하면 다른 서버에서 삭제/변경된 예약일 수 있으므로 해당 구간을 DB 와 동기화한 뒤 다시 확인합니다.
+     * (중복이 아니면 DB 조회 없음, 실제 중복 등록은 DB 슬롯 키로 차단)
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * @param excludeResvNo 중복 체크에서 제외할 예약 번호(수정 시 본인 예약)
+     * @return boolean
+     * *******************************
+     */
+    public boolean confirmOverlap(String roomCd, LocalDateTime start, LocalDateTime end, Long excludeResvNo) {
+        if (!hasOverlap(roomCd, start, end, excludeResvNo)) {
+            return false;
+        }
+        syncSlots(roomCd, start, end);
+        return hasOverlap(roomCd, start, end, excludeResvNo);
+    }
+
+    /**
+     * *******************************
+     * 회의실의 구간 내 예약을 DB 와 동기화
+     * 다른 서버에서 등록/변경/삭제한 예약을 반영합니다. (회의실 샤드 주 DB 예약 테이블 조회 1회)
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * *******************************
+     */
+    public void syncSlots(String roomCd, LocalDateTime start, LocalDateTime end) {
+        List<ResvSlotDto> current = ReplicaReadRouting.onPrimary(() -> reservationShards.onShard(
+                reservationShards.shardOf(roomCd), () -> reservationRepository.findOverlappingSlots(roomCd, start, end)));
+
+        Set<Long> resvNos = new HashSet<>();
+        for (ResvSlotDto resv : current) {
+            resvNos.add(resv.getResvNo());
+            Slot loaded = new Slot(resv.getResvNo(), resv.getRoomCd(), resv.getStartTime(), resv.getEndTime());
+            if (!pendingResvs.contains(loaded.resvNo()) && !loaded.equals(slotsByResvNo.get(loaded.resvNo()))) {
+                put(loaded);
+            }
+        }
+        // 구간이 겹치지만 DB 에 없는 예약(다른 서버에서 삭제 또는 이동)은 제거
+        RoomTimeline timeline = timelines.get(roomCd);
+        if (timeline != null) {
+            for (Slot slot : timeline.overlappingSlots(start, end)) {
+                if (!resvNos.contains(slot.resvNo()) && !pendingResvs.contains(slot.resvNo())) {
+                    evict(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 반복 예약과의 시간 중복 여부 확인
+     * (인덱스 적재 범위와 관계없이 사용 가능)
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * @param excludeSeriesNo 중복 체크에서 제외할 반복 예약 번호
+     * @return boolean
+     * *******************************
+     */
+    public boolean hasSeriesOverlap(String roomCd, LocalDateTime start, LocalDateTime end, Long excludeSeriesNo) {
+        RoomTimeline timeline = timelines.get(roomCd);
+        return timeline != null && timeline.hasSeriesOverlap(start, end, excludeSeriesNo);
+    }
+
+    /**
+     * *******************************
+     * 회의실의 기간 내 반복 예약을 DB 와 동기화
+     * 반복 예약은 슬롯을 점유하지 않으므로 다른 서버에서 등록/변경/삭제한 반복 예약을 DB 에서 다시 읽어 반영합니다.
+     * 예약 등록/수정 시 회의실 락 안에서 중복 확인 전에 호출합니다. (반복 예약 테이블 조회 1회)
+     *
+     * @param roomCd
+     * @param from 시작 일자(포함)
+     * @param to 종료 일자(포함)
+     * *******************************
+     */
+    public void syncSeries(String roomCd, LocalDate from, LocalDate to) {
+        List<ReservationSeries> current = reservationSeriesRepository.findActiveInRoom(roomCd, from, to);
+
+        Set<Long> seriesNos = new HashSet<>();
+        for (ReservationSeries series : current) {
+            seriesNos.add(series.getSeriesNo());
+            Series loaded = new Series(series.getSeriesNo(), roomCd, series.getStartTime(), series.getEndTime(),
+                                       Recurrence.of(series));
+            if (!pendingSeries.contains(loaded.seriesNo()) && !loaded.equals(seriesBySeriesNo.get(loaded.seriesNo()))) {
+                putSeries(loaded);
+            }
+        }
+        // 기간이 겹치지만 DB 에 없는 반복 예약(다른 서버에서 삭제)은 제거
+        RoomTimeline timeline = timelines.get(roomCd);
+        if (timeline != null) {
+            for (Series series : timeline.seriesList()) {
+                if (!seriesNos.contains(series.seriesNo()) && !pendingSeries.contains(series.seriesNo())
+                        && !series.recurrence().startDate().isAfter(to) && !series.recurrence().untilDate().isBefore(from)) {
+                    evictSeries(series);
+                }
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 발생분만의 일자별 슬롯 비트맵 조회
+     * (인덱스 적재 범위 밖 구간을 DB로 조회할 때 합산)
+     *
+     * @param roomCd
+     * @param from 시작 일자
+     * @param days 일수
+     * @return long[] 일자별 점유 슬롯 비트맵
+     * *******************************
+     */
+    public long[] seriesOccupancy(String roomCd, LocalDate from, int days) {
+        long[] occupied = new long[days];
+        RoomTimeline timeline = timelines.get(roomCd);
+        if (timeline != null) {
+            timeline.seriesOccupancy(from, occupied);
+        }
+        return occupied;
+    }
+
+    /**
+     * *******************************
+     * 일자별 슬롯 비트맵 조회
+     *
+     * @param roomCd
+     * @param from 시작 일자
+     * @param days 일수
+     * @return long[] 일자별 점유 슬롯 비트맵
+     * *******************************
+     */
+    public long[] occupancy(String roomCd, LocalDate from, int days) {
+        long[] occupied = new long[days];
+        RoomTimeline timeline = timelines.get(roomCd);
+        if (timeline != null) {
+            timeline.occupancy(from, occupied);
+        }
+        return occupied;
+    }
+
+    /**
+     * *******************************
+     * 인덱스에 적재된 예약의 회의실, 시간(없으면 null)
+     * *******************************
+     */
+    public ResvSlotDto slotOf(Long resvNo) {
+        Slot slot = slotsByResvNo.get(resvNo);
+        return slot == null ? null : new ResvSlotDto(slot.resvNo(), slot.roomCd(), slot.start(), slot.end());
+    }
+
+    /**
+     * *******************************
+     * 인덱스에 적재된 예약, 반복 예약의 회의실 코드(없으면 null)
+     * *******************************
+     */
+    public String roomOf(Long resvNo) {
+        Slot slot = slotsByResvNo.get(resvNo);
+        return slot == null ? null : slot.roomCd();
+    }
+
+    public String seriesRoomOf(Long seriesNo) {
+        Series series = seriesBySeriesNo.get(seriesNo);
+        return series == null ? null : series.roomCd();
+    }
+
+    /**
+     * *******************************
+     * 예약 추가(롤백 시 제거)
+     * *******************************
+     */
+    public void add(Long resvNo, String roomCd, LocalDateTime start, LocalDateTime end) {
+        Slot slot = new Slot(resvNo, roomCd, start, end);
+        put(slot);
+        onCompletion(pendingResvs, resvNo, () -> evict(slot));
+    }
+
+    /**
+     * *******************************
+     * 예약 제거(롤백 시 복원)
+     * *******************************
+     */
+    public void remove(Long resvNo) {
+        Slot slot = slotsByResvNo.get(resvNo);
+        if (slot == null) {
+            return;
+        }
+        evict(slot);
+        onCompletion(pendingResvs, resvNo, () -> put(slot));
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 추가 또는 교체(롤백 시 이전 상태로 복원)
+     * *******************************
+     */
+    public void addSeries(Long seriesNo, String roomCd, LocalTime start, LocalTime end, Recurrence recurrence) {
+        Series series = new Series(seriesNo, roomCd, start, end, recurrence);
+        Series previous = putSeries(series);
+        onCompletion(pendingSeries, seriesNo, () -> {
+            evictSeries(series);
+            if (previous != null) {
+                putSeries(previous);
+            }
+        });
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 제거(롤백 시 복원)
+     * *******************************
+     */
+    public void removeSeries(Long seriesNo) {
+        Series series = seriesBySeriesNo.get(seriesNo);
+        if (series == null) {
+            return;
+        }
+        evictSeries(series);
+        onCompletion(pendingSeries, seriesNo, () -> putSeries(series));
+    }
+
+    private Series putSeries(Series series) {
+        Series previous = seriesBySeriesNo.put(series.seriesNo(), series);
+        if (previous != null) {
+            timeline(previous.roomCd()).removeSeries(previous);
+        }
+        timeline(series.roomCd()).addSeries(series);
+        return previous;
+    }
+
+    private void evictSeries(Series series) {
+        if (seriesBySeriesNo.remove(series.seriesNo(), series)) {
+            timeline(series.roomCd()).removeSeries(series);
+        }
+    }
+
+    private void put(Slot slot) {
+        Slot previous = slotsByResvNo.put(slot.resvNo(), slot);
+        if (previous != null) {
+            timeline(previous.roomCd()).remove(previous);
+        }
+        timeline(slot.roomCd()).add(slot);
+    }
+
+    private void evict(Slot slot) {
+        if (slotsByResvNo.remove(slot.resvNo(), slot)) {
+            timeline(slot.roomCd()).remove(slot);
+        }
+    }
+
+    private RoomTimeline timeline(String roomCd) {
+        return timelines.computeIfAbsent(roomCd, key -> new RoomTimeline());
+    }
+
+    // 트랜잭션이 끝날 때까지 DB 동기화 대상에서 제외하고, 롤백 시 되돌림
+    private void onCompletion(Set<Long> pending, Long no, Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pending.add(no);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    undo.run();
+                }
+                pending.remove(no);
+            }
+        });
+    }
+
+    record Slot(Long resvNo, String roomCd, LocalDateTime start, LocalDateTime end) {
+    }
+
+    record Series(Long seriesNo, String roomCd, LocalTime start, LocalTime end, Recurrence recurrence) {
+
+        boolean overlaps(LocalDate day, LocalDateTime from, LocalDateTime to) {
+            return recurrence.occursOn(day) && day.atTime(start).isBefore(to) && day.atTime(end).isAfter(from);
+        }
+
+        long mask(LocalDate day) {
+            return recurrence.occursOn(day) ? SlotBitmap.mask(day, day.atTime(start), day.atTime(end)) : 0L;
+        }
+    }
+
+    /**
+     * 회의실 한 곳의 예약 구간 목록(시작시간, 예약번호 순 정렬)과 일자별 슬롯 비트맵, 반복 예약 목록
+     */
+    static final class RoomTimeline {
+        private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::start)
+                                                                .thenComparing(Slot::resvNo);
+
+        private final NavigableSet<Slot> slots = new TreeSet<>(ORDER);
+
+        private final NavigableMap<LocalDate, Long> occupancy = new TreeMap<>();
+
+        private final Map<Long, Series> series = new HashMap<>();
+
+        // 가장 긴 예약 길이(이 길이만큼 앞에서 시작한 예약까지만 확인)
+        private Duration longest = Duration.ZERO;
+
+        synchronized boolean hasOverlap(LocalDateTime start, LocalDateTime end, Long excludeResvNo) {
+            if (hasSeriesOverlap(start, end, null)) {
+                return true;
+            }
+
+            // 제외할 예약이 없으면 슬롯 비트맵으로 판단
+            if (excludeResvNo == null) {
+                for (LocalDate day : SlotBitmap.days(start, end)) {
+                    if ((occupancy.getOrDefault(day, 0L) & SlotBitmap.mask(day, start, end)) != 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            for (Slot slot : overlapping(start, end)) {
+                if (!slot.resvNo().equals(excludeResvNo)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized boolean hasSeriesOverlap(LocalDateTime start, LocalDateTime end, Long excludeSeriesNo) {
+            if (series.isEmpty()) {
+                return false;
+            }
+            for (LocalDate day : SlotBitmap.days(start, end)) {
+                for (Series other : series.values()) {
+                    if (!other.seriesNo().equals(excludeSeriesNo) && other.overlaps(day, start, end)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        synchronized void occupancy(LocalDate from, long[] occupied) {
+            for (Map.Entry<LocalDate, Long> day : occupancy.subMap(from, true, from.plusDays(occupied.length), false)
+                                                           .entrySet()) {
+                occupied[(int) ChronoUnit.DAYS.between(from, day.getKey())] = day.getValue();
+            }
+            seriesOccupancy(from, occupied);
+        }
+
+        synchronized void seriesOccupancy(LocalDate from, long[] occupied) {
+            for (Series other : series.values()) {
+                for (int i = 0; i < occupied.length; i++) {
+                    occupied[i] |= other.mask(from.plusDays(i));
+                }
+            }
+        }
+
+        synchronized List<Slot> overlappingSlots(LocalDateTime start, LocalDateTime end) {
+            return overlapping(start, end);
+        }
+
+        synchronized List<Series> seriesList() {
+            return new ArrayList<>(series.values());
+        }
+
+        synchronized void addSeries(Series added) {
+            series.put(added.seriesNo(), added);
+        }
+
+        synchronized void removeSeries(Series removed) {
+            series.remove(removed.seriesNo(), removed);
+        }
+
+        synchronized void add(Slot slot) {
+            slots.add(slot);
+            Duration length = Duration.between(slot.start(), slot.end());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+            for (LocalDate day : SlotBitmap.days(slot.start(), slot.end())) {
+                occupancy.merge(day, SlotBitmap.mask(day, slot.start(), slot.end()), (a, b) -> a | b);
+            }
+        }
+
+        synchronized void remove(Slot slot) {
+            if (!slots.remove(slot)) {
+                return;
+            }
+            // 같은 슬롯을 점유한 다른 예약이 있을 수 있으므로 일자별로 다시 계산
+            for (LocalDate day : SlotBitmap.days(slot.start(), slot.end())) {
+                LocalDateTime dayStart = day.atStartOfDay();
+                long occupied = 0L;
+                for (Slot other : overlapping(dayStart, dayStart.plusDays(1))) {
+                    occupied |= SlotBitmap.mask(day, other.start(), other.end());
+                }
+                if (occupied == 0L) {
+                    occupancy.remove(day);
+                } else {
+                    occupancy.put(day, occupied);
+                }
+            }
+        }
+
+        private List<Slot> overlapping(LocalDateTime start, LocalDateTime end) {
+            Slot from = new Slot(Long.MIN_VALUE, null, start.minus(longest), null);
+            Slot to = new Slot(Long.MIN_VALUE, null, end, null);
+
+            List<Slot> result = new ArrayList<>();
+            for (Slot slot : slots.subSet(from, true, to, false)) {
+                if (slot.end().isAfter(start)) {
+                    result.add(slot);
+                }
+            }
+            return result;
+        }
+    }
+}
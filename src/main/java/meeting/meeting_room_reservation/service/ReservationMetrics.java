@@ -0,0 +1,144 @@
+package meeting.meeting_room_reservation.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * *******************************
+ * 예약 처리 지표(Micrometer)
+ *
+ * reservation.operation          서비스 메서드별 처리 시간(operation, roomCd, outcome 태그, 히스토그램 없음)
+ * reservation.operation.latency  서비스 메서드별 처리 시간 분포(operation, outcome 태그, 백분위 히스토그램)
+ * reservation.overlap.check      예약 시간 중복 확인 시간(source: index | db 태그)
+ * reservation.db.statements      서비스 메서드 1회 호출당 실행한 SQL 수(operation 태그)
+ * 회의실별 처리 시간에 히스토그램을 더하면 시계열 수가 (메서드 x 회의실 x 결과 x 구간 수)로 늘어나므로 분포는 회의실 없이 기록합니다.
+ *
+ * SQL 수는 Hibernate 가 준비한 문장 수를 스레드별로 세어 계산합니다. (ReservationStatementInspector)
+ * *******************************
+ */
+@Component
+public class ReservationMetrics {
+
+    public static final String OPERATION = "reservation.operation";
+    public static final String OPERATION_LATENCY = "reservation.operation.latency";
+    public static final String OVERLAP_CHECK = "reservation.overlap.check";
+    public static final String DB_STATEMENTS = "reservation.db.statements";
+
+    public static final String SUCCESS = "success";
+    public static final String CONFLICT = "conflict";
+    public static final String NOT_FOUND = "not-found";
+    public static final String VALIDATION_FAILED = "validation-failed";
+    public static final String ERROR = "error";
+
+    // 회의실 코드를 알 수 없는 요청(예약 번호로 처리 등)의 roomCd 태그 값
+    public static final String NO_ROOM = "none";
+
+    // 존재하지 않는 회의실 코드, 최대 종류 수를 넘은 회의실 코드의 roomCd 태그 값
+    public static final String OTHER_ROOM = "other";
+
+    // 스레드별 SQL 실행 수
+    private static final ThreadLocal<int[]> STATEMENT_CNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MeterRegistry meterRegistry;
+
+    public ReservationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * *******************************
+     * 예약 시간 중복 확인 시간 측정
+     *
+     * @param indexed 메모리 인덱스로 확인하면 true, DB 조회가 포함되면 false
+     * @param check
+     * @return T
+     * *******************************
+     */
+    public <T> T overlapCheck(boolean indexed, Supplier<T> check) {
+        return overlapTimer(indexed).record(check);
+    }
+
+    public void overlapCheck(boolean indexed, Runnable check) {
+        overlapTimer(indexed).record(check);
+    }
+
+    private Timer overlapTimer(boolean indexed) {
+        return Timer.builder(OVERLAP_CHECK)
+                    .tag("source", indexed ? "index" : "db")
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(meterRegistry);
+    }
+
+    /**
+     * *******************************
+     * 서비스 메서드 처리 시간, SQL 실행 수 기록
+     * *******************************
+     */
+    void recordOperation(String operation, String roomCd, String outcome, long elapsedNanos, int statements) {
+        Timer.builder(OPERATION)
+             .tag("operation", operation)
+             .tag("roomCd", roomCd)
+             .tag("outcome", outcome)
+             .register(meterRegistry)
+             .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        Timer.builder(OPERATION_LATENCY)
+             .tag("operation", operation)
+             .tag("outcome", outcome)
+             .publishPercentileHistogram()
+             .minimumExpectedValue(Duration.ofMillis(1))
+             .maximumExpectedValue(Duration.ofSeconds(10))
+             .register(meterRegistry)
+             .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(DB_STATEMENTS)
+                           .tag("operation", operation)
+                           .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100)
+                           .register(meterRegistry)
+                           .record(statements);
+    }
+
+    /**
+     * *******************************
+     * 예외 종류별 처리 결과
+     * (IllegalStateException: 예약 시간 중복 등 현재 상태와 충돌, 낙관적 잠금 실패: 수정 버전 충돌,
+     *  IllegalArgumentException, 날짜 형식 오류: 입력값 오류)
+     * *******************************
+     */
+    static String outcomeOf(Throwable e) {
+        if (e instanceof NoSuchElementException) {
+            return NOT_FOUND;
+        }
+        if (e instanceof IllegalStateException || e instanceof OptimisticLockingFailureException) {
+            return CONFLICT;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof DateTimeException) {
+            return VALIDATION_FAILED;
+        }
+        return ERROR;
+    }
+
+    /**
+     * *******************************
+     * 현재 스레드의 SQL 실행 수(누적)
+     * *******************************
+     */
+    static int statementCount() {
+        return STATEMENT_CNT.get()[0];
+    }
+
+    static void countStatement() {
+        STATEMENT_CNT.get()[0]++;
+    }
+}
@@ -0,0 +1,76 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * *******************************
+ * 예약 서비스 public 메서드 처리 시간, 결과, SQL 실행 수 기록
+ *
+ * 트랜잭션, 캐시 프록시 바깥에서 측정하므로 커밋 시간과 캐시 적중이 함께 반영됩니다.
+ * roomCd 태그는 roomCd 인자 또는 요청 DTO 의 회의실 코드이며, 없으면 none, 등록되지 않은 회의실 코드면 other 입니다.
+ * (요청값을 그대로 태그로 쓰면 임의의 회의실 코드마다 지표가 새로 생성되므로 등록된 회의실 코드만 사용)
+ * *******************************
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReservationMetricsAspect {
+
+    private final ReservationMetrics reservationMetrics;
+    private final RoomCapacityIndex roomCapacityIndex;
+
+    @Around("execution(public * meeting.meeting_room_reservation.service.ReservationService.*(..))"
+            + " || execution(public * meeting.meeting_room_reservation.service.ReservationSeriesService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        int statementsBefore = ReservationMetrics.statementCount();
+        long start = System.nanoTime();
+        String outcome = ReservationMetrics.SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = ReservationMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            // 처리 시간, SQL 수에 회의실 코드 확인(캐시 적재)이 포함되지 않도록 먼저 계산
+            long elapsed = System.nanoTime() - start;
+            int statements = ReservationMetrics.statementCount() - statementsBefore;
+            reservationMetrics.recordOperation(joinPoint.getSignature().getName(), roomTagOf(joinPoint), outcome,
+                                               elapsed, statements);
+        }
+    }
+
+    private String roomTagOf(ProceedingJoinPoint joinPoint) {
+        String roomCd = roomCdOf(joinPoint);
+        if (roomCd == null) {
+            return ReservationMetrics.NO_ROOM;
+        }
+        return roomCapacityIndex.roomCds().contains(roomCd) ? roomCd : ReservationMetrics.OTHER_ROOM;
+    }
+
+    private String roomCdOf(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof String roomCd && names != null && "roomCd".equals(names[i])) {
+                return roomCd;
+            }
+            if (args[i] instanceof ResvDto resvDto && resvDto.getRoomCd() != null) {
+                return resvDto.getRoomCd();
+            }
+            if (args[i] instanceof ResvSeriesDto seriesDto && seriesDto.getRoomCd() != null) {
+                return seriesDto.getRoomCd();
+            }
+        }
+        return null;
+    }
+}
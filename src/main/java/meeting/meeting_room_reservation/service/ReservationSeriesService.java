@@ -0,0 +1,235 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.domain.MeetingRoom;
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import meeting.meeting_room_reservation.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationSeriesService {
+
+    // 반복 예약 최대 기간(일)
+    private static final int MAX_SERIES_DAYS = 366;
+
+    private final UserRepository userRepository;
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationIndex reservationIndex;
+    private final RoomLockStripes roomLockStripes;
+    private final MonthlyResvCache monthlyResvCache;
+    private final ReservationMetrics reservationMetrics;
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final ResvNoSequence resvNoSequence;
+    private final SlotHolds slotHolds;
+
+    /**
+     * *******************************
+     * 반복 예약 등록
+     * (발생일별 예약을 저장하지 않고 규칙만 저장, 발생일마다 기존 예약 및 다른 반복 예약과 중복 확인)
+     *
+     * @param seriesDto
+     * @return ResvSeriesResponseDto
+     * *******************************
+     */
+    @Transactional
+    public ResvSeriesResponseDto saveSeries(ResvSeriesDto seriesDto) {
+
+        if (!isTimeValid(seriesDto.getStartTime(), seriesDto.getEndTime())) {
+            throw new IllegalArgumentException("시간 형식이 잘못되었습니다. (00분, 30분 단위)");
+        }
+        long days = ChronoUnit.DAYS.between(seriesDto.getStartDate(), seriesDto.getUntilDate()) + 1;
+        if (days < 1 || days > MAX_SERIES_DAYS) {
+            throw new IllegalArgumentException("반복 기간이 잘못되었습니다. (최대 " + MAX_SERIES_DAYS + "일)");
+        }
+
+        Recurrence recurrence = Recurrence.parse(seriesDto.getRrule(), seriesDto.getStartDate(), seriesDto.getUntilDate(),
+                                                 seriesDto.getExDates() == null ? Set.of() : new HashSet<>(seriesDto.getExDates()));
+        List<LocalDate> dates = recurrence.dates(seriesDto.getStartDate(), seriesDto.getUntilDate());
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("반복 예약 발생일이 없습니다.");
+        }
+
+        MeetingRoom room = meetingRoomRepository.findByRoomCd(seriesDto.getRoomCd())
+                                                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+        User user = userRepository.findByUserId(seriesDto.getUserId())
+                                  .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        // 발생일의 회의실 + 일자 락을 모두 잡고 중복 확인 후 저장
+        List<ResvDto> occurrences = dates.stream()
+                .map(day -> ResvDto.builder()
+                                   .userId(user.getUserId())
+                                   .roomCd(room.getRoomCd())
+                                   .startTime(day.atTime(seriesDto.getStartTime()))
+                                   .endTime(day.atTime(seriesDto.getEndTime()))
+                                   .build())
+                                   .collect(Collectors.toList());
+
+        // 발생일 중 다른 사용자가 대기(임시 점유) 중인 시간이 있으면 거절
+        if (occurrences.stream().anyMatch(resv -> slotHolds.isHeldByOther(resv.getRoomCd(), resv.getStartTime(),
+                                                                          resv.getEndTime(), resv.getUserId()))) {
+            throw new IllegalStateException(SlotHolds.HELD_MESSAGE);
+        }
+
+        return roomLockStripes.withLock(occurrences, () -> {
+            reservationMetrics.overlapCheck(reservationIndex.covers(occurrences.get(0).getStartTime()),
+                                            () -> checkOverlap(room.getRoomCd(), occurrences));
+
+            ReservationSeries series = reservationSeriesRepository.save(ReservationSeries.builder()
+                                                       .seriesNo(resvNoSequence.next())
+                                                       .user(userRepository.getReferenceById(user.getUserId()))
+                                                       .meetingRoom(meetingRoomRepository.getReferenceById(room.getRoomCd()))
+                                                       .userNm(user.getUserNm())
+                                                       .rrule(recurrence.toRule())
+                                                       .startDate(seriesDto.getStartDate())
+                                                       .untilDate(seriesDto.getUntilDate())
+                                                       .startTime(seriesDto.getStartTime())
+                                                       .endTime(seriesDto.getEndTime())
+                                                       .exDates(new HashSet<>(recurrence.exDates()))
+                                                       .build());
+
+            reservationIndex.addSeries(series.getSeriesNo(), room.getRoomCd(),
+                                       series.getStartTime(), series.getEndTime(), recurrence);
+            monthlyResvCache.evict(room.getRoomCd(), series.getStartDate(), series.getUntilDate());
+            reservationChangePublisher.publish(room.getRoomCd(), series.getStartDate(), series.getUntilDate());
+
+            return toResponse(series, room.getRoomCd(), recurrence);
+        });
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 발생일 제외(해당 일자만 취소)
+     *
+     * @param seriesNo
+     * @param exDate
+     * @return ResvSeriesResponseDto
+     * *******************************
+     */
+    @Transactional
+    public ResvSeriesResponseDto addExDate(Long seriesNo, LocalDate exDate) {
+        ReservationSeries series = reservationSeriesRepository.findById(seriesNo)
+                                                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 반복 예약입니다."));
+        if (!Recurrence.of(series).occursOn(exDate)) {
+            throw new IllegalArgumentException("반복 예약 발생일이 아닙니다.");
+        }
+
+        series.getExDates().add(exDate);
+        Recurrence recurrence = Recurrence.of(series);
+        String roomCd = series.getMeetingRoom().getRoomCd();
+
+        reservationIndex.addSeries(seriesNo, roomCd, series.getStartTime(), series.getEndTime(), recurrence);
+        monthlyResvCache.evict(roomCd, exDate, exDate);
+        reservationChangePublisher.publish(roomCd, exDate, exDate);
+
+        return toResponse(series, roomCd, recurrence);
+    }
+
+    /**
+     * *******************************
+     * 반복 예약 취소(삭제)
+     *
+     * @param seriesNo
+     * *******************************
+     */
+    @Transactional
+    public void deleteSeries(Long seriesNo) {
+        ReservationSeries series = reservationSeriesRepository.findById(seriesNo)
+                                                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 반복 예약입니다."));
+        String roomCd = series.getMeetingRoom().getRoomCd();
+
+        reservationSeriesRepository.delete(series);
+        reservationIndex.removeSeries(seriesNo);
+        monthlyResvCache.evict(roomCd, series.getStartDate(), series.getUntilDate());
+        reservationChangePublisher.publish(roomCd, series.getStartDate(), series.getUntilDate());
+    }
+
+    /**
+     * *******************************
+     * 발생일별 예약 시간 중복 확인
+     * (인덱스 적재 범위 밖일 경우 기간 내 예약 구간을 한 번에 조회)
+     *
+     * @param roomCd
+     * @param occurrences
+     * *******************************
+     */
+    private void checkOverlap(String roomCd, List<ResvDto> occurrences) {
+        LocalDateTime first = occurrences.get(0).getStartTime();
+        LocalDateTime last = occurrences.get(occurrences.size() - 1).getEndTime();
+
+        // 다른 서버에서 등록/삭제한 반복 예약 반영
+        reservationIndex.syncSeries(roomCd, first.toLocalDate(), last.toLocalDate());
+
+        TreeMap<LocalDateTime, LocalDateTime> booked = null;
+        if (!reservationIndex.covers(first)) {
+            booked = new TreeMap<>();
+            for (ResvSlotDto slot : reservationRepository.findOverlappingSlots(roomCd, first, last)) {
+                booked.put(slot.getStartTime(), slot.getEndTime());
+            }
+        }
+
+        for (ResvDto occurrence : occurrences) {
+            boolean isDuplicate;
+            if (booked == null) {
+                isDuplicate = reservationIndex.confirmOverlap(roomCd, occurrence.getStartTime(), occurrence.getEndTime(), null);
+            } else {
+                Map.Entry<LocalDateTime, LocalDateTime> before = booked.lowerEntry(occurrence.getEndTime());
+                isDuplicate = (before != null && before.getValue().isAfter(occurrence.getStartTime()))
+                        || reservationIndex.hasSeriesOverlap(roomCd, occurrence.getStartTime(), occurrence.getEndTime(), null);
+            }
+            if (isDuplicate) {
+                throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다. ("
+                                                + occurrence.getStartTime().toLocalDate() + ")");
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 시간 유효성 검증(같은 날, 00분, 30분 단위)
+     * *******************************
+     */
+    private boolean isTimeValid(LocalTime start, LocalTime end) {
+        return start.isBefore(end)
+                && (start.getMinute() == 0 || start.getMinute() == 30)
+                && (end.getMinute() == 0 || end.getMinute() == 30);
+    }
+
+    private ResvSeriesResponseDto toResponse(ReservationSeries series, String roomCd, Recurrence recurrence) {
+        return ResvSeriesResponseDto.builder()
+                                    .seriesNo(series.getSeriesNo())
+                                    .userNm(series.getUserNm())
+                                    .roomCd(roomCd)
+                                    .rrule(series.getRrule())
+                                    .startDate(series.getStartDate())
+                                    .untilDate(series.getUntilDate())
+                                    .startTime(series.getStartTime())
+                                    .endTime(series.getEndTime())
+                                    .exDates(recurrence.exDates().stream().sorted().collect(Collectors.toList()))
+                                    .occurrenceCnt(recurrence.dates(series.getStartDate(), series.getUntilDate()).size())
+                                    .build();
+    }
+}
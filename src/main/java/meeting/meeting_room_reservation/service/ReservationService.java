@@ -1,44 +1,108 @@
 package meeting.meeting_room_reservation.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.config.CacheConfig;
 import meeting.meeting_room_reservation.domain.MeetingRoom;
 import meeting.meeting_room_reservation.domain.Reservation;
+import meeting.meeting_room_reservation.domain.ReservationSeries;
+import meeting.meeting_room_reservation.domain.ReservationSlot;
+import meeting.meeting_room_reservation.domain.ReservationSlotId;
 import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvAvailResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchResultDto;
 import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import meeting.meeting_room_reservation.model.dto.ResvPageDto;
 import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
 import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationCursorRepository;
 import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import meeting.meeting_room_reservation.repository.ReservationSlotRepository;
 import meeting.meeting_room_reservation.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
     private static final Logger logger = LoggerFactory.getLogger(ReservationService.class);
 
+    // 예약 가능 시간대 최대 조회 일수
+    private static final int MAX_AVAILABILITY_DAYS = 92;
+
+    // 일괄 등록 최대 건수
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    // 예약 기간 조회 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    // 회의실 검색 최대 결과 수
+    private static final int MAX_SEARCH_ROOMS = 50;
+
+    // 공통 빈 시간 조회 최대 인원
+    private static final int MAX_FREE_TIME_USERS = 100;
+
     private final UserRepository userRepository;
     private final MeetingRoomRepository meetingRoomRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationIndex reservationIndex;
+    private final RoomLockStripes roomLockStripes;
+    private final MonthlyResvCache monthlyResvCache;
+    private final ResvNoSequence resvNoSequence;
+    private final ReservationMetrics reservationMetrics;
+    private final ReservationChangePublisher reservationChangePublisher;
+    private final ReservationEventOutbox reservationEventOutbox;
+    private final ReservationShards reservationShards;
+    private final ReservationCursorRepository reservationCursorRepository;
+    private final RoomCapacityIndex roomCapacityIndex;
+    private final UserBookingQuota userBookingQuota;
+    private final SlotHolds slotHolds;
 
     /**
      * *******************************
      * 회의실 콤보 리스트 조회
+     * (변경 불가 목록으로 캐시, 회의실 정보 변경 시 초기화)
      *
      * @return List<ResvRmResponseDto>
      * *******************************
      */
+    @Cacheable(CacheConfig.MEETING_ROOM_LIST)
     public List<ResvRmResponseDto> selectMeetingRoomList() {
         return meetingRoomRepository.findAll().stream()
                 .map(resvRm -> ResvRmResponseDto.builder()
@@ -46,48 +110,72 @@ public class ReservationService {
                                                 .roomNm(resvRm.getRoomNm())
                                                 .capacity(resvRm.getCapacity())
                                                 .build())
-                                                .collect(Collectors.toList());
+                                                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * *******************************
      * 회의실 예약건 월 단위 조회
+     * ((회의실 코드, 연월)별 변경 불가 목록으로 캐시, 해당 월 예약 등록/수정/삭제 시 초기화)
+     * (엔티티를 적재하지 않고 ResvResponseDto로 바로 조회, 반복 예약은 해당 월 발생분만 계산하여 포함)
      *
      * @param roomCd
      * @param date
      * @return List<ResvResponseDto>
      * *******************************
      */
+    @Cacheable(cacheNames = CacheConfig.MONTHLY_RESV_LIST, key = "#roomCd + ':' + #date")
+    @Transactional(readOnly = true)
     public List<ResvResponseDto> selectMonthlyResvList(String roomCd, String date) {
 
-        YearMonth yearMonth = YearMonth.parse(date, DateTimeFormatter.ofPattern("yyyyMM"));
+        YearMonth yearMonth = parseYearMonth(date);
 
         LocalDateTime startOfMonth = yearMonth.atDay(1).atStartOfDay();
         LocalDateTime startOfNextMonth = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
 
-        List<Reservation> reservations = reservationRepository
-                                .findAllByMeetingRoomRoomCdAndStartTimeBetween(roomCd, startOfMonth, startOfNextMonth);
+        return withSeriesOccurrences(roomCd, startOfMonth, startOfNextMonth,
+                reservationRepository.findResvListByRoomCdAndStartTimeBetween(roomCd, startOfMonth, startOfNextMonth))
+                                    .stream()
+                                    .collect(Collectors.toUnmodifiableList());
+    }
 
-        return reservations.stream().map(resv -> ResvResponseDto.builder()
-                                                                .resvNo(resv.getResvNo())
-                                                                .userNm(resv.getUserNm())
-                                                                .roomCd(resv.getMeetingRoom().getRoomCd())
-                                                                .startTime(resv.getStartTime())
-                                                                .endTime(resv.getEndTime())
-                                                                .build())
-                                                                .collect(Collectors.toList());
+    /**
+     * *******************************
+     * 회의실 예약건 월 단위 조회 ETag
+     * (조회 결과 내용으로 계산하므로 해당 월 예약이 변경되지 않았으면 노드와 관계없이 같은 값 반환)
+     *
+     * @param resvList selectMonthlyResvList 조회 결과
+     * @return String
+     * *******************************
+     */
+    public String monthlyResvETag(List<ResvResponseDto> resvList) {
+        return MonthlyResvCache.eTag(resvList);
+    }
+
+    /**
+     * *******************************
+     * 조회 연월(yyyyMM) 변환
+     *
+     * @param date
+     * @return YearMonth
+     * *******************************
+     */
+    private YearMonth parseYearMonth(String date) {
+        return YearMonth.parse(date, DateTimeFormatter.ofPattern("yyyyMM"));
     }
 
 
     /**
      * *******************************
      * 회의실 예약건 일 단위 조회
+     * (엔티티를 적재하지 않고 ResvResponseDto로 바로 조회, 반복 예약은 해당 일 발생분만 계산하여 포함)
      *
      * @param roomCd
      * @param date
      * @return List<ResvResponseDto>
      * *******************************
      */
+    @Transactional(readOnly = true)
     public List<ResvResponseDto> selectReservationList(String roomCd, String date) {
 
         LocalDate yyyyMMdd = LocalDate.parse(date, DateTimeFormatter.ofPattern("yyyyMMdd"));
@@ -95,17 +183,453 @@ public class ReservationService {
         LocalDateTime startOfDay   = yyyyMMdd.atStartOfDay();
         LocalDateTime startOfNext  = startOfDay.plusDays(1);
 
-        List<Reservation> reservations = reservationRepository.findAllByMeetingRoomRoomCdAndStartTimeBetween(
-                                                                                    roomCd, startOfDay, startOfNext);
-        return reservations.stream()
-                .map(resv -> ResvResponseDto.builder()
-                                            .resvNo(resv.getResvNo())
-                                            .userNm(resv.getUserNm())
-                                            .roomCd(resv.getMeetingRoom().getRoomCd())
-                                            .startTime(resv.getStartTime())
-                                            .endTime(resv.getEndTime())
-                                            .build())
-                                            .collect(Collectors.toList());
+        return withSeriesOccurrences(roomCd, startOfDay, startOfNext,
+                reservationRepository.findResvListByRoomCdAndStartTimeBetween(roomCd, startOfDay, startOfNext));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 기간 조회(페이지 단위)
+     * ((시작시간, 예약 번호) 기준 keyset 페이지, 반복 예약 발생분은 포함하지 않음)
+     *
+     * @param roomCd
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @param cursor 이전 페이지의 nextCursor(첫 페이지는 없음)
+     * @param size 페이지 크기
+     * @return ResvPageDto
+     * *******************************
+     */
+    @Transactional(readOnly = true)
+    public ResvPageDto selectReservationPage(String roomCd, String fromDate, String toDate, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기가 잘못되었습니다. (최대 " + MAX_PAGE_SIZE + "건)");
+        }
+        LocalDateTime[] range = listRange(fromDate, toDate);
+
+        PageKey after = PageKey.of(cursor, range[0]);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        return toPage(reservationRepository.findResvPage(roomCd, after.startTime(), after.resvNo(), range[1],
+                                                         Limit.of(size + 1)), size);
+    }
+
+    /**
+     * *******************************
+     * 사용자 예정 예약 조회(페이지 단위)
+     * (조회 시점 이후 시작하는 전체 회의실 예약을 (시작시간, 예약 번호) 기준 keyset 페이지로 조회,
+     *  샤딩 사용 시 모든 샤드에서 조회 후 병합, 반복 예약 발생분은 포함하지 않음)
+     *
+     * @param userId
+     * @param cursor 이전 페이지의 nextCursor(첫 페이지는 없음)
+     * @param size 페이지 크기
+     * @return ResvPageDto
+     * *******************************
+     */
+    public ResvPageDto selectUserReservationPage(String userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기가 잘못되었습니다. (최대 " + MAX_PAGE_SIZE + "건)");
+        }
+        PageKey after = PageKey.of(cursor, LocalDateTime.now());
+        userRepository.findByUserId(userId)
+                      .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        // 샤드별로 다음 페이지 + 1건씩 조회하여 정렬 후 병합
+        List<ResvResponseDto> rows = reservationShards.fanOut(shard -> reservationRepository.findUserResvPage(
+                        userId, after.startTime(), after.resvNo(), Limit.of(size + 1)))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ResvResponseDto::getStartTime).thenComparing(ResvResponseDto::getResvNo))
+                .limit(size + 1)
+                .collect(Collectors.toList());
+        return toPage(rows, size);
+    }
+
+    /**
+     * *******************************
+     * 조회 결과(페이지 크기 + 1건)를 페이지로 변환
+     * (size 건을 넘으면 마지막 예약의 (시작시간, 예약 번호)를 nextCursor 로 반환)
+     * *******************************
+     */
+    private ResvPageDto toPage(List<ResvResponseDto> rows, int size) {
+        if (rows.size() <= size) {
+            return ResvPageDto.builder().reservations(rows).build();
+        }
+        List<ResvResponseDto> page = rows.subList(0, size);
+        ResvResponseDto last = page.get(size - 1);
+        String nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (last.getStartTime() + "," + last.getResvNo()).getBytes(StandardCharsets.UTF_8));
+        return ResvPageDto.builder().reservations(List.copyOf(page)).nextCursor(nextCursor).build();
+    }
+
+    /**
+     * 페이지 조회 시작 위치(이전 페이지 마지막 예약의 시작시간, 예약 번호)
+     */
+    private record PageKey(LocalDateTime startTime, Long resvNo) {
+
+        static PageKey of(String cursor, LocalDateTime from) {
+            if (cursor == null || cursor.isBlank()) {
+                return new PageKey(from, 0L);
+            }
+            try {
+                String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+                return new PageKey(LocalDateTime.parse(key[0]), Long.parseLong(key[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("페이지 커서가 잘못되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 기간 조회(스트림)
+     * (JDBC 커서로 한 건씩 조회, 반복 예약 발생분은 포함하지 않음)
+     * 조회 조건은 호출 시 검증하며, 반환한 Stream 을 닫을 때까지 커넥션을 점유합니다.
+     *
+     * @param roomCd
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @return Stream<ResvResponseDto>
+     * *******************************
+     */
+    public Stream<ResvResponseDto> streamReservationList(String roomCd, String fromDate, String toDate) {
+        LocalDateTime[] range = listRange(fromDate, toDate);
+        meetingRoomRepository.findByRoomCd(roomCd)
+                             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+        return reservationCursorRepository.streamResvList(roomCd, range[0], range[1]);
+    }
+
+    /**
+     * *******************************
+     * 기간 조회 구간 변환(yyyyMMdd ~ yyyyMMdd -> [시작일 0시, 종료 다음날 0시))
+     * *******************************
+     */
+    private LocalDateTime[] listRange(String fromDate, String toDate) {
+        LocalDate from = LocalDate.parse(fromDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate to = LocalDate.parse(toDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 기간이 잘못되었습니다.");
+        }
+        return new LocalDateTime[]{from.atStartOfDay(), to.plusDays(1).atStartOfDay()};
+    }
+
+    /**
+     * *******************************
+     * 조회 구간의 반복 예약 발생분 추가
+     * (시작시간 기준 [from, to] 구간, 시작시간 순 정렬)
+     *
+     * @param roomCd
+     * @param from
+     * @param to
+     * @param reservations
+     * @return List<ResvResponseDto>
+     * *******************************
+     */
+    private List<ResvResponseDto> withSeriesOccurrences(String roomCd, LocalDateTime from, LocalDateTime to,
+                                                        List<ResvResponseDto> reservations) {
+        List<ReservationSeries> seriesList = reservationSeriesRepository.findActiveInRoom(roomCd, from.toLocalDate(),
+                                                                                          to.toLocalDate());
+        if (seriesList.isEmpty()) {
+            return reservations;
+        }
+
+        List<ResvResponseDto> merged = new ArrayList<>(reservations);
+        for (ReservationSeries series : seriesList) {
+            for (LocalDate day : Recurrence.of(series).dates(from.toLocalDate(), to.toLocalDate())) {
+                LocalDateTime start = day.atTime(series.getStartTime());
+                if (start.isBefore(from) || start.isAfter(to)) {
+                    continue;
+                }
+                merged.add(ResvResponseDto.builder()
+                                          .seriesNo(series.getSeriesNo())
+                                          .userNm(series.getUserNm())
+                                          .roomCd(roomCd)
+                                          .startTime(start)
+                                          .endTime(day.atTime(series.getEndTime()))
+                                          .build());
+            }
+        }
+        merged.sort(Comparator.comparing(ResvResponseDto::getStartTime));
+        return merged;
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 가능 시간대 조회
+     * (예약 엔티티를 조회하지 않고 일자별 슬롯 비트맵으로 계산)
+     *
+     * @param roomCd
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @return List<ResvAvailResponseDto>
+     * *******************************
+     */
+    public List<ResvAvailResponseDto> selectAvailability(String roomCd, String fromDate, String toDate) {
+
+        LocalDate from = LocalDate.parse(fromDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate to = LocalDate.parse(toDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        int days = availabilityDays(from, to);
+
+        meetingRoomRepository.findByRoomCd(roomCd)
+                             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+
+        return toAvailability(roomCd, from, roomOccupancy(roomCd, from, to, days)).collect(Collectors.toList());
+    }
+
+    /**
+     * *******************************
+     * 회의실 일자별 슬롯 비트맵
+     * (인덱스 적재 범위 밖일 경우 예약 구간만 조회하여 계산)
+     * *******************************
+     */
+    private long[] roomOccupancy(String roomCd, LocalDate from, LocalDate to, int days) {
+        return reservationIndex.covers(from.atStartOfDay())
+                ? reservationIndex.occupancy(roomCd, from, days)
+                : withSeriesOccupancy(roomCd, from, toOccupancy(reservationRepository.findOverlappingSlots(
+                        roomCd, from.atStartOfDay(), to.plusDays(1).atStartOfDay()), from, days)
+                        .getOrDefault(roomCd, new long[days]));
+    }
+
+    /**
+     * *******************************
+     * 사용자 공통 빈 시간 조회
+     * (사용자들의 예약, 반복 예약 발생분을 일자별 슬롯 비트맵 하나에 합쳐 모두 비어 있는 30분 슬롯을 계산,
+     *  회의실 지정 시 회의실 예약 가능 시간과의 교집합)
+     *
+     * @param userIds
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @param roomCd 함께 비어 있어야 하는 회의실(없을 경우 사용자만 확인)
+     * @return List<ResvAvailResponseDto> 일자별 공통 빈 시간대(occupiedSlotCnt 는 한 명 이상 예약이 있는 슬롯 수)
+     * *******************************
+     */
+    public List<ResvAvailResponseDto> selectCommonFreeTime(List<String> userIds, String fromDate, String toDate,
+                                                           String roomCd) {
+
+        LocalDate from = LocalDate.parse(fromDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate to = LocalDate.parse(toDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        int days = availabilityDays(from, to);
+
+        Set<String> users = userIds == null ? Set.of() : new HashSet<>(userIds);
+        if (users.isEmpty() || users.size() > MAX_FREE_TIME_USERS) {
+            throw new IllegalArgumentException("사용자 목록이 비어 있거나 최대 인원을 초과했습니다. (최대 " + MAX_FREE_TIME_USERS + "명)");
+        }
+        if (userRepository.findAllById(users).size() < users.size()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+
+        // 사용자 예약은 여러 회의실(샤드)에 걸쳐 있으므로 모든 샤드에서 조회
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        long[] occupied = new long[days];
+        for (List<ResvSlotDto> slots : reservationShards.fanOut(
+                shard -> reservationRepository.findOverlappingSlotsOfUsers(users, start, end))) {
+            for (ResvSlotDto slot : slots) {
+                occupy(occupied, from, slot.getStartTime(), slot.getEndTime());
+            }
+        }
+        for (List<ReservationSeries> seriesList : reservationShards.fanOut(
+                shard -> reservationSeriesRepository.findActiveOfUsers(users, from, to))) {
+            for (ReservationSeries series : seriesList) {
+                for (LocalDate day : Recurrence.of(series).dates(from, to)) {
+                    occupy(occupied, from, day.atTime(series.getStartTime()), day.atTime(series.getEndTime()));
+                }
+            }
+        }
+
+        if (roomCd != null) {
+            meetingRoomRepository.findByRoomCd(roomCd)
+                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+            long[] room = roomOccupancy(roomCd, from, to, days);
+            for (int i = 0; i < days; i++) {
+                occupied[i] |= room[i];
+            }
+        }
+        return toAvailability(roomCd, from, occupied).collect(Collectors.toList());
+    }
+
+    /**
+     * *******************************
+     * 여러 회의실 예약 가능 시간 일괄 조회
+     * (회의실 목록 1회 조회, 예약 구간은 인덱스 또는 1회의 집합 조회로 계산하여
+     *  회의실 코드, 일자 순으로 하나씩 생성)
+     *
+     * @param roomCds 회의실 코드 목록(없을 경우 전체 회의실)
+     * @param fromDate yyyyMMdd
+     * @param toDate yyyyMMdd
+     * @param minCapacity 최소 수용 인원(없을 경우 전체)
+     * @return Stream<ResvAvailResponseDto>
+     * *******************************
+     */
+    public Stream<ResvAvailResponseDto> selectBulkAvailability(List<String> roomCds, String fromDate, String toDate,
+                                                               Integer minCapacity) {
+
+        LocalDate from = LocalDate.parse(fromDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate to = LocalDate.parse(toDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        int days = availabilityDays(from, to);
+
+        Set<String> requested = roomCds == null ? Set.of() : new HashSet<>(roomCds);
+        List<MeetingRoom> candidates = meetingRoomRepository.findAll().stream()
+                .filter(room -> requested.isEmpty() || requested.contains(room.getRoomCd()))
+                .collect(Collectors.toList());
+        if (candidates.size() < requested.size()) {
+            throw new IllegalArgumentException("존재하지 않는 회의실입니다.");
+        }
+
+        List<String> rooms = candidates.stream()
+                .filter(room -> minCapacity == null || room.getCapacity() >= minCapacity)
+                .map(MeetingRoom::getRoomCd)
+                .sorted()
+                .collect(Collectors.toList());
+        if (rooms.isEmpty()) {
+            return Stream.empty();
+        }
+
+        // 인덱스 적재 범위 밖일 경우 대상 회의실 예약 구간을 한 번에 조회
+        Map<String, long[]> fetched = reservationIndex.covers(from.atStartOfDay())
+                ? null
+                : toOccupancy(findSlotsInRoomsByShard(rooms, from.atStartOfDay(), to.plusDays(1).atStartOfDay()),
+                              from, days);
+
+        return rooms.stream().flatMap(roomCd -> toAvailability(roomCd, from, fetched == null
+                ? reservationIndex.occupancy(roomCd, from, days)
+                : withSeriesOccupancy(roomCd, from, fetched.getOrDefault(roomCd, new long[days]))));
+    }
+
+    /**
+     * *******************************
+     * 예약 가능 회의실 검색
+     * (수용 인원 순 회의실 인덱스에서 참석 인원 이상인 회의실을 작은 회의실부터 확인하여 limit 개를 찾으면 중단,
+     *  인덱스 적재 범위 밖일 경우 후보 회의실 예약 구간을 한 번에 조회)
+     *
+     * @param attendees 참석 인원
+     * @param start
+     * @param end
+     * @param limit 최대 결과 수
+     * @return List<ResvRmResponseDto> 수용 인원, 회의실 코드 순
+     * *******************************
+     */
+    public List<ResvRmResponseDto> searchAvailableRooms(int attendees, LocalDateTime start, LocalDateTime end,
+                                                        int limit) {
+        if (attendees < 1) {
+            throw new IllegalArgumentException("참석 인원이 잘못되었습니다.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_ROOMS) {
+            throw new IllegalArgumentException("검색 건수가 잘못되었습니다. (최대 " + MAX_SEARCH_ROOMS + "건)");
+        }
+        if (!isTimeValid(start, end)) {
+            throw new IllegalArgumentException("시간 형식이 잘못되었습니다. (00분, 30분 단위)");
+        }
+
+        Collection<List<ResvRmResponseDto>> fitting = roomCapacityIndex.byCapacity().tailMap(attendees, true).values();
+        if (reservationIndex.covers(start)) {
+            return fitting.stream()
+                          .flatMap(List::stream)
+                          .filter(room -> !reservationIndex.hasOverlap(room.getRoomCd(), start, end, null))
+                          .limit(limit)
+                          .collect(Collectors.toList());
+        }
+
+        List<String> candidates = fitting.stream().flatMap(List::stream).map(ResvRmResponseDto::getRoomCd)
+                                         .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Set<String> occupied = findSlotsInRoomsByShard(candidates, start, end).stream()
+                                                                              .map(ResvSlotDto::getRoomCd)
+                                                                              .collect(Collectors.toSet());
+        return fitting.stream()
+                      .flatMap(List::stream)
+                      .filter(room -> !occupied.contains(room.getRoomCd())
+                              && !reservationIndex.hasSeriesOverlap(room.getRoomCd(), start, end, null))
+                      .limit(limit)
+                      .collect(Collectors.toList());
+    }
+
+    /**
+     * *******************************
+     * 여러 회의실 예약 구간 조회
+     * (샤딩 사용 시 회의실을 샤드별로 나누어 병렬 조회 후 병합)
+     * *******************************
+     */
+    private List<ResvSlotDto> findSlotsInRoomsByShard(List<String> rooms, LocalDateTime from, LocalDateTime to) {
+        if (reservationShards.count() == 1) {
+            return reservationRepository.findOverlappingSlotsInRooms(rooms, from, to);
+        }
+        Map<Integer, List<String>> roomsByShard = rooms.stream().collect(Collectors.groupingBy(reservationShards::shardOf));
+        return reservationShards.fanOut(shard -> roomsByShard.containsKey(shard)
+                        ? reservationRepository.findOverlappingSlotsInRooms(roomsByShard.get(shard), from, to)
+                        : List.<ResvSlotDto>of())
+                .stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * *******************************
+     * 예약 가능 시간 조회 일수 검증
+     * *******************************
+     */
+    private int availabilityDays(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("조회 기간이 잘못되었습니다. (최대 " + MAX_AVAILABILITY_DAYS + "일)");
+        }
+        return (int) days;
+    }
+
+    /**
+     * *******************************
+     * 예약 구간 목록으로 회의실별, 일자별 슬롯 비트맵 계산
+     * *******************************
+     */
+    private Map<String, long[]> toOccupancy(List<ResvSlotDto> slots, LocalDate from, int days) {
+        Map<String, long[]> occupancy = new HashMap<>();
+        for (ResvSlotDto slot : slots) {
+            occupy(occupancy.computeIfAbsent(slot.getRoomCd(), roomCd -> new long[days]), from,
+                   slot.getStartTime(), slot.getEndTime());
+        }
+        return occupancy;
+    }
+
+    /**
+     * *******************************
+     * 예약 구간을 일자별 슬롯 비트맵(from 부터 occupied.length 일)에 표시
+     * *******************************
+     */
+    private static void occupy(long[] occupied, LocalDate from, LocalDateTime start, LocalDateTime end) {
+        for (LocalDate day : SlotBitmap.days(start, end)) {
+            long offset = ChronoUnit.DAYS.between(from, day);
+            if (offset >= 0 && offset < occupied.length) {
+                occupied[(int) offset] |= SlotBitmap.mask(day, start, end);
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * DB로 계산한 일자별 슬롯 비트맵에 반복 예약 발생분 합산
+     * *******************************
+     */
+    private long[] withSeriesOccupancy(String roomCd, LocalDate from, long[] occupied) {
+        long[] series = reservationIndex.seriesOccupancy(roomCd, from, occupied.length);
+        for (int i = 0; i < occupied.length; i++) {
+            occupied[i] |= series[i];
+        }
+        return occupied;
+    }
+
+    /**
+     * *******************************
+     * 일자별 슬롯 비트맵을 예약 가능 시간 응답으로 변환
+     * *******************************
+     */
+    private Stream<ResvAvailResponseDto> toAvailability(String roomCd, LocalDate from, long[] occupied) {
+        return IntStream.range(0, occupied.length)
+                        .mapToObj(i -> ResvAvailResponseDto.builder()
+                                                           .roomCd(roomCd)
+                                                           .date(from.plusDays(i))
+                                                           .occupiedSlotCnt(SlotBitmap.occupiedCount(occupied[i]))
+                                                           .freeSlots(SlotBitmap.freeRanges(from.plusDays(i), occupied[i]))
+                                                           .build());
     }
 
     /**
@@ -124,44 +648,88 @@ public class ReservationService {
             throw new IllegalArgumentException("시간 형식이 잘못되었습니다. (00분, 30분 단위)");
         }
 
+        // 다른 사용자가 대기(임시 점유) 중인 시간이면 DB 조회 없이 거절
+        checkNotHeld(resvDto);
+
         // 회의실 정보 조회
         MeetingRoom room = meetingRoomRepository.findByRoomCd(resvDto.getRoomCd())
                                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
-        // 예약 현황 조회(예약 시간 중복 방지)
-        boolean isDuplicate = reservationRepository.existsByOverlapping(
-                room.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime()
-        );
-        if (isDuplicate) {
-            throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
+        // 같은 회의실, 같은 일자의 예약 등록은 순차 처리
+        return roomLockStripes.withLock(room.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(),
+                                        () -> insertReservation(room, resvDto));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 일괄 등록
+     * (배치 내 예약끼리, 기존 예약과의 중복을 한 번에 확인한 뒤 insert 배치로 저장)
+     * ATOMIC: 한 건이라도 등록할 수 없으면 전체 미등록
+     * PARTIAL: 등록 가능한 건만 등록하고 건별 결과 반환
+     *
+     * @param batchDto
+     * @return ResvBatchResponseDto
+     * *******************************
+     */
+    @Transactional
+    public ResvBatchResponseDto saveReservationBatch(ResvBatchDto batchDto) {
+        List<ResvDto> items = batchDto.getReservations();
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("예약 목록이 비어 있거나 최대 건수를 초과했습니다. (최대 " + MAX_BATCH_SIZE + "건)");
         }
+        ResvBatchDto.Mode mode = batchDto.getMode() == null ? ResvBatchDto.Mode.ATOMIC : batchDto.getMode();
 
-        logger.info("사용자 ID: {}", resvDto.getUserId());
+        // 회의실, 사용자 정보 일괄 조회
+        Map<String, MeetingRoom> rooms = meetingRoomRepository.findAllById(
+                items.stream().map(ResvDto::getRoomCd).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(MeetingRoom::getRoomCd, room -> room));
+        Map<String, User> users = userRepository.findAllById(
+                items.stream().map(ResvDto::getUserId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getUserId, user -> user));
 
-        // 사용자 정보 조회
-        User user = userRepository.findByUserId(resvDto.getUserId())
-                                  .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        // 건별 입력값 검증(실패 사유 보관)
+        String[] errors = new String[items.size()];
+        List<ResvDto> validItems = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ResvDto resv = items.get(i);
+            if (resv == null || resv.getUserId() == null || resv.getRoomCd() == null
+                    || resv.getStartTime() == null || resv.getEndTime() == null) {
+                errors[i] = "필수 입력값이 누락되었습니다.";
+            } else if (!isTimeValid(resv.getStartTime(), resv.getEndTime())) {
+                errors[i] = "시간 형식이 잘못되었습니다. (00분, 30분 단위)";
+            } else if (slotHolds.isHeldByOther(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime(), resv.getUserId())) {
+                errors[i] = SlotHolds.HELD_MESSAGE;
+            } else if (!rooms.containsKey(resv.getRoomCd())) {
+                errors[i] = "존재하지 않는 회의실입니다.";
+            } else if (!users.containsKey(resv.getUserId())) {
+                errors[i] = "존재하지 않는 사용자입니다.";
+            } else {
+                validItems.add(resv);
+            }
+        }
 
-        // 회의실 예약 저장
-        Reservation reservation = reservationRepository.save(Reservation.builder()
-                                                       .user(user)
-                                                       .meetingRoom(room)
-                                                       .userNm(user.getUserNm())
-                                                       .startTime(resvDto.getStartTime())
-                                                       .endTime(resvDto.getEndTime())
-                                                       .build());
-        // 예약 정보 반환
-        return ResvResponseDto.builder()
-                              .resvNo(reservation.getResvNo())
-                              .userNm(user.getUserNm())
-                              .roomCd(room.getRoomCd())
-                              .startTime(reservation.getStartTime())
-                              .endTime(reservation.getEndTime())
-                              .build();
+        // 대상 회의실, 일자의 예약 등록은 순차 처리
+        return roomLockStripes.withLock(validItems, () -> insertReservationBatch(mode, items, errors, users));
+    }
+
+    /**
+     * *******************************
+     * 회의실 예약 단건 조회(수정 전 현재 버전 확인용)
+     *
+     * @param resvNo
+     * @return ResvResponseDto
+     * *******************************
+     */
+    @Transactional(readOnly = true)
+    public ResvResponseDto selectReservation(Long resvNo) {
+        return reservationRepository.findById(resvNo)
+                                    .map(this::toResponse)
+                                    .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
     }
 
     /**
      * *******************************
      * 회의실 예약 수정
+     * (resvDto.version 이 현재 버전과 다르거나 동시에 변경된 경우 ReservationConflictException)
      *
      * @param resvDto
      * @return ResvResponseDto
@@ -170,38 +738,74 @@ public class ReservationService {
     @Transactional
     public ResvResponseDto modifyReservation(Long resvNo, ResvDto resvDto) {
 
-        Reservation reservation = reservationRepository.findById(resvNo)
-                                                .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
-
-        if (!reservation.getUser().getUserId().equals(resvDto.getUserId())) {
-            throw new IllegalStateException("최초 예약자의 id와 일치하지 않습니다. 예약 변경 불가");
+        // 입력값, 시간 형식 유효성 체크(잘못된 구간은 슬롯 점유, 인덱스 반영 전에 거절)
+        if (resvDto.getRoomCd() == null || resvDto.getStartTime() == null || resvDto.getEndTime() == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (!isTimeValid(resvDto.getStartTime(), resvDto.getEndTime())) {
+            throw new IllegalArgumentException("시간 형식이 잘못되었습니다. (00분, 30분 단위)");
         }
 
-        // 변경하려는 시간대가 겹치는 예약건 조회
-        List<Reservation> duplicatedResv = reservationRepository.findOverlappingReservations(
-                resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime()
-        );
+        // 변경하려는 시간이 다른 사용자가 대기 중인 시간이면 DB 조회 없이 거절
+        checkNotHeld(resvDto);
 
-        int dupResvCnt = duplicatedResv.size();
+        // 변경 전 회의실, 시간은 인덱스에서 확인(인덱스 적재 범위 밖이면 DB 조회)
+        ResvSlotDto before = reservationIndex.slotOf(resvNo);
+        if (before == null) {
+            before = reservationRepository.findSlotById(resvNo)
+                                          .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
+        }
+        ResvResponseDto modified = modifyFrom(resvNo, before, resvDto);
 
-        // 시간대가 겹치는 예약이 2개이상 일 경우 예약 변경 불가
-        if (dupResvCnt > 1) {
-            throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
+        // 인덱스의 변경 전 위치가 DB 와 다르면(다른 서버에서 먼저 변경) DB 기준으로 한 번 더 시도
+        if (modified == null) {
+            before = reservationRepository.findSlotById(resvNo)
+                                          .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
+            modified = modifyFrom(resvNo, before, resvDto);
         }
+        if (modified == null) {
+            throw new ReservationConflictException(selectReservation(resvNo));
+        }
+        return modified;
+    }
 
-        // 시간대가 겹치는 예약건이 1건이고
-        if (dupResvCnt == 1) {
-            // 현재 로그인된 사용자가 변경하려는 예약건일 경우 변경 가능
-            if(duplicatedResv.get(0).getUser().getUserId().equals(resvDto.getUserId())
-                                                        && duplicatedResv.get(0).getResvNo().equals(resvNo)) {
-                return updateResvation(resvNo, resvDto);
-            } else {
-                // 로그인된 사용자의 예약건이 아닌 경우
+    /**
+     * *******************************
+     * 변경 전/후 회의실, 일자 락을 모두 잡고 예약 변경
+     * (변경 전 구간도 잠가 슬롯 해제 전에 다른 예약이 변경 전 시간을 확인하지 않도록 함)
+     *
+     * @param resvNo
+     * @param before 변경 전 회의실, 시간
+     * @param resvDto
+     * @return ResvResponseDto 변경 전 위치가 DB 와 달라 반영하지 못한 경우 null
+     * *******************************
+     */
+    private ResvResponseDto modifyFrom(Long resvNo, ResvSlotDto before, ResvDto resvDto) {
+        ResvDto beforeRange = ResvDto.builder()
+                                     .roomCd(before.getRoomCd())
+                                     .startTime(before.getStartTime())
+                                     .endTime(before.getEndTime())
+                                     .build();
+
+        return roomLockStripes.withLock(List.of(beforeRange, resvDto), () -> {
+            reservationIndex.syncSeries(resvDto.getRoomCd(), resvDto.getStartTime().toLocalDate(),
+                                        resvDto.getEndTime().toLocalDate());
+
+            // 변경하려는 시간대와 겹치는 예약(변경 대상 제외), 반복 예약 발생분 확인 - 인덱스 적재 범위 밖일 경우 DB 조회
+            boolean covered = reservationIndex.covers(resvDto.getStartTime());
+            boolean modifiable = reservationMetrics.overlapCheck(covered, () ->
+                    !reservationIndex.hasSeriesOverlap(resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(), null)
+                    && (covered
+                        ? !reservationIndex.confirmOverlap(resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(), resvNo)
+                        : isModifiable(reservationRepository.findOverlappingReservations(
+                                resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime()), resvNo, resvDto.getUserId())));
+
+            if (!modifiable) {
                 throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
             }
-        }
 
-        return updateResvation(resvNo, resvDto);
+            return updateResvation(resvNo, before, resvDto);
+        });
     }
 
     /**
@@ -211,11 +815,30 @@ public class ReservationService {
      * @param resvNo
      * *******************************
      */
+    @Transactional
     public void deleteReservation(Long resvNo) {
-        if (!reservationRepository.existsById(resvNo)) {
-            throw new NoSuchElementException("존재하지 않는 예약입니다.");
-        }
+        ResvSlotDto resv = reservationRepository.findSlotById(resvNo)
+                                                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 예약입니다."));
+        reservationSlotRepository.deleteAllByResvNo(resvNo);
         reservationRepository.deleteById(resvNo);
+        reservationIndex.remove(resvNo);
+        userBookingQuota.remove(resvNo);
+        monthlyResvCache.evict(resv.getRoomCd(), resv.getStartTime());
+        reservationChangePublisher.publish(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime());
+        reservationEventOutbox.append(ResvEventDto.Type.DELETED, resvNo, resv.getRoomCd(), resv.getStartTime(), resv.getEndTime());
+    }
+
+    /**
+     * *******************************
+     * 다른 사용자의 대기(임시 점유) 시간과 겹치면 IllegalStateException
+     *
+     * @param resvDto
+     * *******************************
+     */
+    private void checkNotHeld(ResvDto resvDto) {
+        if (slotHolds.isHeldByOther(resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(), resvDto.getUserId())) {
+            throw new IllegalStateException(SlotHolds.HELD_MESSAGE);
+        }
     }
 
     /**
@@ -227,7 +850,7 @@ public class ReservationService {
      * @return boolean
      * *******************************
      */
-    private boolean isTimeValid(LocalDateTime start, LocalDateTime end) {
+    static boolean isTimeValid(LocalDateTime start, LocalDateTime end) {
         return start.isBefore(end)
                 && (start.getMinute() == 0 || start.getMinute() == 30)
                 && (end.getMinute() == 0 || end.getMinute() == 30);
@@ -235,31 +858,389 @@ public class ReservationService {
 
     /**
      * *******************************
-     * 예약 update 로직 분리
+     * 일괄 등록 예약 시간 중복 확인
+     * (기존 예약, 반복 예약 및 요청 내 다른 예약과 겹치면 errors 에 사유 기록)
      *
+     * @param items
+     * @param errors
+     * @param validItems 입력값 검증을 통과한 예약
+     * @param covered 모든 예약이 인덱스 적재 범위 안이면 true
+     * *******************************
+     */
+    private void checkBatchOverlap(List<ResvDto> items, String[] errors, List<ResvDto> validItems, boolean covered) {
+        // 회의실별 등록(예정) 구간(시작시간 -> 종료시간, 서로 겹치지 않음)
+        // 인덱스 적재 범위 밖 예약이 있으면 대상 회의실의 기존 예약 구간을 한 번에 조회하여 채움
+        Map<String, TreeMap<LocalDateTime, LocalDateTime>> booked = new HashMap<>();
+
+        // 대상 회의실별로 다른 서버에서 등록/삭제한 반복 예약 반영
+        validItems.stream()
+                  .collect(Collectors.groupingBy(ResvDto::getRoomCd))
+                  .forEach((roomCd, roomItems) -> reservationIndex.syncSeries(
+                          roomCd,
+                          roomItems.stream().map(ResvDto::getStartTime).min(LocalDateTime::compareTo).get().toLocalDate(),
+                          roomItems.stream().map(ResvDto::getEndTime).max(LocalDateTime::compareTo).get().toLocalDate()));
+
+        if (!covered && !validItems.isEmpty()) {
+            LocalDateTime from = validItems.stream().map(ResvDto::getStartTime).min(LocalDateTime::compareTo).get();
+            LocalDateTime to = validItems.stream().map(ResvDto::getEndTime).max(LocalDateTime::compareTo).get();
+            Set<String> roomCds = validItems.stream().map(ResvDto::getRoomCd).collect(Collectors.toSet());
+            for (ResvSlotDto slot : reservationRepository.findOverlappingSlotsInRooms(roomCds, from, to)) {
+                booked.computeIfAbsent(slot.getRoomCd(), roomCd -> new TreeMap<>())
+                      .put(slot.getStartTime(), slot.getEndTime());
+            }
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            ResvDto resv = items.get(i);
+            TreeMap<LocalDateTime, LocalDateTime> roomBooked = booked.computeIfAbsent(resv.getRoomCd(),
+                                                                                     roomCd -> new TreeMap<>());
+            // 시작시간이 종료시간보다 앞선 구간 중 가장 늦게 시작하는 구간만 확인
+            Map.Entry<LocalDateTime, LocalDateTime> before = roomBooked.lowerEntry(resv.getEndTime());
+            if ((covered ? reservationIndex.confirmOverlap(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime(), null)
+                         : reservationIndex.hasSeriesOverlap(resv.getRoomCd(), resv.getStartTime(), resv.getEndTime(), null))
+                    || (before != null && before.getValue().isAfter(resv.getStartTime()))) {
+                errors[i] = "이미 해당 시간에 예약이 존재합니다.";
+            } else {
+                roomBooked.put(resv.getStartTime(), resv.getEndTime());
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 일괄 등록 사용자별 예약 가능 건수 확인
+     * (요청 순서대로 같은 사용자의 등록 예정 건수를 더해 제한을 넘는 예약은 errors 에 사유 기록)
+     *
+     * @param items
+     * @param errors
+     * *******************************
+     */
+    private void checkBatchQuota(List<ResvDto> items, String[] errors) {
+        if (!userBookingQuota.enabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Integer> pending = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            ResvDto resv = items.get(i);
+            if (errors[i] != null || !resv.getEndTime().isAfter(now)) {
+                continue;
+            }
+            int count = pending.getOrDefault(resv.getUserId(), 0) + 1;
+            if (userBookingQuota.allows(resv.getUserId(), count)) {
+                pending.put(resv.getUserId(), count);
+            } else {
+                errors[i] = userBookingQuota.exceededMessage();
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 예약 변경 가능 여부
+     * (겹치는 예약이 없거나, 1건이고 로그인된 사용자의 변경하려는 예약건인 경우만 변경 가능)
+     *
+     * @param duplicatedResv 변경하려는 시간대와 겹치는 예약건
      * @param resvNo
+     * @param userId
+     * @return boolean
+     * *******************************
+     */
+    static boolean isModifiable(List<Reservation> duplicatedResv, Long resvNo, String userId) {
+        // 시간대가 겹치는 예약이 2개이상 일 경우 예약 변경 불가
+        if (duplicatedResv.size() > 1) {
+            return false;
+        }
+        // 시간대가 겹치는 예약건이 1건이면 현재 로그인된 사용자가 변경하려는 예약건일 경우만 변경 가능
+        if (duplicatedResv.size() == 1) {
+            Reservation duplicated = duplicatedResv.get(0);
+            return duplicated.getUser().getUserId().equals(userId) && duplicated.getResvNo().equals(resvNo);
+        }
+        return true;
+    }
+
+    /**
+     * *******************************
+     * 예약 중복 체크 및 저장
+     *
+     * @param room
      * @param resvDto
      * @return ResvResponseDto
      * *******************************
      */
-    private ResvResponseDto updateResvation(Long resvNo, ResvDto resvDto) {
-        int updated = reservationRepository.updateReservationTime(resvNo,
-                                                                  resvDto.getRoomCd(),
-                                                                  resvDto.getStartTime(),
-                                                                  resvDto.getEndTime());
+    private ResvResponseDto insertReservation(MeetingRoom room, ResvDto resvDto) {
+        // 다른 서버에서 등록/삭제한 반복 예약 반영
+        reservationIndex.syncSeries(room.getRoomCd(), resvDto.getStartTime().toLocalDate(), resvDto.getEndTime().toLocalDate());
+
+        // 예약 현황 조회(예약 시간 중복 방지) - 인덱스 적재 범위 밖일 경우 DB 조회
+        boolean covered = reservationIndex.covers(resvDto.getStartTime());
+        boolean isDuplicate = reservationMetrics.overlapCheck(covered, () -> covered
+                ? reservationIndex.confirmOverlap(room.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(), null)
+                : reservationRepository.existsByOverlapping(room.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime())
+                        || reservationIndex.hasSeriesOverlap(room.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime(), null));
+        if (isDuplicate) {
+            throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
+        }
+
+        logger.info("사용자 ID: {}", resvDto.getUserId());
+
+        // 사용자 정보 조회
+        User user = userRepository.findByUserId(resvDto.getUserId())
+                                  .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        // 사용자별 예약 가능 건수 확인(유지 중인 건수로 확인, 초과 시 저장하지 않음)
+        Long resvNo = resvNoSequence.next();
+        userBookingQuota.acquire(resvNo, user.getUserId(), resvDto.getEndTime());
+
+        // 회의실 예약 저장(캐시된 엔티티 대신 참조를 연결하여 저장 시 추가 조회 방지)
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                                                       .resvNo(resvNo)
+                                                       .user(userRepository.getReferenceById(user.getUserId()))
+                                                       .meetingRoom(meetingRoomRepository.getReferenceById(room.getRoomCd()))
+                                                       .userNm(user.getUserNm())
+                                                       .startTime(resvDto.getStartTime())
+                                                       .endTime(resvDto.getEndTime())
+                                                       .build());
+        // 슬롯 점유(다른 노드와의 중복은 DB 키 중복으로 차단)
+        claimSlots(reservation.getResvNo(), room.getRoomCd(), reservation.getStartTime(), reservation.getEndTime());
+        reservationIndex.add(reservation.getResvNo(), room.getRoomCd(),
+                             reservation.getStartTime(), reservation.getEndTime());
+        monthlyResvCache.evict(room.getRoomCd(), reservation.getStartTime());
+        reservationChangePublisher.publish(room.getRoomCd(), reservation.getStartTime(), reservation.getEndTime());
+        reservationEventOutbox.append(ResvEventDto.Type.CREATED, reservation.getResvNo(), room.getRoomCd(),
+                                      reservation.getStartTime(), reservation.getEndTime());
+
+        // 예약 정보 반환
+        return ResvResponseDto.builder()
+                              .resvNo(reservation.getResvNo())
+                              .userNm(user.getUserNm())
+                              .roomCd(room.getRoomCd())
+                              .startTime(reservation.getStartTime())
+                              .endTime(reservation.getEndTime())
+                              .version(reservation.getVersion())
+                              .build();
+    }
+
+    /**
+     * *******************************
+     * 일괄 예약 중복 체크 및 저장
+     *
+     * @param mode
+     * @param items
+     * @param errors 입력값 검증 실패 사유(요청 순번별)
+     * @param users
+     * @return ResvBatchResponseDto
+     * *******************************
+     */
+    private ResvBatchResponseDto insertReservationBatch(ResvBatchDto.Mode mode, List<ResvDto> items, String[] errors,
+                                                        Map<String, User> users) {
+        List<ResvDto> validItems = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] == null) {
+                validItems.add(items.get(i));
+            }
+        }
+
+        boolean covered = validItems.stream().allMatch(resv -> reservationIndex.covers(resv.getStartTime()));
+        reservationMetrics.overlapCheck(covered, () -> checkBatchOverlap(items, errors, validItems, covered));
+        checkBatchQuota(items, errors);
+
+        boolean rejected = Arrays.stream(errors).anyMatch(Objects::nonNull);
+        ResvResponseDto[] saved = new ResvResponseDto[items.size()];
+        if (!(mode == ResvBatchDto.Mode.ATOMIC && rejected)) {
+            // 예약 번호를 미리 할당받아 insert 배치로 저장 후 슬롯 점유
+            List<Integer> targets = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (errors[i] == null) {
+                    targets.add(i);
+                }
+            }
+            List<Long> resvNos = resvNoSequence.next(targets.size());
+
+            List<Reservation> reservations = new ArrayList<>(targets.size());
+            for (int n = 0; n < targets.size(); n++) {
+                ResvDto resv = items.get(targets.get(n));
+                User user = users.get(resv.getUserId());
+                userBookingQuota.acquire(resvNos.get(n), user.getUserId(), resv.getEndTime());
+                reservations.add(Reservation.builder()
+                                            .resvNo(resvNos.get(n))
+                                            .user(userRepository.getReferenceById(user.getUserId()))
+                                            .meetingRoom(meetingRoomRepository.getReferenceById(resv.getRoomCd()))
+                                            .userNm(user.getUserNm())
+                                            .startTime(resv.getStartTime())
+                                            .endTime(resv.getEndTime())
+                                            .build());
+            }
+            reservationRepository.saveAllAndFlush(reservations);
+
+            List<ReservationSlot> slots = new ArrayList<>();
+            for (Reservation reservation : reservations) {
+                slots.addAll(slotsOf(reservation.getResvNo(), reservation.getMeetingRoom().getRoomCd(),
+                                     reservation.getStartTime(), reservation.getEndTime()));
+            }
+            // 다른 노드와 겹친 경우 배치 전체 롤백
+            claimSlots(slots);
+
+            for (int n = 0; n < reservations.size(); n++) {
+                Reservation reservation = reservations.get(n);
+                String roomCd = reservation.getMeetingRoom().getRoomCd();
+                reservationIndex.add(reservation.getResvNo(), roomCd, reservation.getStartTime(), reservation.getEndTime());
+                monthlyResvCache.evict(roomCd, reservation.getStartTime());
+                reservationChangePublisher.publish(roomCd, reservation.getStartTime(), reservation.getEndTime());
+                reservationEventOutbox.append(ResvEventDto.Type.CREATED, reservation.getResvNo(), roomCd,
+                                              reservation.getStartTime(), reservation.getEndTime());
+                saved[targets.get(n)] = ResvResponseDto.builder()
+                                                       .resvNo(reservation.getResvNo())
+                                                       .userNm(reservation.getUserNm())
+                                                       .roomCd(roomCd)
+                                                       .startTime(reservation.getStartTime())
+                                                       .endTime(reservation.getEndTime())
+                                                       .version(reservation.getVersion())
+                                                       .build();
+            }
+        }
+
+        List<ResvBatchResultDto> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(ResvBatchResultDto.builder()
+                                          .index(i)
+                                          .success(saved[i] != null)
+                                          .reservation(saved[i])
+                                          .message(errors[i] != null || saved[i] != null ? errors[i]
+                                                                                         : "다른 예약 오류로 등록되지 않았습니다.")
+                                          .build());
+        }
+        int successCnt = (int) Arrays.stream(saved).filter(Objects::nonNull).count();
+        return ResvBatchResponseDto.builder()
+                                   .mode(mode)
+                                   .successCnt(successCnt)
+                                   .failCnt(items.size() - successCnt)
+                                   .results(results)
+                                   .build();
+    }
+
+    /**
+     * *******************************
+     * 예약 슬롯 점유
+     *
+     * @param resvNo
+     * @param roomCd
+     * @param start
+     * @param end
+     * *******************************
+     */
+    private void claimSlots(Long resvNo, String roomCd, LocalDateTime start, LocalDateTime end) {
+        claimSlots(slotsOf(resvNo, roomCd, start, end));
+    }
+
+    private void claimSlots(List<ReservationSlot> slots) {
+        try {
+            reservationSlotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            throw new IllegalStateException("이미 해당 시간에 예약이 존재합니다.");
+        }
+    }
+
+    private List<ReservationSlot> slotsOf(Long resvNo, String roomCd, LocalDateTime start, LocalDateTime end) {
+        return SlotBitmap.slotStarts(start, end).stream()
+                .map(slotStart -> ReservationSlot.builder()
+                                                 .roomCd(roomCd)
+                                                 .slotStart(slotStart)
+                                                 .resvNo(resvNo)
+                                                 .build())
+                                                 .collect(Collectors.toList());
+    }
+
+    /**
+     * *******************************
+     * 예약 변경 저장
+     * (예약자, 변경 전 위치, 버전 조건 UPDATE 1건으로 반영 후 바뀐 슬롯만 해제(DELETE 1건)/점유(INSERT 배치 1건),
+     *  변경 이벤트는 커밋 직전 outbox INSERT 1건)
+     *
+     * @param resvNo
+     * @param before 변경 전 회의실, 시간
+     * @param resvDto
+     * @return ResvResponseDto 변경 전 위치가 DB 와 달라 반영하지 못한 경우 null
+     * *******************************
+     */
+    private ResvResponseDto updateResvation(Long resvNo, ResvSlotDto before, ResvDto resvDto) {
+        MeetingRoom meetingRoom = meetingRoomRepository.findByRoomCd(resvDto.getRoomCd())
+                                                       .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회의실입니다."));
+
+        int updated = reservationRepository.updateIfUnchanged(resvNo, resvDto.getUserId(), before.getRoomCd(),
+                                                               before.getStartTime(), before.getEndTime(),
+                                                               resvDto.getVersion(), meetingRoom,
+                                                               resvDto.getStartTime(), resvDto.getEndTime());
         if (updated == 0) {
-            throw new NoSuchElementException("수정 대상 예약이 없습니다. 예약번호: " + resvNo);
+            // 반영되지 않은 원인 확인(삭제, 다른 예약자, 다른 사용자가 먼저 변경, 변경 전 위치 불일치)
+            Reservation current = reservationRepository.findById(resvNo)
+                                                       .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
+            if (!current.getUser().getUserId().equals(resvDto.getUserId())) {
+                throw new IllegalStateException("최초 예약자의 id와 일치하지 않습니다. 예약 변경 불가");
+            }
+            if (resvDto.getVersion() != null && !resvDto.getVersion().equals(current.getVersion())) {
+                throw new ReservationConflictException(toResponse(current));
+            }
+            return null;
+        }
+
+        // 종료시간 변경을 반영하여 사용자별 예약 건수 재확인
+        userBookingQuota.remove(resvNo);
+        userBookingQuota.acquire(resvNo, resvDto.getUserId(), resvDto.getEndTime());
+
+        // 기존 슬롯 중 변경 후에도 사용하는 슬롯은 유지하고 바뀐 슬롯만 해제/점유
+        List<ReservationSlot> beforeSlots = slotsOf(resvNo, before.getRoomCd(), before.getStartTime(), before.getEndTime());
+        List<ReservationSlot> afterSlots = slotsOf(resvNo, resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime());
+        Set<ReservationSlotId> beforeIds = beforeSlots.stream().map(ReservationSlot::getId).collect(Collectors.toSet());
+        Set<ReservationSlotId> afterIds = afterSlots.stream().map(ReservationSlot::getId).collect(Collectors.toSet());
+        List<LocalDateTime> released = beforeSlots.stream()
+                                                  .filter(slot -> !afterIds.contains(slot.getId()))
+                                                  .map(ReservationSlot::getSlotStart)
+                                                  .collect(Collectors.toList());
+        List<ReservationSlot> claimed = afterSlots.stream()
+                                                  .filter(slot -> !beforeIds.contains(slot.getId()))
+                                                  .collect(Collectors.toList());
+        if (!released.isEmpty()) {
+            reservationSlotRepository.deleteSlots(before.getRoomCd(), released);
+        }
+        if (!claimed.isEmpty()) {
+            claimSlots(claimed);
         }
 
-        Reservation updatedResv = reservationRepository.findById(resvNo)
-                                                .orElseThrow(() -> new NoSuchElementException("예약을 찾을 수 없습니다."));
+        reservationIndex.remove(resvNo);
+        reservationIndex.add(resvNo, resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime());
+        monthlyResvCache.evict(before.getRoomCd(), before.getStartTime());
+        monthlyResvCache.evict(resvDto.getRoomCd(), resvDto.getStartTime());
+        reservationChangePublisher.publish(before.getRoomCd(), before.getStartTime(), before.getEndTime());
+        reservationChangePublisher.publish(resvDto.getRoomCd(), resvDto.getStartTime(), resvDto.getEndTime());
+        reservationEventOutbox.append(ResvEventDto.Type.MODIFIED, resvNo, resvDto.getRoomCd(),
+                                      resvDto.getStartTime(), resvDto.getEndTime());
+
+        // 응답 버전은 요청 버전 + 1(버전 미지정 시 변경 후 버전 조회), 예약자명은 사용자 캐시에서 조회
+        Long version = resvDto.getVersion() != null
+                       ? Long.valueOf(resvDto.getVersion() + 1)
+                       : reservationRepository.findVersionById(resvNo).orElse(null);
+        return ResvResponseDto.builder()
+                              .resvNo(resvNo)
+                              .userNm(userRepository.findByUserId(resvDto.getUserId()).map(User::getUserNm).orElse(null))
+                              .roomCd(resvDto.getRoomCd())
+                              .startTime(resvDto.getStartTime())
+                              .endTime(resvDto.getEndTime())
+                              .version(version)
+                              .build();
+    }
 
+    private ResvResponseDto toResponse(Reservation reservation) {
         return ResvResponseDto.builder()
-                              .resvNo(updatedResv.getResvNo())
-                              .userNm(updatedResv.getUserNm())
-                              .roomCd(updatedResv.getMeetingRoom().getRoomCd())
-                              .startTime(updatedResv.getStartTime())
-                              .endTime(updatedResv.getEndTime())
+                              .resvNo(reservation.getResvNo())
+                              .userNm(reservation.getUserNm())
+                              .roomCd(reservation.getMeetingRoom().getRoomCd())
+                              .startTime(reservation.getStartTime())
+                              .endTime(reservation.getEndTime())
+                              .version(reservation.getVersion())
                               .build();
     }
-}
\ No newline at end of file
+}
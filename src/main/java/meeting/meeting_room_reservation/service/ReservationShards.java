@@ -0,0 +1,132 @@
+package meeting.meeting_room_reservation.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * *******************************
+ * 회의실 코드 기준 예약 샤드
+ *
+ * 샤딩 사용 시(reservation.sharding.enabled) 회의실 코드 해시로 샤드(reservation.sharding.urls 순번)를 정하고,
+ * 현재 스레드의 샤드 번호로 DataSource 를 선택합니다. (ShardRoutingDataSource)
+ * 샤드 번호는 트랜잭션 시작 전에 정해야 하며, 트랜잭션 안에서는 바꿀 수 없습니다. (커넥션이 트랜잭션 시작 시 결정됨)
+ * 여러 샤드 조회는 샤드별로 병렬 실행 후 결과를 샤드 순서대로 반환합니다.
+ * 샤드 수를 바꾸면 회의실의 샤드가 바뀌므로 기존 예약 데이터를 재배치해야 합니다.
+ * *******************************
+ */
+@Component
+public class ReservationShards implements DisposableBean {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private final int count;
+    private final ExecutorService executor;
+
+    public ReservationShards(@Value("${reservation.sharding.enabled:false}") boolean enabled,
+                             @Value("${reservation.sharding.urls:}") List<String> urls) {
+        this.count = enabled ? Math.max(1, (int) urls.stream().filter(url -> !url.isBlank()).count()) : 1;
+        this.executor = count > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * *******************************
+     * 회의실 샤드 번호
+     *
+     * @param roomCd
+     * @return int
+     * *******************************
+     */
+    public int shardOf(String roomCd) {
+        return Math.floorMod(roomCd.hashCode(), count);
+    }
+
+    /**
+     * *******************************
+     * 현재 스레드의 샤드 번호(없으면 기본 샤드)
+     * *******************************
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * *******************************
+     * 샤드를 지정하여 실행(실행 후 이전 샤드로 복구)
+     *
+     * @param shard
+     * @param action
+     * @return T
+     * *******************************
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 모든 샤드에서 병렬 실행
+     * (각 샤드 작업은 별도 스레드에서 새 트랜잭션/커넥션으로 실행)
+     *
+     * @param action 샤드 번호별 작업
+     * @return List<T> 샤드 순서대로의 결과
+     * *******************************
+     */
+    public <T> List<T> fanOut(IntFunction<T> action) {
+        if (count == 1) {
+            return List.of(action.apply(0));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int no = shard;
+            futures.add(executor.submit(() -> onShard(no, () -> action.apply(no))));
+        }
+
+        List<T> results = new ArrayList<>(count);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("샤드 조회에 실패했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
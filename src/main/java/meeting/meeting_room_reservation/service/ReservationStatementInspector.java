@@ -0,0 +1,18 @@
+package meeting.meeting_room_reservation.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * *******************************
+ * Hibernate 가 준비하는 SQL 문장 수 집계(스레드별)
+ * (SQL 은 변경하지 않음, 서비스 메서드별 SQL 실행 수 지표에 사용)
+ * *******************************
+ */
+public class ReservationStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        ReservationMetrics.countStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,112 @@
+package meeting.meeting_room_reservation.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * *******************************
+ * 예약 번호 채번(id_sequences, pooled-lo)
+ *
+ * id_sequences 의 next_val 부터 block-size 개의 번호를 한 번에 할당받아 메모리에서 나누어 줍니다.
+ * IDENTITY 와 달리 저장 전에 번호가 정해지므로 예약 insert 를 JDBC 배치로 묶을 수 있습니다.
+ * 예약 트랜잭션이 커넥션을 잡은 채 채번을 기다리면 풀이 고갈될 수 있어 전용 커넥션 풀(최대 2개)을 사용합니다.
+ * 롤백된 예약의 번호는 재사용하지 않습니다.
+ * 번호 구간을 받는 동안 DB I/O 를 기다리므로 synchronized 대신 ReentrantLock 을 사용합니다.
+ * (가상 스레드가 synchronized 안에서 대기하면 캐리어 스레드가 고정됨)
+ * *******************************
+ */
+@Component
+public class ResvNoSequence implements DisposableBean {
+
+    private static final String SEQ_NAME = "reservations";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 할당받은 번호 구간 [next, limit)
+    private long next;
+    private long limit;
+
+    public ResvNoSequence(DataSourceProperties properties,
+                          @Value("${reservation.id.block-size:50}") int blockSize) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("resv-no-sequence");
+        this.dataSource.setMaximumPoolSize(2);
+        this.dataSource.setMinimumIdle(0);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * *******************************
+     * 예약 번호 1개 할당
+     *
+     * @return long
+     * *******************************
+     */
+    public long next() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                reserve(blockSize);
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * *******************************
+     * 예약 번호 여러 개 할당(일괄 등록)
+     *
+     * @param count
+     * @return List<Long>
+     * *******************************
+     */
+    public List<Long> next(int count) {
+        List<Long> resvNos = new ArrayList<>(count);
+        lock.lock();
+        try {
+            while (resvNos.size() < count) {
+                if (next >= limit) {
+                    reserve(Math.max(blockSize, count - resvNos.size()));
+                }
+                resvNos.add(next++);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return resvNos;
+    }
+
+    private void reserve(int size) {
+        Long from = transactionTemplate.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequences WHERE seq_name = ? FOR UPDATE", Long.class, SEQ_NAME);
+            jdbcTemplate.update("UPDATE id_sequences SET next_val = ? WHERE seq_name = ?", current + size, SEQ_NAME);
+            return current;
+        });
+        next = from;
+        limit = from + size;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
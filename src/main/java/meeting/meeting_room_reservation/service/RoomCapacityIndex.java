@@ -0,0 +1,69 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.config.CacheConfig;
+import meeting.meeting_room_reservation.domain.MeetingRoom;
+import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * *******************************
+ * 수용 인원 순 회의실 인덱스
+ *
+ * 수용 인원별 회의실 목록을 수용 인원 오름차순으로 보관하여 참석 인원 이상인 회의실을 작은 회의실부터 바로 찾습니다.
+ * 변경 불가 구조로 캐시하며, 회의실 정보 변경 시(MeetingRoomRepository 저장/삭제) 초기화됩니다.
+ * *******************************
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomCapacityIndex {
+
+    private final MeetingRoomRepository meetingRoomRepository;
+
+    /**
+     * *******************************
+     * 수용 인원별 회의실 목록(같은 수용 인원은 회의실 코드 순)
+     *
+     * @return NavigableMap<Integer, List<ResvRmResponseDto>>
+     * *******************************
+     */
+    @Cacheable(CacheConfig.ROOM_CAPACITY_INDEX)
+    public NavigableMap<Integer, List<ResvRmResponseDto>> byCapacity() {
+        TreeMap<Integer, List<ResvRmResponseDto>> rooms = new TreeMap<>();
+        meetingRoomRepository.findAll().stream()
+                .sorted(Comparator.comparing(MeetingRoom::getRoomCd))
+                .forEach(room -> rooms.computeIfAbsent(room.getCapacity(), capacity -> new ArrayList<>())
+                                      .add(ResvRmResponseDto.builder()
+                                                            .roomCd(room.getRoomCd())
+                                                            .roomNm(room.getRoomNm())
+                                                            .capacity(room.getCapacity())
+                                                            .build()));
+        rooms.replaceAll((capacity, list) -> List.copyOf(list));
+        return Collections.unmodifiableNavigableMap(rooms);
+    }
+
+    /**
+     * *******************************
+     * 등록된 회의실 코드 목록(요청값 회의실 코드 확인용)
+     *
+     * @return Set<String>
+     * *******************************
+     */
+    @Cacheable(cacheNames = CacheConfig.ROOM_CAPACITY_INDEX, key = "'roomCds'")
+    public Set<String> roomCds() {
+        return meetingRoomRepository.findAll().stream()
+                                    .map(MeetingRoom::getRoomCd)
+                                    .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,97 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * *******************************
+ * 회의실 + 일자 단위 스트라이프 락
+ *
+ * 같은 회의실, 같은 일자의 예약 변경만 서로 대기하고
+ * 다른 회의실(또는 다른 일자)의 예약 변경은 경합하지 않습니다.
+ * 노드 간 중복 방지는 reservation_slots 기본키가 담당합니다.
+ * *******************************
+ */
+@Component
+public class RoomLockStripes {
+
+    private final ReentrantLock[] stripes;
+
+    public RoomLockStripes(@Value("${reservation.lock.stripes:256}") int size) {
+        // 2의 거듭제곱으로 맞춰 비트 연산으로 스트라이프 선택
+        int stripeCnt = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.stripes = new ReentrantLock[stripeCnt];
+        for (int i = 0; i < stripeCnt; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * *******************************
+     * 예약 구간이 걸친 회의실 + 일자 락을 잡고 실행
+     * (교착 방지를 위해 스트라이프 번호 순으로 획득)
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * @param action
+     * @return T
+     * *******************************
+     */
+    public <T> T withLock(String roomCd, LocalDateTime start, LocalDateTime end, Supplier<T> action) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (LocalDate day : SlotBitmap.days(start, end)) {
+            indexes.add(stripeOf(roomCd, day));
+        }
+        return withStripes(indexes, action);
+    }
+
+    /**
+     * *******************************
+     * 여러 예약 구간이 걸친 회의실 + 일자 락을 모두 잡고 실행(일괄 등록)
+     *
+     * @param reservations
+     * @param action
+     * @return T
+     * *******************************
+     */
+    public <T> T withLock(Collection<ResvDto> reservations, Supplier<T> action) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (ResvDto resv : reservations) {
+            for (LocalDate day : SlotBitmap.days(resv.getStartTime(), resv.getEndTime())) {
+                indexes.add(stripeOf(resv.getRoomCd(), day));
+            }
+        }
+        return withStripes(indexes, action);
+    }
+
+    private <T> T withStripes(TreeSet<Integer> indexes, Supplier<T> action) {
+        List<ReentrantLock> locked = new ArrayList<>(indexes.size());
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked.add(stripes[index]);
+            }
+            return action.get();
+        } finally {
+            for (ReentrantLock lock : locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int stripeOf(String roomCd, LocalDate day) {
+        int hash = 31 * roomCd.hashCode() + day.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,126 @@
+package meeting.meeting_room_reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import meeting.meeting_room_reservation.model.dto.ResvBatchDto;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * *******************************
+ * 예약 서비스 호출의 샤드 지정(샤딩 사용 시)
+ *
+ * 트랜잭션 시작 전에 요청의 회의실 코드(roomCd 인자, 요청 DTO) 또는 예약 번호, 반복 예약 번호로 샤드를 정합니다.
+ * 예약 번호는 인덱스의 회의실 코드로 찾고, 인덱스에 없으면 모든 샤드에서 조회합니다.
+ * 회의실 기준이 없는 호출(회의실 목록 등)은 0번 샤드를 사용하고, 여러 샤드 조회는 서비스에서 병렬로 나누어 조회합니다.
+ * 한 트랜잭션에서 여러 샤드를 변경할 수 없으므로 다른 샤드 회의실로의 예약 변경, 여러 샤드에 걸친 일괄 등록은 거절합니다.
+ * *******************************
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ShardRoutingAspect {
+
+    private final ReservationShards reservationShards;
+    private final ReservationIndex reservationIndex;
+    private final ReservationRepository reservationRepository;
+
+    @Around("execution(public * meeting.meeting_room_reservation.service.ReservationService.*(..))"
+            + " || execution(public * meeting.meeting_room_reservation.service.ReservationSeriesService.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 샤딩 미사용, 또는 이미 시작된 트랜잭션 안의 호출은 샤드를 바꾸지 않음
+        if (reservationShards.count() == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Integer shard = shardOf(joinPoint);
+        if (shard == null) {
+            return joinPoint.proceed();
+        }
+        return reservationShards.onShard(shard, () -> proceed(joinPoint));
+    }
+
+    private Integer shardOf(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+
+        Integer shard = null;
+        for (int i = 0; i < args.length; i++) {
+            String name = names == null ? "" : names[i];
+            Integer argShard = null;
+            if (args[i] instanceof String roomCd && "roomCd".equals(name)) {
+                argShard = reservationShards.shardOf(roomCd);
+            } else if (args[i] instanceof ResvDto resvDto && resvDto.getRoomCd() != null) {
+                argShard = reservationShards.shardOf(resvDto.getRoomCd());
+            } else if (args[i] instanceof ResvSeriesDto seriesDto && seriesDto.getRoomCd() != null) {
+                argShard = reservationShards.shardOf(seriesDto.getRoomCd());
+            } else if (args[i] instanceof ResvBatchDto batchDto && batchDto.getReservations() != null) {
+                argShard = batchShardOf(batchDto.getReservations());
+            } else if (args[i] instanceof Long resvNo && "resvNo".equals(name)) {
+                argShard = resvShardOf(resvNo);
+            } else if (args[i] instanceof Long seriesNo && "seriesNo".equals(name)) {
+                String roomCd = reservationIndex.seriesRoomOf(seriesNo);
+                argShard = roomCd == null ? null : reservationShards.shardOf(roomCd);
+            }
+
+            if (argShard == null) {
+                continue;
+            }
+            if (shard != null && !shard.equals(argShard)) {
+                throw new IllegalArgumentException("다른 샤드의 회의실로 변경할 수 없습니다. 예약 취소 후 다시 등록해 주세요.");
+            }
+            shard = argShard;
+        }
+        return shard;
+    }
+
+    private Integer batchShardOf(List<ResvDto> reservations) {
+        List<Integer> shards = reservations.stream()
+                                           .filter(resv -> resv != null && resv.getRoomCd() != null)
+                                           .map(resv -> reservationShards.shardOf(resv.getRoomCd()))
+                                           .distinct()
+                                           .toList();
+        if (shards.size() > 1) {
+            throw new IllegalArgumentException("일괄 등록은 같은 샤드의 회의실만 가능합니다.");
+        }
+        return shards.isEmpty() ? null : shards.get(0);
+    }
+
+    private Integer resvShardOf(Long resvNo) {
+        String roomCd = reservationIndex.roomOf(resvNo);
+        if (roomCd != null) {
+            return reservationShards.shardOf(roomCd);
+        }
+        // 인덱스 적재 범위 밖의 예약은 모든 샤드에서 조회
+        List<Optional<ResvSlotDto>> found = reservationShards.fanOut(shard -> reservationRepository.findSlotById(resvNo));
+        for (int shard = 0; shard < found.size(); shard++) {
+            if (found.get(shard).isPresent()) {
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
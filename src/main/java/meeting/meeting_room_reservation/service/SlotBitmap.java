@@ -0,0 +1,135 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvTimeRangeDto;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * *******************************
+ * 30분 단위 슬롯 비트맵
+ *
+ * 예약은 00분, 30분 단위로만 등록되므로 하루는 48개의 슬롯으로 나뉘고
+ * 한 회의실의 하루 예약 현황을 long 하나(하위 48비트)로 표현할 수 있습니다.
+ * 비트 i 는 i * 30분 ~ (i + 1) * 30분 구간을 의미합니다.
+ * *******************************
+ */
+public final class SlotBitmap {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    private SlotBitmap() {
+    }
+
+    /**
+     * *******************************
+     * 예약 구간 중 해당 일자에 걸친 슬롯 비트맵
+     * (30분 단위가 아닌 구간은 걸쳐 있는 슬롯 전체를 점유한 것으로 봅니다)
+     *
+     * @param day
+     * @param start
+     * @param end
+     * @return long
+     * *******************************
+     */
+    public static long mask(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+
+        LocalDateTime from = start.isAfter(dayStart) ? start : dayStart;
+        LocalDateTime to = end.isBefore(dayEnd) ? end : dayEnd;
+        if (!from.isBefore(to)) {
+            return 0L;
+        }
+
+        long slotSeconds = SLOT_MINUTES * 60L;
+        int fromSlot = (int) (Duration.between(dayStart, from).getSeconds() / slotSeconds);
+        Duration untilEnd = Duration.between(dayStart, to);
+        long endSeconds = untilEnd.getSeconds() + (untilEnd.getNano() > 0 ? 1 : 0);
+        int toSlot = (int) ((endSeconds + slotSeconds - 1) / slotSeconds);
+        return range(fromSlot, Math.min(toSlot, SLOTS_PER_DAY));
+    }
+
+    /**
+     * *******************************
+     * [fromSlot, toSlot) 구간 비트맵
+     * *******************************
+     */
+    public static long range(int fromSlot, int toSlot) {
+        if (fromSlot >= toSlot) {
+            return 0L;
+        }
+        long upto = toSlot >= Long.SIZE ? -1L : (1L << toSlot) - 1;
+        return upto & ~((1L << fromSlot) - 1);
+    }
+
+    /**
+     * *******************************
+     * 예약 구간이 걸친 일자 목록
+     * *******************************
+     */
+    public static List<LocalDate> days(LocalDateTime start, LocalDateTime end) {
+        List<LocalDate> days = new ArrayList<>();
+        LocalDate last = end.minusNanos(1).toLocalDate();
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * *******************************
+     * 예약 구간이 걸친 슬롯 시작시간 목록
+     * *******************************
+     */
+    public static List<LocalDateTime> slotStarts(LocalDateTime start, LocalDateTime end) {
+        List<LocalDateTime> slotStarts = new ArrayList<>();
+        LocalDateTime slot = start.truncatedTo(ChronoUnit.HOURS)
+                                  .plusMinutes(start.getMinute() / SLOT_MINUTES * SLOT_MINUTES);
+        for (; slot.isBefore(end); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            slotStarts.add(slot);
+        }
+        return slotStarts;
+    }
+
+    /**
+     * *******************************
+     * 점유 슬롯 수
+     * *******************************
+     */
+    public static int occupiedCount(long occupied) {
+        return Long.bitCount(occupied & FULL_DAY);
+    }
+
+    /**
+     * *******************************
+     * 빈 시간대 목록(연속된 빈 슬롯을 하나의 구간으로 묶음)
+     *
+     * @param day
+     * @param occupied
+     * @return List<ResvTimeRangeDto>
+     * *******************************
+     */
+    public static List<ResvTimeRangeDto> freeRanges(LocalDate day, long occupied) {
+        List<ResvTimeRangeDto> ranges = new ArrayList<>();
+        long free = ~occupied & FULL_DAY;
+        LocalDateTime dayStart = day.atStartOfDay();
+
+        while (free != 0) {
+            int from = Long.numberOfTrailingZeros(free);
+            int to = Long.numberOfTrailingZeros(~(free >>> from)) + from;
+            ranges.add(ResvTimeRangeDto.builder()
+                                       .startTime(dayStart.plusMinutes((long) from * SLOT_MINUTES))
+                                       .endTime(dayStart.plusMinutes((long) to * SLOT_MINUTES))
+                                       .build());
+            free &= ~range(from, to);
+        }
+        return ranges;
+    }
+}
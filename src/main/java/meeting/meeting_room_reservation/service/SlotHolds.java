@@ -0,0 +1,244 @@
+package meeting.meeting_room_reservation.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * *******************************
+ * 회의실 예약 대기(임시 점유) 목록(메모리)
+ *
+ * 예약 화면을 연 사용자가 회의실, 시간대를 ttl 동안 먼저 점유하여 다른 사용자의 대기/등록을 DB 조회 없이 거절합니다.
+ * 만료는 해시 타이밍 휠(tick-ms 간격 버킷)로 처리하여 대기 건수와 관계없이 tick 마다 해당 버킷만 확인하고,
+ * 만료 시각이 지난 대기는 휠에서 정리되기 전에도 중복 확인에서 제외합니다.
+ * 한 사용자가 여러 시간대를 점유하지 않도록 사용자별 유효한 대기 수를 max-per-user 로 제한합니다.
+ * 대기 목록은 서버별로 유지하므로 다른 서버의 대기와의 중복은 예약 등록 시 DB 슬롯 키로 차단됩니다.
+ * *******************************
+ */
+@Component
+public class SlotHolds implements DisposableBean {
+
+    public static final String ACTIVE_HOLDS = "reservation.holds.active";
+    public static final String HELD_MESSAGE = "다른 사용자가 예약 진행 중인 시간입니다.";
+
+    // 타이밍 휠 버킷 수(2의 거듭제곱)
+    private static final int WHEEL_SIZE = 512;
+
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<String, RoomHolds> rooms = new ConcurrentHashMap<>();
+    private final Map<String, UserHolds> users = new ConcurrentHashMap<>();
+    private final AtomicLong holdNoSeq = new AtomicLong();
+
+    // 타이밍 휠(버킷별 만료 대상, 현재 tick)
+    private final Queue<WheelEntry>[] wheel;
+    private final AtomicLong tick = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler;
+    private final Duration ttl;
+    private final long tickMs;
+
+    // 사용자별 최대 유효 대기 수(0 이하일 경우 제한 없음)
+    private final int maxPerUser;
+
+    @SuppressWarnings("unchecked")
+    public SlotHolds(MeterRegistry meterRegistry,
+                     @Value("${reservation.hold.ttl-seconds:120}") long ttlSeconds,
+                     @Value("${reservation.hold.tick-ms:1000}") long tickMs,
+                     @Value("${reservation.hold.max-per-user:3}") int maxPerUser) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.tickMs = tickMs;
+        this.maxPerUser = maxPerUser;
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resv-hold-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        Gauge.builder(ACTIVE_HOLDS, holds, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * *******************************
+     * 회의실, 시간대 대기 등록
+     * (다른 사용자의 유효한 대기와 겹치거나 사용자별 대기 수를 초과하면 IllegalStateException)
+     *
+     * @param userId
+     * @param roomCd
+     * @param start
+     * @param end
+     * @return Hold
+     * *******************************
+     */
+    public Hold hold(String userId, String roomCd, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        Hold hold = new Hold(holdNoSeq.incrementAndGet(), userId, roomCd, start, end, now.plus(ttl));
+        UserHolds userHolds = users.computeIfAbsent(userId, key -> new UserHolds());
+        if (!userHolds.tryAdd(hold, now, maxPerUser)) {
+            throw new IllegalStateException("대기 가능 건수를 초과했습니다. (최대 " + maxPerUser + "건)");
+        }
+        if (!rooms.computeIfAbsent(roomCd, key -> new RoomHolds()).tryAdd(hold, now)) {
+            userHolds.remove(hold);
+            throw new IllegalStateException(HELD_MESSAGE);
+        }
+        holds.put(hold.holdNo(), hold);
+
+        // 만료 tick 의 버킷에 등록(남은 바퀴 수는 만료 tick 과 현재 tick 비교로 판단)
+        long ticks = Math.max(1, (ttl.toMillis() + tickMs - 1) / tickMs);
+        long deadline = tick.get() + ticks;
+        wheel[(int) (deadline & (WHEEL_SIZE - 1))].add(new WheelEntry(hold, deadline));
+        return hold;
+    }
+
+    /**
+     * *******************************
+     * 다른 사용자의 유효한 대기와 겹치는지 여부
+     *
+     * @param roomCd
+     * @param start
+     * @param end
+     * @param userId 예약 요청 사용자(본인 대기는 제외)
+     * @return boolean
+     * *******************************
+     */
+    public boolean isHeldByOther(String roomCd, LocalDateTime start, LocalDateTime end, String userId) {
+        if (roomCd == null || holds.isEmpty()) {
+            return false;
+        }
+        RoomHolds roomHolds = rooms.get(roomCd);
+        return roomHolds != null && roomHolds.conflicting(start, end, userId, LocalDateTime.now()) != null;
+    }
+
+    /**
+     * *******************************
+     * 유효한 대기 조회(만료 또는 취소 시 없음)
+     * *******************************
+     */
+    public Optional<Hold> find(Long holdNo) {
+        Hold hold = holds.get(holdNo);
+        return hold == null || hold.expired(LocalDateTime.now()) ? Optional.empty() : Optional.of(hold);
+    }
+
+    /**
+     * *******************************
+     * 대기 해제
+     * *******************************
+     */
+    public void release(Long holdNo) {
+        Hold hold = holds.remove(holdNo);
+        if (hold != null) {
+            RoomHolds roomHolds = rooms.get(hold.roomCd());
+            if (roomHolds != null) {
+                roomHolds.remove(hold);
+            }
+            UserHolds userHolds = users.get(hold.userId());
+            if (userHolds != null) {
+                userHolds.remove(hold);
+            }
+        }
+    }
+
+    /**
+     * *******************************
+     * 타이밍 휠 1 tick 진행
+     * (현재 버킷에서 만료 tick 이 지난 대기만 해제, 다음 바퀴 대상은 유지)
+     * *******************************
+     */
+    void advance() {
+        long current = tick.incrementAndGet();
+        Iterator<WheelEntry> bucket = wheel[(int) (current & (WHEEL_SIZE - 1))].iterator();
+        while (bucket.hasNext()) {
+            WheelEntry entry = bucket.next();
+            if (entry.deadline() <= current) {
+                bucket.remove();
+                release(entry.hold().holdNo());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public record Hold(Long holdNo, String userId, String roomCd, LocalDateTime start, LocalDateTime end,
+                       LocalDateTime expiresAt) {
+
+        boolean expired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    record WheelEntry(Hold hold, long deadline) {
+    }
+
+    /**
+     * 회의실 한 곳의 대기 목록(회의실별 대기는 소수이므로 목록으로 확인)
+     */
+    static final class RoomHolds {
+        private final List<Hold> holds = new ArrayList<>();
+
+        synchronized boolean tryAdd(Hold hold, LocalDateTime now) {
+            if (conflicting(hold.start(), hold.end(), hold.userId(), now) != null) {
+                return false;
+            }
+            holds.removeIf(other -> other.expired(now));
+            holds.add(hold);
+            return true;
+        }
+
+        synchronized Hold conflicting(LocalDateTime start, LocalDateTime end, String userId, LocalDateTime now) {
+            for (Hold other : holds) {
+                if (!other.userId().equals(userId) && !other.expired(now)
+                        && other.start().isBefore(end) && other.end().isAfter(start)) {
+                    return other;
+                }
+            }
+            return null;
+        }
+
+        synchronized void remove(Hold hold) {
+            holds.remove(hold);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 대기 목록(사용자별 대기는 max-per-user 이하이므로 목록으로 확인)
+     */
+    static final class UserHolds {
+        private final List<Hold> holds = new ArrayList<>();
+
+        synchronized boolean tryAdd(Hold hold, LocalDateTime now, int max) {
+            holds.removeIf(other -> other.expired(now));
+            if (max > 0 && holds.size() >= max) {
+                return false;
+            }
+            holds.add(hold);
+            return true;
+        }
+
+        synchronized void remove(Hold hold) {
+            holds.remove(hold);
+        }
+    }
+}
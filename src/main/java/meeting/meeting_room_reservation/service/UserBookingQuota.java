@@ -0,0 +1,333 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * *******************************
+ * 사용자별 진행 예정 예약 건수 제한(메모리)
+ *
+ * 종료시간이 지나지 않은 예약 건수를 사용자별 카운터로 유지하여 예약 등록 시 COUNT 조회 없이 제한 여부를 판단합니다.
+ * 종료된 예약은 종료시간 순 대기열에서 확인 시점에 차감합니다. (예약 1건당 추가/차감 1회)
+ * 기동 시 DB에서 적재하고, 예약 등록/수정/삭제 시 함께 갱신하며 트랜잭션이 롤백되면 되돌립니다.
+ * 카운터는 서버별로 유지하므로 reload-interval-ms 마다 DB 와 다시 비교하여 다른 서버의 등록/수정/삭제를 반영합니다.
+ * (반영 주기 사이에 여러 서버에서 같은 사용자가 등록하면 서버 수만큼 제한을 넘을 수 있습니다)
+ * *******************************
+ */
+@Component
+public class UserBookingQuota implements SmartInitializingSingleton, DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(UserBookingQuota.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationShards reservationShards;
+
+    // 사용자별 최대 진행 예정 예약 수(0 이하일 경우 제한하지 않고 건수도 유지하지 않음)
+    private final int maxActive;
+
+    // DB 재적재 주기(0 이하일 경우 기동 시에만 적재)
+    private final long reloadIntervalMs;
+
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private final Map<Long, Booking> bookings = new ConcurrentHashMap<>();
+    private final PriorityBlockingQueue<Booking> expiry = new PriorityBlockingQueue<>(
+            64, Comparator.comparing(Booking::end));
+
+    // 이 서버에서 추가/차감 중(트랜잭션 진행 중)인 예약 번호, 재적재 중 추가/차감을 마친 예약 번호(DB 재적재 대상에서 제외)
+    private final Set<Long> pendingResvs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> touchedResvs = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    private ScheduledExecutorService scheduler;
+
+    public UserBookingQuota(ReservationRepository reservationRepository,
+                            ReservationShards reservationShards,
+                            @Value("${reservation.quota.max-active:0}") int maxActive,
+                            @Value("${reservation.quota.reload-interval-ms:60000}") long reloadIntervalMs) {
+        this.reservationRepository = reservationRepository;
+        this.reservationShards = reservationShards;
+        this.maxActive = maxActive;
+        this.reloadIntervalMs = reloadIntervalMs;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled()) {
+            return;
+        }
+        load();
+        if (reloadIntervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-booking-quota-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reload, reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            logger.warn("사용자별 예약 건수 재적재 실패(다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * *******************************
+     * DB 진행 예정 예약 적재(재적재 시 DB 와 다른 예약만 추가/차감)
+     * (조회 전부터 진행 중이거나 재적재 중 이 서버에서 추가/차감한 예약은 DB 와 다를 수 있으므로 제외)
+     * *******************************
+     */
+    public synchronized void load() {
+        loading = true;
+        try {
+            touchedResvs.clear();
+            Set<Long> excluded = new HashSet<>(pendingResvs);
+            Map<Long, Booking> before = new HashMap<>(bookings);
+
+            LocalDateTime now = LocalDateTime.now();
+            // 샤딩 사용 시 모든 샤드에서 병렬 조회, 복제본 사용 시 주 DB 에서 조회
+            List<ResvExportDto> reservations = ReplicaReadRouting.onPrimary(() -> reservationShards.fanOut(
+                    shard -> reservationRepository.findAllOwnersEndingAfter(now)))
+                    .stream().flatMap(List::stream).toList();
+
+            Map<Long, Booking> loaded = new HashMap<>();
+            for (ResvExportDto resv : reservations) {
+                loaded.put(resv.getResvNo(), new Booking(resv.getResvNo(), resv.getUserId(), resv.getEndTime()));
+            }
+
+            int added = 0;
+            int evicted = 0;
+            // DB 와 다른(다른 서버에서 등록, 변경한) 예약 추가
+            for (Booking booking : loaded.values()) {
+                if (!isLocalChange(excluded, booking.resvNo()) && !booking.equals(bookings.get(booking.resvNo()))) {
+                    put(booking, Integer.MAX_VALUE);
+                    added++;
+                }
+            }
+            // 조회 전부터 있었지만 DB 에 없는(다른 서버에서 삭제, 종료된) 예약 차감
+            for (Booking booking : before.values()) {
+                if (!isLocalChange(excluded, booking.resvNo()) && !loaded.containsKey(booking.resvNo())) {
+                    evict(booking);
+                    evicted++;
+                }
+            }
+
+            if (before.isEmpty() || added > 0 || evicted > 0) {
+                logger.info("사용자별 예약 건수 적재 완료: 사용자 {}명, 예약 {}건 (DB 반영 추가 {}건, 차감 {}건)",
+                            counts.size(), bookings.size(), added, evicted);
+            }
+        } finally {
+            loading = false;
+        }
+    }
+
+    private boolean isLocalChange(Set<Long> excluded, Long resvNo) {
+        return excluded.contains(resvNo) || pendingResvs.contains(resvNo) || touchedResvs.contains(resvNo);
+    }
+
+    public boolean enabled() {
+        return maxActive > 0;
+    }
+
+    /**
+     * *******************************
+     * 사용자의 진행 예정 예약 건수
+     *
+     * @param userId
+     * @return int
+     * *******************************
+     */
+    public int activeCount(String userId) {
+        expire();
+        AtomicInteger count = counts.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * *******************************
+     * 추가로 예약 가능한지 여부(일괄 등록 시 요청 내 같은 사용자 예약 수 포함 확인)
+     *
+     * @param userId
+     * @param pending 함께 등록할 예약 수
+     * @return boolean
+     * *******************************
+     */
+    public boolean allows(String userId, int pending) {
+        return !enabled() || activeCount(userId) + pending <= maxActive;
+    }
+
+    public String exceededMessage() {
+        return "예약 가능 건수를 초과했습니다. (최대 " + maxActive + "건)";
+    }
+
+    /**
+     * *******************************
+     * 예약 건수 추가(제한 초과 시 IllegalStateException, 롤백 시 차감)
+     * (이미 종료된 예약은 건수에 포함하지 않음)
+     *
+     * @param resvNo
+     * @param userId
+     * @param end
+     * *******************************
+     */
+    public void acquire(Long resvNo, String userId, LocalDateTime end) {
+        add(resvNo, userId, end, maxActive);
+    }
+
+    /**
+     * *******************************
+     * 예약 건수 추가(제한 확인 없음, 관리자 대량 등록용, 롤백 시 차감)
+     * *******************************
+     */
+    public void add(Long resvNo, String userId, LocalDateTime end) {
+        add(resvNo, userId, end, Integer.MAX_VALUE);
+    }
+
+    /**
+     * *******************************
+     * 예약 건수 차감(롤백 시 복원)
+     * *******************************
+     */
+    public void remove(Long resvNo) {
+        if (!enabled()) {
+            return;
+        }
+        Booking booking = bookings.get(resvNo);
+        if (booking == null) {
+            return;
+        }
+        track(resvNo);
+        evict(booking);
+        onRollback(() -> put(booking, Integer.MAX_VALUE));
+    }
+
+    private void add(Long resvNo, String userId, LocalDateTime end, int limit) {
+        if (!enabled() || !end.isAfter(LocalDateTime.now())) {
+            return;
+        }
+        expire();
+        Booking booking = new Booking(resvNo, userId, end);
+        track(resvNo);
+        if (!put(booking, limit)) {
+            throw new IllegalStateException(exceededMessage());
+        }
+        onRollback(() -> evict(booking));
+    }
+
+    private boolean put(Booking booking, int limit) {
+        AtomicInteger count = counts.computeIfAbsent(booking.userId(), userId -> new AtomicInteger());
+        if (count.incrementAndGet() > limit) {
+            count.decrementAndGet();
+            return false;
+        }
+        Booking previous = bookings.put(booking.resvNo(), booking);
+        if (previous != null) {
+            counts.get(previous.userId()).decrementAndGet();
+        }
+        expiry.add(booking);
+        return true;
+    }
+
+    private void evict(Booking booking) {
+        if (bookings.remove(booking.resvNo(), booking)) {
+            counts.get(booking.userId()).decrementAndGet();
+        }
+    }
+
+    /**
+     * *******************************
+     * 종료된 예약 차감
+     * (대기열 앞에서 종료시간이 지난 예약만 꺼내므로 예약 1건당 한 번만 처리)
+     * *******************************
+     */
+    private void expire() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking head = expiry.peek();
+        while (head != null && !head.end().isAfter(now)) {
+            Booking polled = expiry.poll();
+            if (polled == null) {
+                return;
+            }
+            if (polled.end().isAfter(now)) {
+                // 확인 사이 다른 스레드가 먼저 꺼낸 경우 되돌리고 종료
+                expiry.add(polled);
+                return;
+            }
+            evict(polled);
+            head = expiry.peek();
+        }
+    }
+
+    /**
+     * *******************************
+     * 추가/차감하는 예약을 트랜잭션 종료 시까지 재적재 대상에서 제외
+     * (추가/차감 전에 호출, 재적재 중 종료된 예약도 제외)
+     * *******************************
+     */
+    private void track(Long resvNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (loading) {
+                touchedResvs.add(resvNo);
+            }
+            return;
+        }
+        pendingResvs.add(resvNo);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (loading) {
+                    touchedResvs.add(resvNo);
+                }
+                pendingResvs.remove(resvNo);
+            }
+        });
+    }
+
+    private void onRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    undo.run();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    record Booking(Long resvNo, String userId, LocalDateTime end) {
+    }
+}
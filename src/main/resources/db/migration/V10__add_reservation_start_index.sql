@@ -0,0 +1,2 @@
+-- 전체 회의실 기간 조회(예약 내보내기, 시작시간 순)
+CREATE INDEX idx_reservations_start ON reservations (start_time);
@@ -0,0 +1,37 @@
+-- 슬롯 테이블 생성(V2) 이전부터 있던 예약의 30분 슬롯 점유 행 생성
+-- (baseline-on-migrate 로 적용한 기존 DB 에서 기존 예약이 중복 방지 대상에서 빠지지 않도록 함)
+-- 슬롯 시작은 예약 시작시간을 30분 단위로 내린 시각부터 종료시간 전까지(SlotBitmap.slotStarts 와 같음)
+-- 기존 데이터에 이미 겹치는 예약이 있으면 해당 슬롯은 예약 번호가 작은 예약이 점유
+
+-- 슬롯 순번(0 ~ 9999, 예약 1건당 최대 약 208일)
+CREATE TABLE slot_offsets (
+    i INT PRIMARY KEY
+);
+
+INSERT INTO slot_offsets (i)
+SELECT d0.d + 10 * d1.d + 100 * d2.d + 1000 * d3.d
+  FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+        UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d0
+ CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+        UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d1
+ CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+        UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d2
+ CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+        UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d3;
+
+-- 슬롯 행이 없는 예약만 펼침(예약별 필요한 순번만 slot_offsets 범위 조회)
+INSERT INTO reservation_slots (room_cd, slot_start, resv_no)
+SELECT expanded.room_cd, expanded.slot_start, MIN(expanded.resv_no)
+  FROM (SELECT r.room_cd,
+               TIMESTAMPADD(MINUTE, 30 * n.i - MOD(MINUTE(r.start_time), 30), r.start_time) AS slot_start,
+               r.resv_no
+          FROM reservations r
+          JOIN slot_offsets n
+            ON n.i < TIMESTAMPDIFF(MINUTE, TIMESTAMPADD(MINUTE, -MOD(MINUTE(r.start_time), 30), r.start_time),
+                                   r.end_time) / 30
+         WHERE NOT EXISTS (SELECT 1 FROM reservation_slots s WHERE s.resv_no = r.resv_no)) expanded
+ WHERE NOT EXISTS (SELECT 1 FROM reservation_slots s
+                    WHERE s.room_cd = expanded.room_cd AND s.slot_start = expanded.slot_start)
+ GROUP BY expanded.room_cd, expanded.slot_start;
+
+DROP TABLE slot_offsets;
@@ -0,0 +1,11 @@
+-- monthly_cache_evictions 테이블(월간 예약 조회 캐시 초기화 기록)
+-- 예약 변경과 같은 트랜잭션에서 초기화한 (회의실 코드, 연월) 캐시 키를 저장하고,
+-- 다른 노드가 주기적으로 조회하여 자기 노드의 캐시를 비우고 ETag 버전을 올림(created_at 은 DB 시각)
+CREATE TABLE IF NOT EXISTS monthly_cache_evictions (
+    evict_no   BIGINT       AUTO_INCREMENT PRIMARY KEY,
+    cache_key  VARCHAR(80)  NOT NULL,
+    node_id    VARCHAR(36)  NOT NULL,
+    created_at DATETIME     NOT NULL
+);
+
+CREATE INDEX idx_monthly_cache_evictions_created ON monthly_cache_evictions (created_at);
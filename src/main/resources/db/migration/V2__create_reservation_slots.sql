@@ -0,0 +1,9 @@
+-- reservation_slots 테이블(회의실 30분 슬롯 점유, 중복 예약 방지)
+-- resv_no 인덱스는 외래키 생성 시 함께 생성됨
+CREATE TABLE IF NOT EXISTS reservation_slots (
+    room_cd    VARCHAR(50)    NOT NULL,
+    slot_start DATETIME       NOT NULL,
+    resv_no    BIGINT         NOT NULL,
+    PRIMARY KEY (room_cd, slot_start),
+    FOREIGN KEY (resv_no) REFERENCES reservations(resv_no)
+);
@@ -0,0 +1,5 @@
+-- 회의실 + 시간 범위 조회(일간/월간 조회, 중복 체크)
+CREATE INDEX idx_reservations_room_time ON reservations (room_cd, start_time, end_time);
+
+-- 사용자별 예약 조회
+CREATE INDEX idx_reservations_user_start ON reservations (user_id, start_time);
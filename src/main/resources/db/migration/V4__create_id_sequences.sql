@@ -0,0 +1,11 @@
+-- id_sequences 테이블(예약 번호 채번, 저장 전에 번호를 할당하여 insert 배치 처리)
+-- next_val 은 다음에 할당할 번호 블록의 시작값
+-- reservations.resv_no 의 AUTO_INCREMENT 는 SQL 로 직접 적재하는 경우를 위해 유지
+CREATE TABLE IF NOT EXISTS id_sequences (
+    seq_name VARCHAR(255) NOT NULL,
+    next_val BIGINT       NOT NULL,
+    PRIMARY KEY (seq_name)
+);
+
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'reservations', COALESCE(MAX(resv_no), 0) + 1 FROM reservations;
@@ -0,0 +1,25 @@
+-- reservation_series 테이블(반복 예약, 발생일은 조회 구간에서만 계산하여 저장하지 않음)
+-- rrule: FREQ=DAILY|WEEKLY;INTERVAL=n;BYDAY=MO,WE 형식
+CREATE TABLE IF NOT EXISTS reservation_series (
+    series_no  BIGINT         AUTO_INCREMENT PRIMARY KEY,
+    user_id    VARCHAR(50)    NOT NULL,
+    user_nm    VARCHAR(100)   NOT NULL,
+    room_cd    VARCHAR(50)    NOT NULL,
+    rrule      VARCHAR(100)   NOT NULL,
+    start_date DATE           NOT NULL,
+    until_date DATE           NOT NULL,
+    start_tm   TIME           NOT NULL,
+    end_tm     TIME           NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(user_id),
+    FOREIGN KEY (room_cd) REFERENCES meeting_rooms(room_cd)
+);
+
+CREATE INDEX idx_reservation_series_room_until ON reservation_series (room_cd, until_date);
+
+-- reservation_series_exdates 테이블(반복 예약 제외일)
+CREATE TABLE IF NOT EXISTS reservation_series_exdates (
+    series_no BIGINT NOT NULL,
+    ex_date   DATE   NOT NULL,
+    PRIMARY KEY (series_no, ex_date),
+    FOREIGN KEY (series_no) REFERENCES reservation_series(series_no)
+);
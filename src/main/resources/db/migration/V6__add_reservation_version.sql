@@ -0,0 +1,2 @@
+-- 예약 수정 낙관적 잠금 버전(수정 시마다 1 증가)
+ALTER TABLE reservations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
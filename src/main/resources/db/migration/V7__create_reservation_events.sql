@@ -0,0 +1,14 @@
+-- reservation_events 테이블(예약 등록/수정/삭제 이벤트 outbox)
+-- 예약 변경과 같은 트랜잭션에서 저장하고, relay 가 event_no 순으로 발행 후 published_at 을 기록
+CREATE TABLE IF NOT EXISTS reservation_events (
+    event_no     BIGINT       AUTO_INCREMENT PRIMARY KEY,
+    event_type   VARCHAR(20)  NOT NULL,
+    resv_no      BIGINT       NOT NULL,
+    room_cd      VARCHAR(50)  NOT NULL,
+    start_time   DATETIME     NOT NULL,
+    end_time     DATETIME     NOT NULL,
+    created_at   DATETIME     NOT NULL,
+    published_at DATETIME     NULL
+);
+
+CREATE INDEX idx_reservation_events_published ON reservation_events (published_at, event_no);
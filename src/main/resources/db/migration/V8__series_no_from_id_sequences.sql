@@ -0,0 +1,5 @@
+-- 반복 예약 번호도 id_sequences(reservations) 에서 할당(샤딩 사용 시 샤드 간 번호 중복 방지)
+-- 기존 반복 예약 번호와 겹치지 않도록 다음 번호를 조정
+UPDATE id_sequences
+   SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(series_no), 0) + 1 FROM reservation_series))
+ WHERE seq_name = 'reservations';
@@ -0,0 +1,8 @@
+-- replica_heartbeat 테이블(읽기 복제본 지연 확인)
+-- 주 DB 에 주기적으로 현재 시각(epoch ms)을 기록하고, 복제본에 복제된 값으로 복제 지연을 계산
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id      INT    PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0);
@@ -0,0 +1,221 @@
+package meeting.meeting_room_reservation.controller;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import meeting.meeting_room_reservation.MeetingRoomReservationApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 서블릿(Tomcat 플랫폼 스레드 풀 / 가상 스레드)과 반응형(reactive 프로필, WebFlux + R2DBC) 부하 비교
+ * ./gradlew benchmarkTest --tests '*ReactiveLoadBenchmarkTest' -Dbenchmark.concurrency=1000 -Dbenchmark.db-latency-ms=20
+ *
+ * 일간 조회, 월간 조회, 예약 등록을 번갈아 요청합니다.
+ * H2 는 네트워크 왕복이 없으므로 JDBC 는 SQL 실행마다 스레드를 대기시키고, R2DBC 는 스레드 대기 없이 결과를 늦춰 원격 DB 를 흉내냅니다.
+ */
+@Tag("benchmark")
+class ReactiveLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 21);
+    private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 10);
+    private static final String[] ROOM_CDS = {"A101", "B202", "C303"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final DateTimeFormatter REQUEST_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Test
+    @DisplayName("서블릿/반응형 처리량, 지연시간, 플랫폼 스레드 수")
+    void servletReactiveBenchmark() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (String mode : new String[]{"platform", "virtual", "reactive"}) {
+            rows.add(run(mode));
+        }
+
+        System.out.printf("%n===== 동시 사용자 %,d명 x %,d건, SQL 지연 %dms =====%n", CONCURRENCY, REQUESTS, DB_LATENCY_MS);
+        System.out.printf("%-9s %10s %10s %10s %8s %14s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "errors", "peak threads");
+        rows.forEach(System.out::println);
+    }
+
+    private String run(String mode) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                "--spring.datasource.url=jdbc:h2:mem:reactive-load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        if (mode.equals("reactive")) {
+            // 같은 JVM 의 같은 이름 H2 메모리 DB 를 R2DBC 로 조회
+            args.addAll(List.of(
+                    "--spring.profiles.active=reactive",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///reactive-load-" + mode + ";DB_CLOSE_DELAY=-1",
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password="));
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MeetingRoomReservationApplication.class,
+                                                                                   ReservationLoadBenchmarkTest.DbLatencyConfig.class,
+                                                                                   R2dbcLatencyConfig.class)
+                .run(args.toArray(String[]::new))) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            AtomicInteger errors = new AtomicInteger();
+
+            // 부하 발생 측은 가상 스레드로 실행하여 측정 대상 스레드 수에 영향을 주지 않음
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder().executor(clients).build();
+
+                // 워밍업
+                send(httpClient, port, 0, 0, errors);
+                errors.set(0);
+                threads.resetPeakThreadCount();
+
+                long begin = System.nanoTime();
+                List<Future<long[]>> futures = new ArrayList<>();
+                for (int client = 0; client < CONCURRENCY; client++) {
+                    int clientNo = client;
+                    futures.add(clients.submit(() -> {
+                        long[] elapsed = new long[REQUESTS];
+                        for (int i = 0; i < REQUESTS; i++) {
+                            long start = System.nanoTime();
+                            send(httpClient, port, clientNo, i, errors);
+                            elapsed[i] = System.nanoTime() - start;
+                        }
+                        return elapsed;
+                    }));
+                }
+
+                long[] latencies = new long[CONCURRENCY * REQUESTS];
+                for (int i = 0; i < futures.size(); i++) {
+                    System.arraycopy(futures.get(i).get(), 0, latencies, i * REQUESTS, REQUESTS);
+                }
+                double seconds = (System.nanoTime() - begin) / 1e9;
+
+                Arrays.sort(latencies);
+                // 요청마다 겹치지 않는 시간대를 사용하므로 모든 요청이 200 이어야 함
+                assertThat(errors.get()).as("%s 오류 응답 수", mode).isZero();
+                return String.format("%-9s %10.0f %10.1f %10.1f %8d %14d", mode, latencies.length / seconds,
+                                     latencies[latencies.length / 2] / 1e6,
+                                     latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6,
+                                     errors.get(), threads.getPeakThreadCount());
+            }
+        }
+    }
+
+    // 일간 조회, 월간 조회, 예약 등록(클라이언트, 회차별로 겹치지 않는 30분)을 번갈아 요청
+    private void send(HttpClient httpClient, int port, int clientNo, int i, AtomicInteger errors) throws Exception {
+        int seq = clientNo * REQUESTS + i;
+        String roomCd = ROOM_CDS[seq % ROOM_CDS.length];
+        LocalDateTime start = BASE.plusMinutes(30L * (seq / ROOM_CDS.length));
+        String baseUrl = "http://localhost:" + port + "/meeting-rooms";
+
+        HttpRequest request = switch (i % 3) {
+            case 0 -> HttpRequest.newBuilder(URI.create(baseUrl + "/reservations/daily?roomCd=" + roomCd
+                                                        + "&date=" + start.format(DateTimeFormatter.BASIC_ISO_DATE)))
+                                 .GET().build();
+            case 1 -> HttpRequest.newBuilder(URI.create(baseUrl + "/reservations/monthly?roomCd=" + roomCd
+                                                        + "&date=" + start.format(DateTimeFormatter.ofPattern("yyyyMM"))))
+                                 .GET().build();
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/reservations"))
+                                  .header("Content-Type", "application/json")
+                                  .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                                          "{\"userId\":\"e101010\",\"roomCd\":\"%s\",\"startTime\":\"%s\",\"endTime\":\"%s\"}",
+                                          roomCd, start.format(REQUEST_TIME), start.plusMinutes(30).format(REQUEST_TIME))))
+                                  .build();
+        };
+
+        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * R2DBC 쿼리 실행마다 원격 DB 왕복 시간만큼 결과를 늦춤(스레드는 대기하지 않음)
+     * (다른 테스트의 컴포넌트 스캔에 포함되지 않도록 @Configuration 을 붙이지 않음)
+     */
+    static class R2dbcLatencyConfig {
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        static BeanPostProcessor r2dbcLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof ConnectionFactory connectionFactory) || DB_LATENCY_MS <= 0) {
+                        return bean;
+                    }
+                    return proxy(ConnectionFactory.class, connectionFactory, (method, result) ->
+                            method.getName().equals("create")
+                                    ? Mono.from((Publisher<? extends Connection>) result).map(R2dbcLatencyConfig::delayed)
+                                    : result);
+                }
+            };
+        }
+
+        private static Connection delayed(Connection connection) {
+            return proxy(Connection.class, connection, (method, result) ->
+                    result instanceof Statement statement ? delayed(statement) : result);
+        }
+
+        // bind, add 등 자기 자신을 반환하는 메서드는 지연 대상 Statement 를 유지
+        private static Statement delayed(Statement statement) {
+            return proxy(Statement.class, statement, (method, result) -> {
+                if (method.getName().equals("execute")) {
+                    return Flux.from((Publisher<?>) result).delaySubscription(Duration.ofMillis(DB_LATENCY_MS));
+                }
+                return result == statement ? delayed(statement) : result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        try {
+                            return mapper.map(method, method.invoke(target, args));
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        private interface ResultMapper {
+            Object map(java.lang.reflect.Method method, Object result);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package meeting.meeting_room_reservation.controller;
+
+import meeting.meeting_room_reservation.MeetingRoomReservationApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 방식(Tomcat 플랫폼 스레드 풀 / 가상 스레드)별 부하 비교
+ * ./gradlew benchmarkTest --tests '*ReservationLoadBenchmarkTest' -Dbenchmark.concurrency=1000 -Dbenchmark.db-latency-ms=20
+ *
+ * H2 는 네트워크 왕복이 없으므로 SQL 실행마다 db-latency-ms 만큼 대기시켜 원격 DB 를 흉내냅니다.
+ */
+@Tag("benchmark")
+class ReservationLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20);
+    private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 10);
+    private static final String[] ROOM_CDS = {"A101", "B202", "C303"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final DateTimeFormatter REQUEST_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Test
+    @DisplayName("요청 처리 방식별 처리량, 지연시간, 플랫폼 스레드 수")
+    void executionModeBenchmark() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            rows.add(run(virtual));
+        }
+
+        System.out.printf("%n===== 동시 사용자 %,d명 x %,d건, SQL 지연 %dms =====%n", CONCURRENCY, REQUESTS, DB_LATENCY_MS);
+        System.out.printf("%-9s %10s %10s %10s %8s %14s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "errors", "peak threads");
+        rows.forEach(System.out::println);
+    }
+
+    private String run(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MeetingRoomReservationApplication.class,
+                                                                                   DbLatencyConfig.class)
+                .run("--server.port=0",
+                     "--spring.threads.virtual.enabled=" + virtual,
+                     "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                     "--spring.datasource.driver-class-name=org.h2.Driver",
+                     "--spring.datasource.username=sa",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                     "--spring.jpa.show-sql=false",
+                     "--logging.level.root=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            AtomicInteger errors = new AtomicInteger();
+
+            // 부하 발생 측은 가상 스레드로 실행하여 측정 대상 스레드 수에 영향을 주지 않음
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder().executor(clients).build();
+
+                // 워밍업
+                send(httpClient, port, 0, 0, errors);
+                errors.set(0);
+                threads.resetPeakThreadCount();
+
+                long begin = System.nanoTime();
+                List<Future<long[]>> futures = new ArrayList<>();
+                for (int client = 0; client < CONCURRENCY; client++) {
+                    int clientNo = client;
+                    futures.add(clients.submit(() -> {
+                        long[] elapsed = new long[REQUESTS];
+                        for (int i = 0; i < REQUESTS; i++) {
+                            long start = System.nanoTime();
+                            send(httpClient, port, clientNo, i, errors);
+                            elapsed[i] = System.nanoTime() - start;
+                        }
+                        return elapsed;
+                    }));
+                }
+
+                long[] latencies = new long[CONCURRENCY * REQUESTS];
+                for (int i = 0; i < futures.size(); i++) {
+                    System.arraycopy(futures.get(i).get(), 0, latencies, i * REQUESTS, REQUESTS);
+                }
+                double seconds = (System.nanoTime() - begin) / 1e9;
+
+                Arrays.sort(latencies);
+                assertThat(errors.get()).isLessThan(latencies.length);
+                return String.format("%-9s %10.0f %10.1f %10.1f %8d %14d", mode, latencies.length / seconds,
+                                     latencies[latencies.length / 2] / 1e6,
+                                     latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6,
+                                     errors.get(), threads.getPeakThreadCount());
+            }
+        }
+    }
+
+    // 일간 조회, 예약 가능 시간 조회, 예약 등록(클라이언트, 회차별로 겹치지 않는 30분)을 번갈아 요청
+    private void send(HttpClient httpClient, int port, int clientNo, int i, AtomicInteger errors) throws Exception {
+        int seq = clientNo * REQUESTS + i;
+        String roomCd = ROOM_CDS[seq % ROOM_CDS.length];
+        LocalDateTime start = BASE.plusMinutes(30L * (seq / ROOM_CDS.length));
+        String baseUrl = "http://localhost:" + port + "/meeting-rooms";
+
+        HttpRequest request = switch (i % 3) {
+            case 0 -> HttpRequest.newBuilder(URI.create(baseUrl + "/reservations/daily?roomCd=" + roomCd
+                                                        + "&date=" + start.format(DateTimeFormatter.BASIC_ISO_DATE)))
+                                 .GET().build();
+            case 1 -> HttpRequest.newBuilder(URI.create(baseUrl + "/availability?roomCd=" + roomCd
+                                                        + "&from=" + start.format(DateTimeFormatter.BASIC_ISO_DATE)
+                                                        + "&to=" + start.plusDays(6).format(DateTimeFormatter.BASIC_ISO_DATE)))
+                                 .GET().build();
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/reservations"))
+                                  .header("Content-Type", "application/json")
+                                  .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                                          "{\"userId\":\"e101010\",\"roomCd\":\"%s\",\"startTime\":\"%s\",\"endTime\":\"%s\"}",
+                                          roomCd, start.format(REQUEST_TIME), start.plusMinutes(30).format(REQUEST_TIME))))
+                                  .build();
+        };
+
+        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * SQL 실행마다 원격 DB 왕복 시간만큼 대기(커넥션을 잡은 채 대기)
+     * (다른 테스트의 컴포넌트 스캔에 포함되지 않도록 @Configuration 을 붙이지 않음)
+     */
+    static class DbLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor dbLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || DB_LATENCY_MS <= 0) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws java.sql.SQLException {
+                            return delayed(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection delayed(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement) {
+                            return delayed(statement);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement delayed(PreparedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            Thread.sleep(DB_LATENCY_MS);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package meeting.meeting_room_reservation.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 예약 번호 AUTO_INCREMENT 제거, 채번 테이블 다음 번호 조정(V12) 확인
+ */
+class ReservationNoMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:resv-no;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("예약 번호 채번 - 이전 직접 적재분 이후로 다음 번호 조정, 번호 없는 직접 적재는 실패")
+    void resvNoMigrationTest() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2")
+              .target("11").load().migrate();
+
+        // 채번 테이블을 거치지 않고 AUTO_INCREMENT 로 직접 적재된 예약
+        jdbcTemplate.update("INSERT INTO reservations (user_id, user_nm, room_cd, start_time, end_time)"
+                            + " VALUES ('e101010', '김재원', 'A101', ?, ?)",
+                            Timestamp.valueOf(LocalDateTime.of(2025, 3, 4, 9, 0)),
+                            Timestamp.valueOf(LocalDateTime.of(2025, 3, 4, 10, 0)));
+        Long loaded = jdbcTemplate.queryForObject("SELECT MAX(resv_no) FROM reservations", Long.class);
+
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2")
+              .load().migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM id_sequences WHERE seq_name = 'reservations'",
+                                               Long.class)).isGreaterThan(loaded);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO reservations (user_id, user_nm, room_cd, start_time, end_time)"
+                + " VALUES ('e101010', '김재원', 'A101', ?, ?)",
+                Timestamp.valueOf(LocalDateTime.of(2025, 3, 5, 9, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2025, 3, 5, 10, 0))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package meeting.meeting_room_reservation.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 예약 조회 쿼리 실행 계획 및 지연시간 측정(대용량)
+ * ./gradlew benchmarkTest -Dbenchmark.rows=1000000
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchdb;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class ReservationQueryBenchmarkTest {
+
+    private static final int ROW_CNT = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ROOM_CNT = 50;
+    private static final String[] USER_IDS = {"e101010", "e202020", "e303030", "e404040"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 500;
+    private static final int FULL_SCAN_ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void loadReservations() {
+        List<Object[]> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOM_CNT; i++) {
+            rooms.add(new Object[]{roomCd(i), "회의실" + i, 10});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meeting_rooms (room_cd, room_nm, capacity) VALUES (?, ?, ?)", rooms);
+
+        // 회의실별로 1시간 단위 예약을 연속 생성
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < ROW_CNT; i++) {
+            LocalDateTime start = BASE.plusHours(i / ROOM_CNT);
+            batch.add(new Object[]{i + 1L, USER_IDS[i % USER_IDS.length], "사용자", roomCd(i % ROOM_CNT),
+                                   Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1))});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("예약 조회 쿼리 실행 계획 및 지연시간")
+    void reservationQueryBenchmark() {
+        // 같은 조건 반복 시 DB 결과 캐시가 사용되지 않도록 회차마다 회의실, 일자를 바꿔 조회
+        int days = Math.max(1, ROW_CNT / ROOM_CNT / 24 - 31);
+        List<QueryCase> queries = List.of(
+                new QueryCase("daily", "SELECT resv_no, user_nm, room_cd, start_time, end_time FROM reservations"
+                                       + " WHERE room_cd = ? AND start_time BETWEEN ? AND ?",
+                              i -> new Object[]{roomCd(i % ROOM_CNT), at(i % days, 0), at(i % days + 1, 0)}),
+                new QueryCase("monthly", "SELECT resv_no, user_nm, room_cd, start_time, end_time FROM reservations"
+                                         + " WHERE room_cd = ? AND start_time BETWEEN ? AND ?",
+                              i -> new Object[]{roomCd(i % ROOM_CNT), at(i % days, 0), at(i % days + 31, 0)}),
+                new QueryCase("overlap", "SELECT COUNT(*) FROM reservations"
+                                         + " WHERE room_cd = ? AND start_time < ? AND end_time > ?",
+                              i -> new Object[]{roomCd(i % ROOM_CNT), at(i % days, 11), at(i % days, 10)}),
+                new QueryCase("user", "SELECT resv_no, room_cd, start_time, end_time FROM reservations"
+                                      + " WHERE user_id = ? AND start_time >= ? ORDER BY start_time LIMIT 20",
+                              i -> new Object[]{USER_IDS[i % USER_IDS.length], at(i % days, 0)})
+        );
+
+        System.out.printf("%n===== reservations %,d건 =====%n", ROW_CNT);
+
+        Map<String, double[]> withIndex = new LinkedHashMap<>();
+        for (QueryCase query : queries) {
+            String plan = explain(query);
+            System.out.printf("%n[%s] %s%nPLAN: %s%n", query.name(), query.sql(), plan.replaceAll("\\s+", " "));
+            assertThat(plan.toUpperCase()).containsAnyOf("IDX_RESERVATIONS_ROOM_TIME", "IDX_RESERVATIONS_USER_START");
+            withIndex.put(query.name(), measure(query, ITERATIONS));
+        }
+
+        // 복합 인덱스 제거 후(외래키 인덱스만 존재) 비교
+        jdbcTemplate.execute("DROP INDEX idx_reservations_room_time");
+        jdbcTemplate.execute("DROP INDEX idx_reservations_user_start");
+        Map<String, double[]> withoutIndex = new LinkedHashMap<>();
+        for (QueryCase query : queries) {
+            withoutIndex.put(query.name(), measure(query, FULL_SCAN_ITERATIONS));
+        }
+        jdbcTemplate.execute("CREATE INDEX idx_reservations_room_time ON reservations (room_cd, start_time, end_time)");
+        jdbcTemplate.execute("CREATE INDEX idx_reservations_user_start ON reservations (user_id, start_time)");
+
+        System.out.printf("%n%-8s %14s %14s %14s %14s%n", "query", "idx avg(us)", "idx p99(us)", "fk avg(us)", "fk p99(us)");
+        for (QueryCase query : queries) {
+            double[] a = withIndex.get(query.name());
+            double[] b = withoutIndex.get(query.name());
+            System.out.printf("%-8s %14.1f %14.1f %14.1f %14.1f%n", query.name(), a[0], a[1], b[0], b[1]);
+        }
+    }
+
+    // 평균, p99 지연시간(마이크로초)
+    private double[] measure(QueryCase query, int iterations) {
+        for (int i = 0; i < Math.min(WARMUP, iterations); i++) {
+            jdbcTemplate.queryForList(query.sql(), query.args().apply(i));
+        }
+        long[] elapsed = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            Object[] args = query.args().apply(WARMUP + i);
+            long begin = System.nanoTime();
+            jdbcTemplate.queryForList(query.sql(), args);
+            elapsed[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(elapsed);
+        return new double[]{Arrays.stream(elapsed).average().orElse(0) / 1_000,
+                            elapsed[(int) Math.ceil(iterations * 0.99) - 1] / 1_000.0};
+    }
+
+    private String explain(QueryCase query) {
+        return String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.args().apply(0)));
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (resv_no, user_id, user_nm, room_cd, start_time, end_time)"
+                                 + " VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static String roomCd(int no) {
+        return String.format("R%03d", no);
+    }
+
+    private static Timestamp at(int day, int hour) {
+        return Timestamp.valueOf(BASE.plusDays(day).plusHours(hour));
+    }
+
+    private record QueryCase(String name, String sql, IntFunction<Object[]> args) {
+    }
+}
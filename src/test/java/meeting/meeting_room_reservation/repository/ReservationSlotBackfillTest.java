@@ -0,0 +1,53 @@
+package meeting.meeting_room_reservation.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 슬롯 테이블(V2) 이전부터 있던 예약의 슬롯 점유 행 생성(V11) 확인
+ */
+class ReservationSlotBackfillTest {
+
+    private static final String URL = "jdbc:h2:mem:slot-backfill;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("기존 예약 슬롯 생성 - 30분 단위로 펼치고, 이미 겹치는 예약은 예약 번호가 작은 예약이 점유")
+    void backfillTest() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2").target("1").load().migrate();
+
+        // 슬롯 테이블 도입 전 예약(마지막 예약은 앞선 예약과 10:00 ~ 10:30 이 겹침)
+        insertReservation(jdbcTemplate, 1L, "A101", LocalDateTime.of(2025, 3, 4, 9, 0), LocalDateTime.of(2025, 3, 4, 10, 30));
+        insertReservation(jdbcTemplate, 2L, "B202", LocalDateTime.of(2025, 3, 4, 13, 30), LocalDateTime.of(2025, 3, 4, 14, 0));
+        insertReservation(jdbcTemplate, 3L, "A101", LocalDateTime.of(2025, 3, 4, 10, 0), LocalDateTime.of(2025, 3, 4, 11, 0));
+
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2").load().migrate();
+
+        List<Map<String, Object>> slots = jdbcTemplate.queryForList(
+                "SELECT room_cd, slot_start, resv_no FROM reservation_slots ORDER BY room_cd, slot_start");
+        assertThat(slots).extracting(slot -> slot.get("ROOM_CD") + " " + ((Timestamp) slot.get("SLOT_START")).toLocalDateTime()
+                                             + " " + slot.get("RESV_NO"))
+                         .containsExactly("A101 2025-03-04T09:00 1",
+                                          "A101 2025-03-04T09:30 1",
+                                          "A101 2025-03-04T10:00 1",
+                                          "A101 2025-03-04T10:30 3",
+                                          "B202 2025-03-04T13:30 2");
+    }
+
+    private void insertReservation(JdbcTemplate jdbcTemplate, Long resvNo, String roomCd,
+                                   LocalDateTime start, LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO reservations (resv_no, user_id, user_nm, room_cd, start_time, end_time)"
+                            + " VALUES (?, 'e101010', '김재원', ?, ?, ?)",
+                            resvNo, roomCd, Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+}
@@ -0,0 +1,581 @@
+package meeting.meeting_room_reservation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import meeting.meeting_room_reservation.config.CacheConfig;
+import meeting.meeting_room_reservation.domain.MeetingRoom;
+import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvChangeDto;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvEventDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
+import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationCursorRepository;
+import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import meeting.meeting_room_reservation.repository.ReservationSlotRepository;
+import meeting.meeting_room_reservation.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "reservation.outbox.enabled=true"
+})
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+
+    private static final int THREAD_CNT = 64;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ReservationSeriesRepository reservationSeriesRepository;
+
+    @Autowired
+    private ReservationIndex reservationIndex;
+
+    @Autowired
+    private ReservationSeriesService reservationSeriesService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ResvNoSequence resvNoSequence;
+
+    @Autowired
+    private ReservationCursorRepository reservationCursorRepository;
+
+    @Autowired
+    private RoomCapacityIndex roomCapacityIndex;
+
+    @Autowired
+    private UserBookingQuota userBookingQuota;
+
+    @Autowired
+    private SlotHolds slotHolds;
+
+    @Autowired
+    private ReservationMetrics reservationMetrics;
+
+    @Autowired
+    private ReservationChangePublisher reservationChangePublisher;
+
+    @Autowired
+    private ReservationEventOutbox reservationEventOutbox;
+
+    @Autowired
+    private ReservationEventRelay reservationEventRelay;
+
+    @Autowired
+    private InMemoryReservationEventBroker reservationEventBroker;
+
+    @Autowired
+    private ReservationShards reservationShards;
+
+    @Autowired
+    private ReplicaReadRouting replicaReadRouting;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> roomCds = List.of("A101", "B202", "C303");
+    private final List<String> roomNms = List.of("대회의실", "소회의실", "큐빅룸");
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                                .userId("e101010")
+                                .userNm("김재원")
+                                .email("e101010@gmail.com")
+                                .password("pwd10")
+                                .build());
+        for (int i = 0; i < roomCds.size(); i++) {
+            meetingRoomRepository.save(MeetingRoom.builder()
+                                                  .roomCd(roomCds.get(i))
+                                                  .roomNm(roomNms.get(i))
+                                                  .capacity(10)
+                                                  .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationSlotRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        reservationIndex.load();
+    }
+
+    @Test
+    @DisplayName("동일 시간대 동시 예약 - 1건만 성공")
+    void sameSlotConcurrentTest() throws Exception {
+        ResvDto resv = resvDto("A101", LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 1, 11, 0));
+
+        AtomicInteger success = runConcurrently(i -> reservationService.saveReservation(resv));
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 회의실, 겹치는 시간대 동시 예약 - 중복 예약 없음")
+    void overlappingSlotsConcurrentTest() throws Exception {
+        AtomicInteger success = runConcurrently(i -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDateTime start = LocalDateTime.of(2025, 7, 2, 9, 0).plusMinutes(30L * random.nextInt(16));
+            LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(4)));
+            reservationService.saveReservation(resvDto(roomCds.get(i % roomCds.size()), start, end));
+        });
+
+        assertThat(success.get()).isPositive();
+        assertNoDoubleBooking();
+    }
+
+    @Test
+    @DisplayName("다른 노드(별도 인덱스, 별도 락)와 동시 예약 - DB 슬롯 키로 1건만 성공")
+    void crossNodeConcurrentTest() throws Exception {
+        // 다른 노드를 흉내내기 위해 인덱스와 락을 공유하지 않는 서비스 생성
+        ReservationRepository emptyRepository = mock(ReservationRepository.class);
+        when(emptyRepository.findAllSlots()).thenReturn(List.of());
+        ReservationIndex otherIndex = new ReservationIndex(emptyRepository, mock(ReservationSeriesRepository.class),
+                                                           reservationShards);
+        otherIndex.load();
+        ReservationService otherNode = new ReservationService(userRepository, meetingRoomRepository,
+                                                              reservationRepository, reservationSlotRepository,
+                                                              reservationSeriesRepository, otherIndex, new RoomLockStripes(16),
+                                                              new MonthlyResvCache(new ConcurrentMapCacheManager()),
+                                                              resvNoSequence, reservationMetrics,
+                                                              reservationChangePublisher, reservationEventOutbox,
+                                                              reservationShards, reservationCursorRepository,
+                                                              roomCapacityIndex, userBookingQuota, slotHolds);
+
+        ResvDto resv = resvDto("B202", LocalDateTime.of(2025, 7, 3, 14, 0), LocalDateTime.of(2025, 7, 3, 15, 30));
+
+        AtomicInteger success = runConcurrently(i -> {
+            ReservationService node = i % 2 == 0 ? reservationService : otherNode;
+            transactionTemplate.executeWithoutResult(status -> node.saveReservation(resv));
+        });
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(reservationSlotRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록/삭제한 예약 - 사용자별 예약 건수 재적재 시 DB 기준으로 보정하여 제한")
+    void crossNodeBookingQuotaTest() {
+        // 예약 등록 전에 적재한 다른 노드의 건수(재적재 주기 없이 직접 재적재)
+        UserBookingQuota otherQuota = new UserBookingQuota(reservationRepository, reservationShards, 2, 0);
+        otherQuota.load();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        ResvResponseDto first = reservationService.saveReservation(resvDto("A101", start, start.plusHours(1)));
+        reservationService.saveReservation(resvDto("B202", start, start.plusHours(1)));
+        assertThat(otherQuota.activeCount("e101010")).isZero();
+
+        otherQuota.load();
+        assertThat(otherQuota.activeCount("e101010")).isEqualTo(2);
+        assertThat(otherQuota.allows("e101010", 1)).isFalse();
+
+        reservationService.deleteReservation(first.getResvNo());
+        otherQuota.load();
+        assertThat(otherQuota.activeCount("e101010")).isEqualTo(1);
+        assertThat(otherQuota.allows("e101010", 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록/삭제한 반복 예약 - 인덱스 재적재 없이 예약 대기, 단건 예약 시 DB 기준으로 확인")
+    void crossNodeSeriesTest() {
+        // 반복 예약 등록 전에 적재한 다른 노드의 인덱스
+        ReservationIndex otherIndex = new ReservationIndex(reservationRepository, reservationSeriesRepository,
+                                                           reservationShards);
+        otherIndex.load();
+        ReservationService otherNode = new ReservationService(userRepository, meetingRoomRepository,
+                                                              reservationRepository, reservationSlotRepository,
+                                                              reservationSeriesRepository, otherIndex, new RoomLockStripes(16),
+                                                              new MonthlyResvCache(new ConcurrentMapCacheManager()),
+                                                              resvNoSequence, reservationMetrics,
+                                                              reservationChangePublisher, reservationEventOutbox,
+                                                              reservationShards, reservationCursorRepository,
+                                                              roomCapacityIndex, userBookingQuota, slotHolds);
+        ReservationHoldService otherHolds = new ReservationHoldService(otherNode, userRepository, meetingRoomRepository,
+                                                                       reservationRepository, otherIndex,
+                                                                       reservationShards, slotHolds);
+
+        ResvSeriesResponseDto series = reservationSeriesService.saveSeries(ResvSeriesDto.builder()
+                                                                                        .userId("e101010")
+                                                                                        .roomCd("A101")
+                                                                                        .rrule("FREQ=DAILY")
+                                                                                        .startDate(LocalDate.of(2025, 8, 4))
+                                                                                        .untilDate(LocalDate.of(2025, 8, 8))
+                                                                                        .startTime(LocalTime.of(10, 0))
+                                                                                        .endTime(LocalTime.of(11, 0))
+                                                                                        .build());
+        try {
+            ResvDto resv = resvDto("A101", LocalDateTime.of(2025, 8, 6, 10, 30), LocalDateTime.of(2025, 8, 6, 11, 30));
+            assertThatThrownBy(() -> otherHolds.holdSlot(resv)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> otherNode.saveReservation(resv)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(reservationRepository.count()).isZero();
+        } finally {
+            reservationSeriesService.deleteSeries(series.getSeriesNo());
+        }
+
+        // 삭제된 반복 예약은 다른 노드에서도 더 이상 중복으로 보지 않음
+        transactionTemplate.executeWithoutResult(status -> otherNode.saveReservation(
+                resvDto("A101", LocalDateTime.of(2025, 8, 6, 10, 30), LocalDateTime.of(2025, 8, 6, 11, 30))));
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제한 예약 - 같은 시간대 재예약 시 DB 로 확인하여 성공, 초기화 기록 반영 시 인덱스에서도 제거")
+    void crossNodeDeleteTest() {
+        ResvResponseDto saved = reservationService.saveReservation(
+                resvDto("C303", LocalDateTime.of(2025, 11, 5, 13, 0), LocalDateTime.of(2025, 11, 5, 14, 0)));
+        ResvResponseDto other = reservationService.saveReservation(
+                resvDto("C303", LocalDateTime.of(2025, 11, 6, 13, 0), LocalDateTime.of(2025, 11, 6, 14, 0)));
+
+        // 예약 삭제 전에 적재한 다른 노드의 인덱스
+        ReservationIndex otherIndex = new ReservationIndex(reservationRepository, reservationSeriesRepository,
+                                                           reservationShards);
+        otherIndex.load();
+        ReservationService otherNode = new ReservationService(userRepository, meetingRoomRepository,
+                                                              reservationRepository, reservationSlotRepository,
+                                                              reservationSeriesRepository, otherIndex, new RoomLockStripes(16),
+                                                              new MonthlyResvCache(new ConcurrentMapCacheManager()),
+                                                              resvNoSequence, reservationMetrics,
+                                                              reservationChangePublisher, reservationEventOutbox,
+                                                              reservationShards, reservationCursorRepository,
+                                                              roomCapacityIndex, userBookingQuota, slotHolds);
+        MonthlyResvCacheSync otherSync = new MonthlyResvCacheSync(
+                new MonthlyResvCache(new ConcurrentMapCacheManager(), jdbcTemplate), otherIndex, replicaReadRouting,
+                reservationChangePublisher, jdbcTemplate, reservationShards, 3_600_000, 60);
+
+        try {
+            // 이 노드에서 삭제한 시간대를 다른 노드에서 다시 예약
+            reservationService.deleteReservation(saved.getResvNo());
+            ResvResponseDto rebooked = transactionTemplate.execute(status -> otherNode.saveReservation(
+                    resvDto("C303", LocalDateTime.of(2025, 11, 5, 13, 0), LocalDateTime.of(2025, 11, 5, 14, 0))));
+            assertThat(rebooked.getResvNo()).isNotEqualTo(saved.getResvNo());
+            assertThat(otherIndex.hasOverlap("C303", LocalDateTime.of(2025, 11, 5, 13, 0),
+                                             LocalDateTime.of(2025, 11, 5, 14, 0), rebooked.getResvNo())).isFalse();
+
+            // 조회용 인덱스는 초기화 기록 반영 시 DB 와 동기화
+            reservationService.deleteReservation(other.getResvNo());
+            assertThat(otherIndex.hasOverlap("C303", LocalDateTime.of(2025, 11, 6, 13, 0),
+                                             LocalDateTime.of(2025, 11, 6, 14, 0), null)).isTrue();
+            otherSync.sync(0);
+            assertThat(otherIndex.hasOverlap("C303", LocalDateTime.of(2025, 11, 6, 13, 0),
+                                             LocalDateTime.of(2025, 11, 6, 14, 0), null)).isFalse();
+        } finally {
+            otherSync.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경한 월간 예약 - 초기화 기록을 반영하여 캐시 갱신(이동 전/후 회의실, 월 모두), 변경 구독자에게 알림")
+    void crossNodeMonthlyCacheTest() {
+        // 캐시, 변경 알림을 공유하지 않는 다른 노드(주기 반영, 전송 대신 직접 반영, 전송)
+        ConcurrentMapCacheManager otherCacheManager = new ConcurrentMapCacheManager();
+        MonthlyResvCache otherCache = new MonthlyResvCache(otherCacheManager, jdbcTemplate);
+        ReservationChangePublisher otherPublisher = new ReservationChangePublisher(new SimpleMeterRegistry(),
+                                                                                   3_600_000, 3_600, 60, 92, 64);
+        MonthlyResvCacheSync otherSync = new MonthlyResvCacheSync(otherCache, reservationIndex, replicaReadRouting,
+                                                                  otherPublisher, jdbcTemplate,
+                                                                  reservationShards, 3_600_000, 60);
+        Cache cache = otherCacheManager.getCache(CacheConfig.MONTHLY_RESV_LIST);
+        cache.put("A101:202509", List.of());
+        cache.put("B202:202510", List.of());
+        CapturingEmitter subscriber = new CapturingEmitter();
+        otherPublisher.register("A101", LocalDate.of(2025, 9, 10), LocalDate.of(2025, 9, 10), subscriber);
+
+        try {
+            ResvResponseDto saved = reservationService.saveReservation(
+                    resvDto("A101", LocalDateTime.of(2025, 9, 10, 9, 0), LocalDateTime.of(2025, 9, 10, 10, 0)));
+            otherSync.sync(0);
+            assertThat(cache.get("A101:202509")).isNull();
+            otherPublisher.flush();
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(subscriber.changes)
+                    .anySatisfy(change -> {
+                        assertThat(change.getRoomCd()).isEqualTo("A101");
+                        assertThat(change.getFromDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+                        assertThat(change.getToDate()).isEqualTo(LocalDate.of(2025, 9, 30));
+                    }));
+
+            // 다른 회의실, 다른 월로 변경하면 이동 전 월도 초기화
+            cache.put("A101:202509", List.of(saved));
+            reservationService.modifyReservation(saved.getResvNo(),
+                    resvDto("B202", LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0)));
+            assertThat(otherSync.sync(0)).isPositive();
+            assertThat(cache.get("A101:202509")).isNull();
+            assertThat(cache.get("B202:202510")).isNull();
+
+            // 이미 반영한 기록은 다시 반영하지 않음(다시 채운 캐시 유지)
+            cache.put("B202:202510", List.of());
+            assertThat(otherSync.sync(0)).isZero();
+            assertThat(cache.get("B202:202510")).isNotNull();
+        } finally {
+            otherSync.destroy();
+            otherPublisher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 동시 예약 수정 - 1건만 성공, 나머지는 충돌")
+    void sameVersionConcurrentModifyTest() throws Exception {
+        ResvResponseDto saved = reservationService.saveReservation(
+                resvDto("C303", LocalDateTime.of(2025, 7, 4, 9, 0), LocalDateTime.of(2025, 7, 4, 10, 0)));
+
+        AtomicInteger success = runConcurrently(i -> {
+            LocalDateTime start = LocalDateTime.of(2025, 7, 4, 10, 0).plusMinutes(30L * (i % 16));
+            ResvDto resv = resvDto("C303", start, start.plusMinutes(30));
+            reservationService.modifyReservation(saved.getResvNo(), ResvDto.builder()
+                                                                           .userId(resv.getUserId())
+                                                                           .roomCd(resv.getRoomCd())
+                                                                           .startTime(resv.getStartTime())
+                                                                           .endTime(resv.getEndTime())
+                                                                           .version(saved.getVersion())
+                                                                           .build());
+        });
+
+        assertThat(success.get()).isEqualTo(1);
+        ResvResponseDto current = reservationService.selectReservation(saved.getResvNo());
+        assertThat(current.getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThat(reservationSlotRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 변경 알림 - 커밋된 변경만 회의실별로 병합하여 구독 기간이 겹치는 구독자에게 전송")
+    void reservationChangePublishTest() {
+        // 전송 주기를 길게 두고 직접 전송하여 병합 결과 확인
+        ReservationChangePublisher publisher = new ReservationChangePublisher(new SimpleMeterRegistry(), 3_600_000, 3_600, 60, 92, 64);
+        ReservationService node = new ReservationService(userRepository, meetingRoomRepository,
+                                                         reservationRepository, reservationSlotRepository,
+                                                         reservationSeriesRepository, reservationIndex, new RoomLockStripes(16),
+                                                         new MonthlyResvCache(new ConcurrentMapCacheManager()),
+                                                         resvNoSequence, reservationMetrics, publisher,
+                                                         reservationEventOutbox, reservationShards,
+                                                         reservationCursorRepository, roomCapacityIndex,
+                                                         userBookingQuota, slotHolds);
+        CapturingEmitter subscriber = new CapturingEmitter();
+        CapturingEmitter otherDate = new CapturingEmitter();
+        CapturingEmitter otherRoom = new CapturingEmitter();
+        publisher.register("A101", LocalDate.of(2025, 7, 10), LocalDate.of(2025, 7, 10), subscriber);
+        publisher.register("A101", LocalDate.of(2025, 7, 20), LocalDate.of(2025, 7, 20), otherDate);
+        publisher.register("B202", LocalDate.of(2025, 7, 10), LocalDate.of(2025, 7, 10), otherRoom);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> node.saveReservation(
+                    resvDto("A101", LocalDateTime.of(2025, 7, 10, 9, 0), LocalDateTime.of(2025, 7, 10, 10, 0))));
+            transactionTemplate.executeWithoutResult(status -> node.saveReservation(
+                    resvDto("A101", LocalDateTime.of(2025, 7, 11, 9, 0), LocalDateTime.of(2025, 7, 11, 10, 0))));
+            transactionTemplate.executeWithoutResult(status -> {
+                node.saveReservation(resvDto("A101", LocalDateTime.of(2025, 7, 15, 9, 0), LocalDateTime.of(2025, 7, 15, 10, 0)));
+                status.setRollbackOnly();
+            });
+            publisher.flush();
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(subscriber.changes).isNotEmpty());
+            assertThat(subscriber.changes).singleElement().satisfies(change -> {
+                assertThat(change.getRoomCd()).isEqualTo("A101");
+                assertThat(change.getFromDate()).isEqualTo(LocalDate.of(2025, 7, 10));
+                assertThat(change.getToDate()).isEqualTo(LocalDate.of(2025, 7, 11));
+            });
+            assertThat(otherDate.changes).isEmpty();
+            assertThat(otherRoom.changes).isEmpty();
+        } finally {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("예약 변경 알림 - 전송이 밀린 구독자는 다른 구독자 전송을 막지 않고, 대기열이 차면 구독 종료")
+    void slowSubscriberTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReservationChangePublisher publisher = new ReservationChangePublisher(meterRegistry, 3_600_000, 3_600, 60, 92, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        // 전송이 끝나지 않는 구독자
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        };
+        CapturingEmitter fast = new CapturingEmitter();
+        LocalDate date = LocalDate.of(2025, 7, 25);
+        publisher.register("C303", date, date, slow);
+        publisher.register("C303", date, date, fast);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                publisher.publish("C303", date, date);
+                publisher.flush();
+            }
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(fast.changes).hasSize(5));
+            assertThat(meterRegistry.get(ReservationChangePublisher.SUBSCRIBERS).gauge().value()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트 - 커밋된 등록/수정/삭제만 순서대로 브로커에 전달, 소비자 처리 위치 이후만 조회")
+    void reservationEventRelayTest() {
+        ResvResponseDto saved = reservationService.saveReservation(
+                resvDto("B202", LocalDateTime.of(2025, 7, 5, 9, 0), LocalDateTime.of(2025, 7, 5, 10, 0)));
+        reservationService.modifyReservation(saved.getResvNo(),
+                resvDto("B202", LocalDateTime.of(2025, 7, 5, 11, 0), LocalDateTime.of(2025, 7, 5, 12, 0)));
+        reservationService.deleteReservation(saved.getResvNo());
+        Long rolledBack = transactionTemplate.execute(status -> {
+            ResvResponseDto resv = reservationService.saveReservation(
+                    resvDto("B202", LocalDateTime.of(2025, 7, 5, 14, 0), LocalDateTime.of(2025, 7, 5, 15, 0)));
+            status.setRollbackOnly();
+            return resv.getResvNo();
+        });
+
+        // 주기 relay 와 함께 실행되어도 잠금으로 같은 이벤트를 한 번만 전달
+        while (reservationEventRelay.relay() > 0) {
+            // 남은 이벤트 전달
+        }
+
+        String consumerId = "calendar-sync-" + saved.getResvNo();
+        List<InMemoryReservationEventBroker.Record> records = reservationEventBroker.poll(consumerId, Integer.MAX_VALUE);
+        assertThat(records).extracting(record -> record.event().getResvNo()).doesNotContain(rolledBack);
+        assertThat(records).extracting(InMemoryReservationEventBroker.Record::event)
+                           .filteredOn(event -> event.getResvNo().equals(saved.getResvNo()))
+                           .extracting(ResvEventDto::getEventType, ResvEventDto::getStartTime)
+                           .containsExactly(tuple(ResvEventDto.Type.CREATED, LocalDateTime.of(2025, 7, 5, 9, 0)),
+                                            tuple(ResvEventDto.Type.MODIFIED, LocalDateTime.of(2025, 7, 5, 11, 0)),
+                                            tuple(ResvEventDto.Type.DELETED, LocalDateTime.of(2025, 7, 5, 11, 0)));
+
+        reservationEventBroker.commit(consumerId, records.get(records.size() - 1).offset());
+        assertThat(reservationEventBroker.poll(consumerId, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    private AtomicInteger runConcurrently(Consumer<Integer> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_CNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_CNT; i++) {
+            int no = i;
+            futures.add(executor.submit(() -> {
+                ready.await();
+                try {
+                    task.accept(no);
+                    success.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // 중복 예약 거절
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        return success;
+    }
+
+    private void assertNoDoubleBooking() {
+        for (String roomCd : roomCds) {
+            List<ResvSlotDto> reservations = reservationRepository.findOverlappingSlots(
+                    roomCd, LocalDateTime.of(2025, 7, 1, 0, 0), LocalDateTime.of(2025, 8, 1, 0, 0));
+            for (int i = 0; i < reservations.size(); i++) {
+                for (int j = i + 1; j < reservations.size(); j++) {
+                    ResvSlotDto a = reservations.get(i);
+                    ResvSlotDto b = reservations.get(j);
+                    assertThat(a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime()))
+                            .as("%s 예약 %d, %d 중복", roomCd, a.getResvNo(), b.getResvNo())
+                            .isFalse();
+                }
+            }
+        }
+    }
+
+    // 전송된 변경 알림 보관
+    static class CapturingEmitter extends SseEmitter {
+
+        private final List<ResvChangeDto> changes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                   .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                   .filter(ResvChangeDto.class::isInstance)
+                   .map(ResvChangeDto.class::cast)
+                   .forEach(changes::add);
+        }
+    }
+
+    private ResvDto resvDto(String roomCd, LocalDateTime start, LocalDateTime end) {
+        return ResvDto.builder()
+                      .userId("e101010")
+                      .roomCd(roomCd)
+                      .startTime(start)
+                      .endTime(end)
+                      .build();
+    }
+}
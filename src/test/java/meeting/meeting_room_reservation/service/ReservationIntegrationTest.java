@@ -1,20 +1,46 @@
 package meeting.meeting_room_reservation.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import meeting.meeting_room_reservation.domain.MeetingRoom;
+import meeting.meeting_room_reservation.domain.Reservation;
+import meeting.meeting_room_reservation.domain.ReservationSlot;
 import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvBatchDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvBatchResultDto;
 import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvExportDto;
+import meeting.meeting_room_reservation.model.dto.ResvImportRejectDto;
+import meeting.meeting_room_reservation.model.dto.ResvImportResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesDto;
+import meeting.meeting_room_reservation.model.dto.ResvSeriesResponseDto;
 import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationSlotRepository;
 import meeting.meeting_room_reservation.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -31,12 +57,30 @@ class ReservationIntegrationTest {
     @Autowired
     private ReservationService reservationService;
 
+    @Autowired
+    private ReservationSeriesService reservationSeriesService;
+
+    @Autowired
+    private ReservationImportService reservationImportService;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private MeetingRoomRepository meetingRoomRepository;
 
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User user;
     private MeetingRoom room;
 
@@ -56,6 +100,30 @@ class ReservationIntegrationTest {
                                                      .build());
     }
 
+    @Test
+    @DisplayName("회의실 콤보 리스트 조회 - 캐시 및 회의실 변경 시 초기화")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void selectMeetingRoomListCacheIntgTest() {
+        List<ResvRmResponseDto> first = reservationService.selectMeetingRoomList();
+        List<ResvRmResponseDto> second = reservationService.selectMeetingRoomList();
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add(null)).isInstanceOf(UnsupportedOperationException.class);
+
+        try {
+            meetingRoomRepository.save(MeetingRoom.builder()
+                                                  .roomCd("D404")
+                                                  .roomNm("세미나실")
+                                                  .capacity(30)
+                                                  .build());
+
+            assertThat(reservationService.selectMeetingRoomList()).extracting(ResvRmResponseDto::getRoomCd)
+                                                                  .contains("D404");
+        } finally {
+            meetingRoomRepository.deleteById("D404");
+        }
+    }
+
     @Test
     @DisplayName("회의실 예약건 조회 - 월 단위")
     void selectMonthlyResvListIntgTest() {
@@ -76,6 +144,48 @@ class ReservationIntegrationTest {
         assertThat(resvList.get(0).getEndTime()).isEqualTo(LocalDateTime.of(2025, 5, 6, 11, 0));
     }
 
+    @Test
+    @DisplayName("회의실 예약건 조회 - 월 단위 캐시 및 예약 변경 시 초기화")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void selectMonthlyResvListCacheIntgTest() {
+        List<ResvResponseDto> first = reservationService.selectMonthlyResvList(room.getRoomCd(), "202508");
+        String eTag = reservationService.monthlyResvETag(first);
+        double hits = monthlyCacheGets("hit");
+
+        assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202508")).isSameAs(first);
+        assertThat(monthlyCacheGets("hit")).isEqualTo(hits + 1);
+        assertThat(reservationService.monthlyResvETag(
+                reservationService.selectMonthlyResvList(room.getRoomCd(), "202508"))).isEqualTo(eTag);
+
+        ResvResponseDto saved = reservationService.saveReservation(ResvDto.builder()
+                                                                          .userId(user.getUserId())
+                                                                          .roomCd(room.getRoomCd())
+                                                                          .startTime(LocalDateTime.of(2025, 8, 4, 10, 0))
+                                                                          .endTime(LocalDateTime.of(2025, 8, 4, 11, 0))
+                                                                          .build());
+        try {
+            String changedETag = reservationService.monthlyResvETag(
+                    reservationService.selectMonthlyResvList(room.getRoomCd(), "202508"));
+            assertThat(changedETag).isNotEqualTo(eTag);
+            assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202508"))
+                    .hasSize(first.size() + 1)
+                    .extracting(ResvResponseDto::getResvNo)
+                    .contains(saved.getResvNo());
+        } finally {
+            reservationService.deleteReservation(saved.getResvNo());
+        }
+
+        assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202508")).hasSize(first.size());
+        // 같은 내용으로 돌아오면 ETag 도 같음
+        assertThat(reservationService.monthlyResvETag(
+                reservationService.selectMonthlyResvList(room.getRoomCd(), "202508"))).isEqualTo(eTag);
+    }
+
+    private double monthlyCacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "monthlyResvList").tag("result", result)
+                            .functionCounter().count();
+    }
+
     @Test
     @DisplayName("회의실 예약건 조회 - 일 단위")
     void selectReservationListIntgTest() {
@@ -96,6 +206,37 @@ class ReservationIntegrationTest {
         assertThat(resvList.get(0).getEndTime()).isEqualTo(LocalDateTime.of(2025, 5, 6, 11, 0));
     }
 
+    @Test
+    @DisplayName("회의실 예약건 조회 - 요청당 SQL 2건(예약, 반복 예약 / N+1 방지)")
+    void selectResvListStatementCountIntgTest() {
+        for (int hour = 9; hour < 14; hour++) {
+            reservationService.saveReservation(ResvDto.builder()
+                                                      .userId(user.getUserId())
+                                                      .roomCd(room.getRoomCd())
+                                                      .startTime(LocalDateTime.of(2025, 5, 7, hour, 0))
+                                                      .endTime(LocalDateTime.of(2025, 5, 7, hour, 30))
+                                                      .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            assertThat(reservationService.selectReservationList(room.getRoomCd(), "20250507")).hasSize(5);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+
+            statistics.clear();
+            assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202505")).hasSize(5);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     @DisplayName("회의실 예약 생성")
     void saveReservationIntgTest() {
@@ -158,6 +299,104 @@ class ReservationIntegrationTest {
         assertThat(updateResult.getRoomCd()).isEqualTo("A101");
         assertThat(updateResult.getStartTime()).isEqualTo(LocalDateTime.of(2025, 5, 8, 13, 0));
         assertThat(updateResult.getEndTime()).isEqualTo(LocalDateTime.of(2025, 5, 8, 14, 0));
+        assertThat(updateResult.getVersion()).isEqualTo(saveResult.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트 - relay 미사용(기본) 시 outbox 에 저장하지 않음")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void outboxDisabledIntgTest() {
+        ResvResponseDto saved = reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 5, 13, 9, 0),
+                                                                           LocalDateTime.of(2025, 5, 13, 10, 0)));
+        try {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation_events WHERE resv_no = ?",
+                                                   Long.class, saved.getResvNo())).isZero();
+        } finally {
+            reservationService.deleteReservation(saved.getResvNo());
+        }
+    }
+
+    @Test
+    @DisplayName("회의실 예약 수정 - SQL 4건(반복 예약 조회, 버전 조건 update, 해제 슬롯 삭제, 점유 슬롯 insert)")
+    void modifyReservationStatementCountIntgTest() {
+        ResvResponseDto saved = reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 5, 12, 9, 0),
+                                                                           LocalDateTime.of(2025, 5, 12, 10, 0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            // 09:00 슬롯 해제, 10:00 슬롯 점유, 09:30 슬롯 유지 (outbox INSERT 는 커밋 직전 JDBC 로 별도 실행)
+            ResvResponseDto modified = reservationService.modifyReservation(saved.getResvNo(), ResvDto.builder()
+                    .userId(user.getUserId())
+                    .roomCd(room.getRoomCd())
+                    .startTime(LocalDateTime.of(2025, 5, 12, 9, 30))
+                    .endTime(LocalDateTime.of(2025, 5, 12, 10, 30))
+                    .version(saved.getVersion())
+                    .build());
+
+            assertThat(modified.getVersion()).isEqualTo(saved.getVersion() + 1);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("회의실 예약 수정 - 잘못된 시간(종료시간이 시작시간 이전, 누락)은 슬롯 점유 없이 거절")
+    void modifyReservationInvalidTimeIntgTest() {
+        ResvResponseDto saved = reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 5, 13, 9, 0),
+                                                                           LocalDateTime.of(2025, 5, 13, 10, 0)));
+
+        assertThatThrownBy(() -> reservationService.modifyReservation(saved.getResvNo(), resvDto(
+                LocalDateTime.of(2025, 5, 13, 11, 0), LocalDateTime.of(2025, 5, 13, 10, 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationService.modifyReservation(saved.getResvNo(), resvDto(
+                LocalDateTime.of(2025, 5, 13, 11, 0), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reservationSlotRepository.count()).isEqualTo(2);
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20250513"))
+                .extracting(ResvResponseDto::getStartTime)
+                .containsExactly(LocalDateTime.of(2025, 5, 13, 9, 0));
+    }
+
+    @Test
+    @DisplayName("회의실 예약 수정 - 이전 버전으로 수정 시 충돌(현재 예약 정보 반환), 겹치는 슬롯은 유지")
+    void modifyReservationVersionIntgTest() {
+        ResvResponseDto saveResult = reservationService.saveReservation(ResvDto.builder()
+                                                                               .userId(user.getUserId())
+                                                                               .roomCd(room.getRoomCd())
+                                                                               .startTime(LocalDateTime.of(2025, 5, 9, 9, 0))
+                                                                               .endTime(LocalDateTime.of(2025, 5, 9, 10, 0))
+                                                                               .build());
+        ResvResponseDto updateResult = reservationService.modifyReservation(saveResult.getResvNo(), ResvDto.builder()
+                .userId(user.getUserId())
+                .roomCd(room.getRoomCd())
+                .startTime(LocalDateTime.of(2025, 5, 9, 9, 30))
+                .endTime(LocalDateTime.of(2025, 5, 9, 11, 0))
+                .version(saveResult.getVersion())
+                .build());
+
+        assertThat(reservationSlotRepository.findAll())
+                .filteredOn(slot -> slot.getResvNo().equals(saveResult.getResvNo()))
+                .extracting(ReservationSlot::getSlotStart)
+                .containsExactlyInAnyOrder(LocalDateTime.of(2025, 5, 9, 9, 30),
+                                           LocalDateTime.of(2025, 5, 9, 10, 0),
+                                           LocalDateTime.of(2025, 5, 9, 10, 30));
+
+        assertThatThrownBy(() -> reservationService.modifyReservation(saveResult.getResvNo(), ResvDto.builder()
+                .userId(user.getUserId())
+                .roomCd(room.getRoomCd())
+                .startTime(LocalDateTime.of(2025, 5, 9, 14, 0))
+                .endTime(LocalDateTime.of(2025, 5, 9, 15, 0))
+                .version(saveResult.getVersion())
+                .build()))
+                .isInstanceOfSatisfying(ReservationConflictException.class, e -> {
+                    assertThat(e.getCurrent().getVersion()).isEqualTo(updateResult.getVersion());
+                    assertThat(e.getCurrent().getStartTime()).isEqualTo(LocalDateTime.of(2025, 5, 9, 9, 30));
+                });
     }
 
     @Test
@@ -176,4 +415,262 @@ class ReservationIntegrationTest {
 
         assertThat(resvList).isEmpty();
     }
+
+    @Test
+    @DisplayName("회의실 예약 일괄 생성 - ATOMIC(중복 시 전체 미등록), PARTIAL(건별 등록)")
+    void saveReservationBatchIntgTest() {
+        List<ResvDto> items = List.of(
+                resvDto(LocalDateTime.of(2025, 6, 2, 10, 0), LocalDateTime.of(2025, 6, 2, 11, 0)),
+                resvDto(LocalDateTime.of(2025, 6, 2, 11, 0), LocalDateTime.of(2025, 6, 2, 12, 0)),
+                resvDto(LocalDateTime.of(2025, 6, 2, 10, 30), LocalDateTime.of(2025, 6, 2, 11, 30)),
+                resvDto(LocalDateTime.of(2025, 6, 2, 13, 15), LocalDateTime.of(2025, 6, 2, 14, 0))
+        );
+
+        ResvBatchResponseDto atomic = reservationService.saveReservationBatch(ResvBatchDto.builder()
+                                                                                          .mode(ResvBatchDto.Mode.ATOMIC)
+                                                                                          .reservations(items)
+                                                                                          .build());
+        assertThat(atomic.getSuccessCnt()).isZero();
+        assertThat(atomic.getFailCnt()).isEqualTo(4);
+        assertThat(atomic.getResults()).extracting(ResvBatchResultDto::getMessage)
+                                       .containsExactly("다른 예약 오류로 등록되지 않았습니다.",
+                                                        "다른 예약 오류로 등록되지 않았습니다.",
+                                                        "이미 해당 시간에 예약이 존재합니다.",
+                                                        "시간 형식이 잘못되었습니다. (00분, 30분 단위)");
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20250602")).isEmpty();
+
+        ResvBatchResponseDto partial = reservationService.saveReservationBatch(ResvBatchDto.builder()
+                                                                                           .mode(ResvBatchDto.Mode.PARTIAL)
+                                                                                           .reservations(items)
+                                                                                           .build());
+        assertThat(partial.getSuccessCnt()).isEqualTo(2);
+        assertThat(partial.getResults()).extracting(ResvBatchResultDto::isSuccess)
+                                        .containsExactly(true, true, false, false);
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20250602"))
+                .extracting(ResvResponseDto::getResvNo)
+                .containsExactly(partial.getResults().get(0).getReservation().getResvNo(),
+                                 partial.getResults().get(1).getReservation().getResvNo());
+
+        // 기존 예약과 겹치는 건은 등록 불가
+        ResvBatchResponseDto again = reservationService.saveReservationBatch(ResvBatchDto.builder()
+                                                                                         .mode(ResvBatchDto.Mode.PARTIAL)
+                                                                                         .reservations(items.subList(0, 1))
+                                                                                         .build());
+        assertThat(again.getSuccessCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("회의실 예약 일괄 생성 - insert 배치 처리")
+    void saveReservationBatchStatementCountIntgTest() {
+        List<ResvDto> items = new ArrayList<>();
+        for (int day = 1; day <= 20; day++) {
+            items.add(resvDto(LocalDateTime.of(2025, 9, day, 10, 0), LocalDateTime.of(2025, 9, day, 11, 0)));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            ResvBatchResponseDto result = reservationService.saveReservationBatch(ResvBatchDto.builder()
+                                                                                              .reservations(items)
+                                                                                              .build());
+
+            assertThat(result.getSuccessCnt()).isEqualTo(20);
+            // 예약 20건, 슬롯 40건 insert 가 건별로 실행되지 않음
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(60);
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("회의실 예약 대량 등록 - 행 검증, 파일 내/기존 예약 중복 확인 및 내보내기 결과 재등록")
+    void importReservationsIntgTest() {
+        reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0)));
+        String csv = String.join("\n",
+                "userId,roomCd,startTime,endTime",
+                "e101010,A101,2025-10-01 10:00,2025-10-01 11:00",
+                "e101010,A101,2025-10-01 09:30,2025-10-01 10:00",
+                "e101010,A101,2025-10-01 10:30,2025-10-01 11:30",
+                "e101010,A101,2025-10-01 12:15,2025-10-01 13:00",
+                "e101010,Z999,2025-10-01 12:00,2025-10-01 13:00",
+                "x000000,A101,2025-10-01 12:00,2025-10-01 13:00",
+                "",
+                "e101010,A101,2025-10-02 10:00,2025-10-02 11:00");
+
+        ResvImportResponseDto result = reservationImportService.importReservations(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ReservationImportService.Format.CSV);
+
+        assertThat(result.getTotalCnt()).isEqualTo(7);
+        assertThat(result.getSuccessCnt()).isEqualTo(2);
+        assertThat(result.getRejects()).extracting(ResvImportRejectDto::getLine, ResvImportRejectDto::getMessage)
+                                       .containsExactlyInAnyOrder(
+                                               tuple(3L, "이미 해당 시간에 예약이 존재합니다."),
+                                               tuple(4L, "이미 해당 시간에 예약이 존재합니다."),
+                                               tuple(5L, "시간 형식이 잘못되었습니다. (00분, 30분 단위)"),
+                                               tuple(6L, "존재하지 않는 회의실입니다."),
+                                               tuple(7L, "존재하지 않는 사용자입니다."));
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20251001"))
+                .extracting(ResvResponseDto::getStartTime)
+                .containsExactly(LocalDateTime.of(2025, 10, 1, 9, 0), LocalDateTime.of(2025, 10, 1, 10, 0));
+
+        // 내보낸 행을 다시 등록하면 모두 기존 예약과 중복
+        List<ResvExportDto> exported;
+        try (var stream = reservationImportService.exportReservations("20251001", "20251002")) {
+            exported = stream.toList();
+        }
+        assertThat(exported).hasSize(3).allMatch(resv -> resv.getUserId().equals("e101010"));
+        String rows = String.join("\n", exported.stream().map(ReservationImportService::toCsv).toList());
+        ResvImportResponseDto again = reservationImportService.importReservations(
+                new ByteArrayInputStream((ReservationImportService.CSV_HEADER + "\n" + rows).getBytes(StandardCharsets.UTF_8)),
+                ReservationImportService.Format.CSV);
+        assertThat(again.getSuccessCnt()).isZero();
+        assertThat(again.getFailCnt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회의실 반복 예약 - 발생분 조회, 단건 예약과 중복 확인")
+    void saveSeriesIntgTest() {
+        // 2025-10-01(수) ~ 2025-10-31, 매주 월, 수 10:00 ~ 11:00 -> 9회
+        ResvSeriesResponseDto series = reservationSeriesService.saveSeries(seriesDto("FREQ=WEEKLY;BYDAY=MO,WE",
+                                                                                     LocalDate.of(2025, 10, 1),
+                                                                                     LocalDate.of(2025, 10, 31)));
+        assertThat(series.getOccurrenceCnt()).isEqualTo(9);
+        assertThat(series.getRrule()).isEqualTo("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE");
+
+        List<ResvResponseDto> monthly = reservationService.selectMonthlyResvList(room.getRoomCd(), "202510");
+        assertThat(monthly).hasSize(9)
+                           .allMatch(resv -> series.getSeriesNo().equals(resv.getSeriesNo()) && resv.getResvNo() == null);
+        assertThat(monthly.get(1).getStartTime()).isEqualTo(LocalDateTime.of(2025, 10, 6, 10, 0));
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20251006")).hasSize(1);
+        assertThat(reservationService.selectReservationList(room.getRoomCd(), "20251007")).isEmpty();
+
+        // 발생분과 겹치는 단건 예약 불가, 발생하지 않는 날은 가능
+        assertThatThrownBy(() -> reservationService.saveReservation(
+                resvDto(LocalDateTime.of(2025, 10, 13, 10, 30), LocalDateTime.of(2025, 10, 13, 11, 30))))
+                .isInstanceOf(IllegalStateException.class);
+        reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 10, 14, 10, 0),
+                                                   LocalDateTime.of(2025, 10, 14, 11, 0)));
+
+        // 기존 단건 예약과 겹치는 반복 예약 불가
+        assertThatThrownBy(() -> reservationSeriesService.saveSeries(seriesDto("FREQ=DAILY",
+                                                                               LocalDate.of(2025, 10, 14),
+                                                                               LocalDate.of(2025, 10, 15))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2025-10-14");
+        assertThat(reservationService.selectAvailability(room.getRoomCd(), "20251001", "20251001").get(0)
+                                     .getOccupiedSlotCnt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회의실 반복 예약 - 발생일 제외 및 전체 취소")
+    void deleteSeriesIntgTest() {
+        ResvSeriesResponseDto series = reservationSeriesService.saveSeries(seriesDto("FREQ=DAILY;INTERVAL=2",
+                                                                                     LocalDate.of(2025, 11, 3),
+                                                                                     LocalDate.of(2025, 11, 9)));
+        assertThat(series.getOccurrenceCnt()).isEqualTo(4);
+
+        ResvSeriesResponseDto excluded = reservationSeriesService.addExDate(series.getSeriesNo(), LocalDate.of(2025, 11, 5));
+        assertThat(excluded.getOccurrenceCnt()).isEqualTo(3);
+        assertThat(excluded.getExDates()).containsExactly(LocalDate.of(2025, 11, 5));
+        assertThatThrownBy(() -> reservationSeriesService.addExDate(series.getSeriesNo(), LocalDate.of(2025, 11, 4)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 제외된 날은 단건 예약 가능
+        reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 11, 5, 10, 0),
+                                                   LocalDateTime.of(2025, 11, 5, 11, 0)));
+        assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202511")).hasSize(4);
+
+        reservationSeriesService.deleteSeries(series.getSeriesNo());
+        assertThat(reservationService.selectMonthlyResvList(room.getRoomCd(), "202511"))
+                .extracting(ResvResponseDto::getSeriesNo)
+                .containsOnlyNulls();
+        reservationService.saveReservation(resvDto(LocalDateTime.of(2025, 11, 7, 10, 0),
+                                                   LocalDateTime.of(2025, 11, 7, 11, 0)));
+    }
+
+    private ResvSeriesDto seriesDto(String rrule, LocalDate startDate, LocalDate untilDate) {
+        return ResvSeriesDto.builder()
+                            .userId(user.getUserId())
+                            .roomCd(room.getRoomCd())
+                            .rrule(rrule)
+                            .startDate(startDate)
+                            .untilDate(untilDate)
+                            .startTime(LocalTime.of(10, 0))
+                            .endTime(LocalTime.of(11, 0))
+                            .build();
+    }
+
+    @Test
+    @DisplayName("회의실 예약 처리 지표 - 회의실, 결과별 처리 시간(분포는 회의실 없이) 및 요청당 SQL 수")
+    void reservationMetricsIntgTest() {
+        long success = operationCount("saveReservation", "A101", ReservationMetrics.SUCCESS);
+        Timer latency = meterRegistry.find(ReservationMetrics.OPERATION_LATENCY).tag("operation", "saveReservation")
+                                     .tag("outcome", ReservationMetrics.SUCCESS).timer();
+        long latencyCount = latency == null ? 0 : latency.count();
+        long conflict = operationCount("saveReservation", "A101", ReservationMetrics.CONFLICT);
+        long invalid = operationCount("saveReservation", "A101", ReservationMetrics.VALIDATION_FAILED);
+        long notFound = operationCount("deleteReservation", ReservationMetrics.NO_ROOM, ReservationMetrics.NOT_FOUND);
+        long unknownRoom = operationCount("saveReservation", ReservationMetrics.OTHER_ROOM,
+                                          ReservationMetrics.VALIDATION_FAILED);
+        long overlapChecks = meterRegistry.find(ReservationMetrics.OVERLAP_CHECK).timers().stream()
+                                          .mapToLong(Timer::count).sum();
+
+        ResvDto resv = resvDto(LocalDateTime.of(2025, 12, 1, 10, 0), LocalDateTime.of(2025, 12, 1, 11, 0));
+        reservationService.saveReservation(resv);
+        assertThatThrownBy(() -> reservationService.saveReservation(resv)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> reservationService.saveReservation(
+                resvDto(LocalDateTime.of(2025, 12, 1, 12, 15), LocalDateTime.of(2025, 12, 1, 13, 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationService.deleteReservation(-1L)).isInstanceOf(NoSuchElementException.class);
+        // 존재하지 않는 회의실 코드는 요청값 대신 other 태그로 기록
+        assertThatThrownBy(() -> reservationService.saveReservation(
+                ResvDto.builder().userId(user.getUserId()).roomCd("NO-ROOM-1")
+                       .startTime(LocalDateTime.of(2025, 12, 1, 14, 0)).endTime(LocalDateTime.of(2025, 12, 1, 15, 0))
+                       .build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(operationCount("saveReservation", "A101", ReservationMetrics.SUCCESS)).isEqualTo(success + 1);
+        assertThat(operationCount("saveReservation", "A101", ReservationMetrics.CONFLICT)).isEqualTo(conflict + 1);
+        assertThat(operationCount("saveReservation", "A101", ReservationMetrics.VALIDATION_FAILED)).isEqualTo(invalid + 1);
+        assertThat(operationCount("deleteReservation", ReservationMetrics.NO_ROOM, ReservationMetrics.NOT_FOUND))
+                .isEqualTo(notFound + 1);
+        assertThat(operationCount("saveReservation", ReservationMetrics.OTHER_ROOM, ReservationMetrics.VALIDATION_FAILED))
+                .isEqualTo(unknownRoom + 1);
+        assertThat(meterRegistry.find(ReservationMetrics.OPERATION).tag("roomCd", "NO-ROOM-1").timers()).isEmpty();
+        assertThat(meterRegistry.get(ReservationMetrics.OPERATION_LATENCY).tag("operation", "saveReservation")
+                                .tag("outcome", ReservationMetrics.SUCCESS).timer().count()).isEqualTo(latencyCount + 1);
+        assertThat(meterRegistry.find(ReservationMetrics.OPERATION_LATENCY).timers())
+                .allSatisfy(timer -> assertThat(timer.getId().getTag("roomCd")).isNull());
+        // 수정 버전 충돌(낙관적 잠금 실패)은 충돌로 분류
+        assertThat(ReservationMetrics.outcomeOf(new ObjectOptimisticLockingFailureException(Reservation.class, 1L)))
+                .isEqualTo(ReservationMetrics.CONFLICT);
+        assertThat(meterRegistry.find(ReservationMetrics.OVERLAP_CHECK).timers().stream().mapToLong(Timer::count).sum())
+                .isEqualTo(overlapChecks + 2);
+
+        // 일 단위 조회는 예약, 반복 예약 조회 SQL 2건
+        DistributionSummary statements = meterRegistry.get(ReservationMetrics.DB_STATEMENTS)
+                                                      .tag("operation", "selectReservationList").summary();
+        long count = statements.count();
+        double total = statements.totalAmount();
+        reservationService.selectReservationList(room.getRoomCd(), "20251201");
+        assertThat(statements.count()).isEqualTo(count + 1);
+        assertThat(statements.totalAmount()).isEqualTo(total + 2);
+    }
+
+    private long operationCount(String operation, String roomCd, String outcome) {
+        Timer timer = meterRegistry.find(ReservationMetrics.OPERATION).tag("operation", operation)
+                                   .tag("roomCd", roomCd).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private ResvDto resvDto(LocalDateTime start, LocalDateTime end) {
+        return ResvDto.builder()
+                      .userId(user.getUserId())
+                      .roomCd(room.getRoomCd())
+                      .startTime(start)
+                      .endTime(end)
+                      .build();
+    }
 }
@@ -0,0 +1,127 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.config.ReplicaDataSource;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReservationReplicaTest.PRIMARY,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "reservation.replica.enabled=true",
+        "reservation.replica.urls=" + ReservationReplicaTest.REPLICA + "," + ReservationReplicaTest.DEAD_REPLICA,
+        "reservation.replica.max-lag-ms=1000",
+        // 복제 지연 확인은 테스트에서 직접 호출
+        "reservation.replica.check-interval-ms=600000"
+})
+class ReservationReplicaTest {
+
+    static final String PRIMARY = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA = "jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1";
+    // 연결할 수 없는 복제본
+    static final String DEAD_REPLICA = "jdbc:h2:tcp://localhost:1/mem:none";
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private MonthlyResvCacheSync monthlyResvCacheSync;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY, "sa", ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA, "sa", ""));
+
+    // 복제본은 DB 복제 대신 같은 마이그레이션으로 스키마, 기본 데이터 생성
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary.update("DELETE FROM reservation_slots");
+        primary.update("DELETE FROM reservations");
+        primary.update("DELETE FROM monthly_cache_evictions");
+        replica.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", System.currentTimeMillis());
+        replicaDataSource.checkReplicas();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 복제본, 예약 변경 직후 해당 회의실 조회는 주 DB")
+    void readYourWritesTest() {
+        // 연결할 수 없는 복제본은 제외
+        assertThat(replicaDataSource.availableCount()).isEqualTo(1);
+
+        ResvResponseDto saved = reservationService.saveReservation(resvDto("A101", 9));
+        assertThat(reservationService.selectReservationList("A101", "20250801"))
+                .extracting(ResvResponseDto::getResvNo).containsExactly(saved.getResvNo());
+
+        // 서비스를 거치지 않은 주 DB 변경은 복제본에 없으므로 조회되지 않음
+        insertReservation(900_001L, "C303", 9);
+        assertThat(reservationService.selectReservationList("C303", "20250801")).isEmpty();
+        assertThat(reservationService.selectMeetingRoomList()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 반영 후 월간 조회 캐시는 주 DB 에서 다시 채움")
+    void remoteChangeRefillTest() {
+        assertThat(reservationService.selectMonthlyResvList("B202", "202508")).isEmpty();
+
+        // 다른 노드에서 등록(복제본에는 아직 복제되지 않음)하고 캐시 초기화 기록
+        insertReservation(900_003L, "B202", 11);
+        primary.update("INSERT INTO monthly_cache_evictions (cache_key, node_id, created_at)"
+                       + " VALUES ('B202:202508', 'other-node', CURRENT_TIMESTAMP)");
+        monthlyResvCacheSync.sync(0);
+
+        assertThat(reservationService.selectMonthlyResvList("B202", "202508"))
+                .extracting(ResvResponseDto::getResvNo).containsExactly(900_003L);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 시간을 넘으면 주 DB 에서 조회")
+    void replicaLagFailoverTest() {
+        insertReservation(900_002L, "C303", 10);
+        assertThat(reservationService.selectReservationList("C303", "20250801")).isEmpty();
+
+        replica.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", System.currentTimeMillis() - 3_600_000L);
+        replicaDataSource.checkReplicas();
+
+        assertThat(replicaDataSource.availableCount()).isZero();
+        assertThat(reservationService.selectReservationList("C303", "20250801"))
+                .extracting(ResvResponseDto::getResvNo).containsExactly(900_002L);
+    }
+
+    private void insertReservation(Long resvNo, String roomCd, int hour) {
+        primary.update("INSERT INTO reservations (resv_no, user_id, user_nm, room_cd, start_time, end_time)"
+                       + " VALUES (?, 'e101010', '김재원', ?, ?, ?)",
+                       resvNo, roomCd, Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, hour, 0)),
+                       Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, hour + 1, 0)));
+    }
+
+    private ResvDto resvDto(String roomCd, int hour) {
+        return ResvDto.builder()
+                      .userId("e101010")
+                      .roomCd(roomCd)
+                      .startTime(LocalDateTime.of(2025, 8, 1, hour, 0))
+                      .endTime(LocalDateTime.of(2025, 8, 1, hour + 1, 0))
+                      .build();
+    }
+}
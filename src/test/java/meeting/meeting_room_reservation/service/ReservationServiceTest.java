@@ -1,17 +1,27 @@
 package meeting.meeting_room_reservation.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import meeting.meeting_room_reservation.domain.MeetingRoom;
 import meeting.meeting_room_reservation.domain.Reservation;
 import meeting.meeting_room_reservation.domain.User;
+import meeting.meeting_room_reservation.model.dto.ResvAvailResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvPageDto;
 import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
 import meeting.meeting_room_reservation.model.dto.ResvRmResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvSlotDto;
 import meeting.meeting_room_reservation.repository.MeetingRoomRepository;
+import meeting.meeting_room_reservation.repository.ReservationCursorRepository;
 import meeting.meeting_room_reservation.repository.ReservationRepository;
+import meeting.meeting_room_reservation.repository.ReservationSeriesRepository;
+import meeting.meeting_room_reservation.repository.ReservationSlotRepository;
 import meeting.meeting_room_reservation.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,13 +36,39 @@ public class ReservationServiceTest {
     private UserRepository userRepository;
     private MeetingRoomRepository meetingRoomRepository;
     private ReservationRepository reservationRepository;
+    private ReservationSlotRepository reservationSlotRepository;
+    private ReservationSeriesRepository reservationSeriesRepository;
+    private ReservationIndex reservationIndex;
+    private MonthlyResvCache monthlyResvCache;
+    private ResvNoSequence resvNoSequence;
+    private SlotHolds slotHolds;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
         meetingRoomRepository = mock(MeetingRoomRepository.class);
         reservationRepository = mock(ReservationRepository.class);
-        reservationService = new ReservationService(userRepository, meetingRoomRepository, reservationRepository);
+        reservationSlotRepository = mock(ReservationSlotRepository.class);
+        reservationSeriesRepository = mock(ReservationSeriesRepository.class);
+        reservationIndex = new ReservationIndex(reservationRepository, reservationSeriesRepository,
+                                                new ReservationShards(false, List.of()));
+        monthlyResvCache = new MonthlyResvCache(new ConcurrentMapCacheManager());
+        resvNoSequence = mock(ResvNoSequence.class);
+        slotHolds = new SlotHolds(new SimpleMeterRegistry(), 120, 1000, 3);
+        reservationService = new ReservationService(userRepository, meetingRoomRepository, reservationRepository,
+                                                    reservationSlotRepository, reservationSeriesRepository,
+                                                    reservationIndex,
+                                                    new RoomLockStripes(16), monthlyResvCache,
+                                                    resvNoSequence,
+                                                    new ReservationMetrics(new SimpleMeterRegistry()),
+                                                    mock(ReservationChangePublisher.class),
+                                                    mock(ReservationEventOutbox.class),
+                                                    new ReservationShards(false, List.of()),
+                                                    mock(ReservationCursorRepository.class),
+                                                    new RoomCapacityIndex(meetingRoomRepository),
+                                                    new UserBookingQuota(reservationRepository,
+                                                                         new ReservationShards(false, List.of()), 2, 0),
+                                                    slotHolds);
     }
 
     @Test
@@ -56,32 +92,10 @@ public class ReservationServiceTest {
         LocalDateTime startTime = LocalDateTime.of(2025, 5, 1, 10, 0);
         LocalDateTime endTime = LocalDateTime.of(2025, 5, 1, 11, 0);
 
-        User user = User.builder()
-                        .userId("e101010")
-                        .userNm("김재원")
-                        .email("e101010@gmail.com")
-                        .password("pwd10")
-                        .build();
-
-        MeetingRoom room = MeetingRoom.builder()
-                                      .roomCd(roomCd)
-                                      .roomNm("대회의실")
-                                      .capacity(10)
-                                      .build();
-
-        Reservation reservation = Reservation.builder()
-                                             .resvNo(1L)
-                                             .user(user)
-                                             .meetingRoom(room)
-                                             .userNm(user.getUserNm())
-                                             .startTime(startTime)
-                                             .endTime(endTime)
-                                             .build();
-
-        when(reservationRepository.findAllByMeetingRoomRoomCdAndStartTimeBetween(
+        when(reservationRepository.findResvListByRoomCdAndStartTimeBetween(
                 eq(roomCd), eq(LocalDate.of(2025, 5, 1).atStartOfDay()),
                 eq(LocalDate.of(2025, 5, 2).atStartOfDay())
-        )).thenReturn(List.of(reservation));
+        )).thenReturn(List.of(new ResvResponseDto(1L, "김재원", roomCd, startTime, endTime, 0L)));
 
         List<ResvResponseDto> results = reservationService.selectReservationList(roomCd, date);
 
@@ -93,12 +107,170 @@ public class ReservationServiceTest {
         assertEquals(startTime, result.getStartTime());
         assertEquals(endTime, result.getEndTime());
 
-        verify(reservationRepository).findAllByMeetingRoomRoomCdAndStartTimeBetween(
+        verify(reservationRepository).findResvListByRoomCdAndStartTimeBetween(
                 eq(roomCd), eq(LocalDate.of(2025, 5, 1).atStartOfDay()),
                 eq(LocalDate.of(2025, 5, 2).atStartOfDay())
         );
     }
 
+    @Test
+    @DisplayName("회의실 예약 기간 조회(페이지) - 마지막 예약 이후부터 다음 페이지 조회")
+    void selectReservationPageTest() {
+        LocalDateTime from = LocalDate.of(2025, 5, 1).atStartOfDay();
+        LocalDateTime to = LocalDate.of(2025, 6, 1).atStartOfDay();
+        LocalDateTime ten = LocalDateTime.of(2025, 5, 1, 10, 0);
+        when(reservationRepository.findResvPage("A101", from, 0L, to, Limit.of(3))).thenReturn(List.of(
+                new ResvResponseDto(1L, "김재원", "A101", ten, ten.plusHours(1), 0L),
+                new ResvResponseDto(2L, "송길수", "A101", ten.plusHours(1), ten.plusHours(2), 0L),
+                new ResvResponseDto(3L, "이수현", "A101", ten.plusHours(2), ten.plusHours(3), 0L)));
+        when(reservationRepository.findResvPage("A101", ten.plusHours(1), 2L, to, Limit.of(3))).thenReturn(List.of(
+                new ResvResponseDto(3L, "이수현", "A101", ten.plusHours(2), ten.plusHours(3), 0L)));
+
+        ResvPageDto first = reservationService.selectReservationPage("A101", "20250501", "20250531", null, 2);
+        assertEquals(List.of(1L, 2L), first.getReservations().stream().map(ResvResponseDto::getResvNo).toList());
+        assertNotNull(first.getNextCursor());
+
+        ResvPageDto second = reservationService.selectReservationPage("A101", "20250501", "20250531",
+                                                                      first.getNextCursor(), 2);
+        assertEquals(List.of(3L), second.getReservations().stream().map(ResvResponseDto::getResvNo).toList());
+        assertNull(second.getNextCursor());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> reservationService.selectReservationPage("A101", "20250501", "20250531", "bad", 2));
+        assertThrows(IllegalArgumentException.class,
+                     () -> reservationService.selectReservationPage("A101", "20250501", "20250531", null, 0));
+    }
+
+    @Test
+    @DisplayName("사용자 예정 예약 페이지 조회 - 조회 시점 이후 예약을 커서로 이어서 조회")
+    void selectUserReservationPageTest() {
+        LocalDateTime ten = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        when(userRepository.findByUserId("e101010")).thenReturn(Optional.of(new User("e101010", "김재원", "pwd10", "e101010@gmail.com")));
+        when(reservationRepository.findUserResvPage(eq("e101010"), any(), eq(0L), eq(Limit.of(3)))).thenReturn(List.of(
+                new ResvResponseDto(1L, "김재원", "A101", ten, ten.plusHours(1), 0L),
+                new ResvResponseDto(2L, "김재원", "B202", ten.plusHours(1), ten.plusHours(2), 0L),
+                new ResvResponseDto(3L, "김재원", "A101", ten.plusHours(2), ten.plusHours(3), 0L)));
+        when(reservationRepository.findUserResvPage("e101010", ten.plusHours(1), 2L, Limit.of(3))).thenReturn(List.of(
+                new ResvResponseDto(3L, "김재원", "A101", ten.plusHours(2), ten.plusHours(3), 0L)));
+
+        ResvPageDto first = reservationService.selectUserReservationPage("e101010", null, 2);
+        assertEquals(List.of(1L, 2L), first.getReservations().stream().map(ResvResponseDto::getResvNo).toList());
+        assertNotNull(first.getNextCursor());
+
+        ResvPageDto second = reservationService.selectUserReservationPage("e101010", first.getNextCursor(), 2);
+        assertEquals(List.of(3L), second.getReservations().stream().map(ResvResponseDto::getResvNo).toList());
+        assertNull(second.getNextCursor());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> reservationService.selectUserReservationPage("e999999", null, 2));
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 건수 제한 - 진행 예정 예약이 최대 건수이면 COUNT 조회 없이 등록 불가, 취소 시 다시 등록 가능")
+    void saveReservationQuotaTest() {
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        when(userRepository.findByUserId("e101010")).thenReturn(Optional.of(new User("e101010", "김재원", "pwd10", "e101010@gmail.com")));
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+        when(resvNoSequence.next()).thenReturn(1L, 2L, 3L, 4L);
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        for (int i = 0; i < 2; i++) {
+            reservationService.saveReservation(ResvDto.builder()
+                                                      .userId("e101010")
+                                                      .roomCd("A101")
+                                                      .startTime(tomorrow.plusHours(i))
+                                                      .endTime(tomorrow.plusHours(i + 1))
+                                                      .build());
+        }
+        ResvDto third = ResvDto.builder()
+                               .userId("e101010")
+                               .roomCd("A101")
+                               .startTime(tomorrow.plusHours(2))
+                               .endTime(tomorrow.plusHours(3))
+                               .build();
+        assertThrows(IllegalStateException.class, () -> reservationService.saveReservation(third));
+        verify(reservationRepository, times(2)).save(any());
+
+        // 이미 종료된 예약은 건수에 포함하지 않음
+        reservationService.saveReservation(ResvDto.builder()
+                                                  .userId("e101010")
+                                                  .roomCd("A101")
+                                                  .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                                                  .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                                                  .build());
+
+        when(reservationRepository.findSlotById(1L)).thenReturn(Optional.of(
+                new ResvSlotDto(1L, "A101", tomorrow, tomorrow.plusHours(1))));
+        reservationService.deleteReservation(1L);
+        reservationService.saveReservation(third);
+        verify(reservationRepository, times(4)).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 대기 - 다른 사용자가 대기 중인 시간은 DB 조회 없이 거절, 대기자 본인은 등록 가능")
+    void saveReservationHeldTest() {
+        LocalDateTime start = LocalDateTime.of(2025, 7, 1, 10, 0);
+        SlotHolds.Hold hold = slotHolds.hold("e101010", "A101", start, start.plusHours(1));
+
+        // 대기 중인 시간과 겹치는 다른 사용자의 대기/예약 거절
+        assertThrows(IllegalStateException.class,
+                     () -> slotHolds.hold("e202020", "A101", start.plusMinutes(30), start.plusHours(2)));
+        assertThrows(IllegalStateException.class, () -> reservationService.saveReservation(
+                ResvDto.builder().userId("e202020").roomCd("A101").startTime(start).endTime(start.plusMinutes(30)).build()));
+        verifyNoInteractions(meetingRoomRepository, reservationRepository);
+
+        // 대기자 본인, 다른 회의실은 대기와 관계없음
+        assertFalse(slotHolds.isHeldByOther("A101", start, start.plusHours(1), "e101010"));
+        assertFalse(slotHolds.isHeldByOther("B202", start, start.plusHours(1), "e202020"));
+
+        // 대기 해제 후 다른 사용자 대기 가능
+        slotHolds.release(hold.holdNo());
+        assertTrue(slotHolds.find(hold.holdNo()).isEmpty());
+        assertNotNull(slotHolds.hold("e202020", "A101", start, start.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("예약 대기 만료 - 타이밍 휠이 만료 tick 에 대기 해제")
+    void slotHoldExpiryTest() {
+        // 자동 진행하지 않도록 tick 간격을 길게 두고 직접 진행
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlotHolds holds = new SlotHolds(meterRegistry, 1, 3_600_000, 3);
+        try {
+            LocalDateTime start = LocalDateTime.of(2025, 7, 1, 10, 0);
+            SlotHolds.Hold hold = holds.hold("e101010", "A101", start, start.plusHours(1));
+            assertEquals(1, meterRegistry.get(SlotHolds.ACTIVE_HOLDS).gauge().value());
+
+            holds.advance();
+            assertTrue(holds.find(hold.holdNo()).isEmpty());
+            assertFalse(holds.isHeldByOther("A101", start, start.plusHours(1), "e202020"));
+            assertEquals(0, meterRegistry.get(SlotHolds.ACTIVE_HOLDS).gauge().value());
+        } finally {
+            holds.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("예약 대기 - 사용자별 유효한 대기 수 초과 시 거절, 대기 해제 후 다시 대기 가능")
+    void slotHoldLimitTest() {
+        SlotHolds holds = new SlotHolds(new SimpleMeterRegistry(), 120, 3_600_000, 2);
+        try {
+            LocalDateTime start = LocalDateTime.of(2025, 7, 1, 10, 0);
+            SlotHolds.Hold first = holds.hold("e101010", "A101", start, start.plusHours(1));
+            holds.hold("e101010", "B202", start, start.plusHours(1));
+
+            Exception exception = assertThrows(IllegalStateException.class,
+                                               () -> holds.hold("e101010", "C303", start, start.plusHours(1)));
+            assertEquals("대기 가능 건수를 초과했습니다. (최대 2건)", exception.getMessage());
+            // 다른 사용자는 제한과 관계없음
+            assertNotNull(holds.hold("e202020", "C303", start, start.plusHours(1)));
+
+            holds.release(first.holdNo());
+            assertNotNull(holds.hold("e101010", "A101", start.plusHours(2), start.plusHours(3)));
+        } finally {
+            holds.destroy();
+        }
+    }
+
     @Test
     @DisplayName("회의실 예약 생성")
     void saveReservationTest() {
@@ -127,6 +299,7 @@ public class ReservationServiceTest {
         reservationService.saveReservation(dto);
 
         verify(reservationRepository).save(any());
+        verify(reservationSlotRepository).saveAllAndFlush(argThat(slots -> ((List<?>) slots).size() == 2));
     }
 
     @Test
@@ -147,6 +320,199 @@ public class ReservationServiceTest {
         assertEquals("이미 해당 시간에 예약이 존재합니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("회의실 예약 생성(인덱스 중복 체크)")
+    void saveReservationIndexDuplicateTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of(
+                new ResvSlotDto(1L, "A101", LocalDateTime.of(2025, 5, 1, 9, 0), LocalDateTime.of(2025, 5, 1, 10, 30))
+        ));
+        reservationIndex.load();
+
+        ResvDto dto = ResvDto.builder()
+                             .userId("e101010")
+                             .roomCd("A101")
+                             .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                             .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                             .build();
+
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> reservationService.saveReservation(dto));
+        assertEquals("이미 해당 시간에 예약이 존재합니다.", exception.getMessage());
+        verify(reservationRepository, never()).existsByOverlapping(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("회의실 예약 생성 후 인덱스 반영")
+    void saveReservationIndexSyncTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of());
+        reservationIndex.load();
+
+        ResvDto dto = ResvDto.builder()
+                             .userId("e101010")
+                             .roomCd("A101")
+                             .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                             .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                             .build();
+
+        when(userRepository.findByUserId("e101010")).thenReturn(Optional.of(new User("e101010", "김재원", "pwd10", "e101010@gmail.com")));
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> {
+            Reservation r = invocation.getArgument(0);
+            r.setResvNo(1L);
+            return r;
+        });
+
+        reservationService.saveReservation(dto);
+
+        assertTrue(reservationIndex.hasOverlap("A101", LocalDateTime.of(2025, 5, 1, 10, 30),
+                                               LocalDateTime.of(2025, 5, 1, 11, 30), null));
+        assertFalse(reservationIndex.hasOverlap("A101", LocalDateTime.of(2025, 5, 1, 11, 0),
+                                                LocalDateTime.of(2025, 5, 1, 12, 0), null));
+        verify(reservationRepository, never()).existsByOverlapping(any(), any(), any());
+
+        when(reservationRepository.findSlotById(1L)).thenReturn(Optional.of(
+                new ResvSlotDto(1L, "A101", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0))));
+        reservationService.deleteReservation(1L);
+
+        assertFalse(reservationIndex.hasOverlap("A101", LocalDateTime.of(2025, 5, 1, 10, 0),
+                                                LocalDateTime.of(2025, 5, 1, 11, 0), null));
+    }
+
+    @Test
+    @DisplayName("회의실 예약 가능 시간 조회")
+    void selectAvailabilityTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of(
+                new ResvSlotDto(1L, "A101", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0)),
+                new ResvSlotDto(2L, "A101", LocalDateTime.of(2025, 5, 1, 23, 0), LocalDateTime.of(2025, 5, 2, 1, 0))
+        ));
+        reservationIndex.load();
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+
+        List<ResvAvailResponseDto> results = reservationService.selectAvailability("A101", "20250501", "20250503");
+
+        assertEquals(3, results.size());
+        assertEquals(4, results.get(0).getOccupiedSlotCnt());
+        assertEquals(2, results.get(0).getFreeSlots().size());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 10, 0), results.get(0).getFreeSlots().get(0).getEndTime());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 11, 0), results.get(0).getFreeSlots().get(1).getStartTime());
+        assertEquals(2, results.get(1).getOccupiedSlotCnt());
+        assertEquals(LocalDateTime.of(2025, 5, 2, 1, 0), results.get(1).getFreeSlots().get(0).getStartTime());
+        assertEquals(0, results.get(2).getOccupiedSlotCnt());
+        verify(reservationRepository, never()).findOverlappingSlots(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 회의실 예약 가능 시간 일괄 조회")
+    void selectBulkAvailabilityTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of(
+                new ResvSlotDto(1L, "A101", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0)),
+                new ResvSlotDto(2L, "B202", LocalDateTime.of(2025, 5, 2, 9, 0), LocalDateTime.of(2025, 5, 2, 9, 30))
+        ));
+        reservationIndex.load();
+        when(meetingRoomRepository.findAll()).thenReturn(List.of(
+                new MeetingRoom("B202", "소회의실", 15),
+                new MeetingRoom("A101", "대회의실", 10),
+                new MeetingRoom("C303", "큐빅룸", 4)
+        ));
+
+        List<ResvAvailResponseDto> results = reservationService.selectBulkAvailability(null, "20250501", "20250502", 10)
+                                                               .toList();
+
+        assertEquals(4, results.size());
+        assertEquals(List.of("A101", "A101", "B202", "B202"),
+                     results.stream().map(ResvAvailResponseDto::getRoomCd).toList());
+        assertEquals(2, results.get(0).getOccupiedSlotCnt());
+        assertEquals(0, results.get(1).getOccupiedSlotCnt());
+        assertEquals(1, results.get(3).getOccupiedSlotCnt());
+        verify(reservationRepository, never()).findOverlappingSlotsInRooms(any(), any(), any());
+
+        assertEquals(0, reservationService.selectBulkAvailability(List.of("C303"), "20250501", "20250502", 10).count());
+        assertThrows(IllegalArgumentException.class,
+                     () -> reservationService.selectBulkAvailability(List.of("A101", "Z999"), "20250501", "20250502", null));
+    }
+
+    @Test
+    @DisplayName("예약 가능 회의실 검색 - 참석 인원 이상인 빈 회의실을 수용 인원이 작은 순으로 조회")
+    void searchAvailableRoomsTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of(
+                new ResvSlotDto(1L, "S101", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0))));
+        reservationIndex.load();
+        when(meetingRoomRepository.findAll()).thenReturn(List.of(
+                new MeetingRoom("L101", "대형", 20),
+                new MeetingRoom("S101", "소형", 6),
+                new MeetingRoom("M102", "중형2", 10),
+                new MeetingRoom("M101", "중형1", 10),
+                new MeetingRoom("X101", "1인실", 2)
+        ));
+
+        List<ResvRmResponseDto> rooms = reservationService.searchAvailableRooms(
+                5, LocalDateTime.of(2025, 5, 1, 10, 30), LocalDateTime.of(2025, 5, 1, 11, 30), 2);
+
+        assertEquals(List.of("M101", "M102"), rooms.stream().map(ResvRmResponseDto::getRoomCd).toList());
+        assertEquals(List.of("S101", "M101", "M102", "L101"), reservationService.searchAvailableRooms(
+                5, LocalDateTime.of(2025, 5, 1, 11, 0), LocalDateTime.of(2025, 5, 1, 12, 0), 10)
+                .stream().map(ResvRmResponseDto::getRoomCd).toList());
+        assertTrue(reservationService.searchAvailableRooms(
+                30, LocalDateTime.of(2025, 5, 1, 11, 0), LocalDateTime.of(2025, 5, 1, 12, 0), 10).isEmpty());
+        verify(reservationRepository, never()).findOverlappingSlotsInRooms(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자 공통 빈 시간 조회 - 사용자 예약의 합집합을 제외, 회의실 지정 시 회의실 예약도 제외")
+    void selectCommonFreeTimeTest() {
+        when(reservationRepository.findAllSlots()).thenReturn(List.of(
+                new ResvSlotDto(9L, "A101", LocalDateTime.of(2025, 5, 1, 13, 0), LocalDateTime.of(2025, 5, 1, 14, 0))));
+        reservationIndex.load();
+        when(userRepository.findAllById(any())).thenReturn(List.of(
+                new User("e101010", "김재원", "pwd10", "e101010@gmail.com"),
+                new User("e202020", "송길수", "pwd20", "e202020@gmail.com")));
+        when(reservationRepository.findOverlappingSlotsOfUsers(any(), eq(LocalDate.of(2025, 5, 1).atStartOfDay()),
+                                                               eq(LocalDate.of(2025, 5, 3).atStartOfDay()))).thenReturn(List.of(
+                new ResvSlotDto(1L, "B202", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0)),
+                new ResvSlotDto(2L, "C303", LocalDateTime.of(2025, 5, 1, 10, 30), LocalDateTime.of(2025, 5, 1, 12, 0))));
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+
+        List<ResvAvailResponseDto> results = reservationService.selectCommonFreeTime(
+                List.of("e101010", "e202020"), "20250501", "20250502", null);
+
+        assertEquals(2, results.size());
+        assertEquals(4, results.get(0).getOccupiedSlotCnt());
+        assertEquals(2, results.get(0).getFreeSlots().size());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 10, 0), results.get(0).getFreeSlots().get(0).getEndTime());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 12, 0), results.get(0).getFreeSlots().get(1).getStartTime());
+        assertEquals(0, results.get(1).getOccupiedSlotCnt());
+
+        List<ResvAvailResponseDto> withRoom = reservationService.selectCommonFreeTime(
+                List.of("e101010", "e202020"), "20250501", "20250502", "A101");
+        assertEquals(6, withRoom.get(0).getOccupiedSlotCnt());
+        assertEquals(3, withRoom.get(0).getFreeSlots().size());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 13, 0), withRoom.get(0).getFreeSlots().get(1).getEndTime());
+
+        assertThrows(IllegalArgumentException.class, () -> reservationService.selectCommonFreeTime(
+                List.of("e101010", "e202020", "x000000"), "20250501", "20250502", null));
+    }
+
+    @Test
+    @DisplayName("회의실 예약 생성(슬롯 점유 실패)")
+    void saveReservationSlotConflictTest() {
+        ResvDto dto = ResvDto.builder()
+                             .userId("e101010")
+                             .roomCd("A101")
+                             .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                             .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                             .build();
+
+        when(userRepository.findByUserId("e101010")).thenReturn(Optional.of(new User("e101010", "김재원", "pwd10", "e101010@gmail.com")));
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(new MeetingRoom("A101", "대회의실", 10)));
+        when(reservationRepository.existsByOverlapping(any(), any(), any())).thenReturn(false);
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reservationSlotRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> reservationService.saveReservation(dto));
+        assertEquals("이미 해당 시간에 예약이 존재합니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("회의실 예약 수정")
     void modifyReservationTest() {
@@ -161,6 +527,7 @@ public class ReservationServiceTest {
                                           .meetingRoom(room)
                                           .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
                                           .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                                          .version(0L)
                                           .build();
 
         ResvDto updateDto = ResvDto.builder()
@@ -168,28 +535,57 @@ public class ReservationServiceTest {
                                    .roomCd("A101")
                                    .startTime(LocalDateTime.of(2025, 5, 1, 12, 0))
                                    .endTime(LocalDateTime.of(2025, 5, 1, 13, 0))
+                                   .version(0L)
                                    .build();
 
-        when(reservationRepository.findById(resvNo)).thenReturn(Optional.of(existing));
+        when(reservationRepository.findSlotById(resvNo)).thenReturn(Optional.of(
+                new ResvSlotDto(resvNo, "A101", existing.getStartTime(), existing.getEndTime())));
         when(reservationRepository.findOverlappingReservations(any(), any(), any())).thenReturn(List.of(existing));
-        when(reservationRepository.updateReservationTime(anyLong(), anyString(), any(), any())).thenReturn(1);
-        when(reservationRepository.findById(resvNo)).thenReturn(Optional.of(
-                Reservation.builder()
-                           .resvNo(resvNo)
-                           .user(user)
-                           .userNm("김재원")
-                           .meetingRoom(room)
-                           .startTime(updateDto.getStartTime())
-                           .endTime(updateDto.getEndTime())
-                           .build()
-        ));
-
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(room));
+        when(userRepository.findByUserId("e101010")).thenReturn(Optional.of(user));
+        when(reservationRepository.updateIfUnchanged(resvNo, "e101010", "A101", existing.getStartTime(),
+                                                     existing.getEndTime(), 0L, room, updateDto.getStartTime(),
+                                                     updateDto.getEndTime())).thenReturn(1);
         ResvResponseDto result = reservationService.modifyReservation(resvNo, updateDto);
 
         assertEquals(resvNo, result.getResvNo());
         assertEquals("김재원", result.getUserNm());
         assertEquals(updateDto.getStartTime(), result.getStartTime());
         assertEquals(updateDto.getEndTime(), result.getEndTime());
+        assertEquals(1L, result.getVersion());
+        verify(reservationRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("회의실 예약 수정 - 조회 이후 다른 사용자가 먼저 변경한 경우 현재 예약 정보와 함께 충돌")
+    void modifyReservationStaleVersionTest() {
+        Long resvNo = 1L;
+        User user = User.builder().userId("e101010").userNm("김재원").build();
+        Reservation existing = Reservation.builder()
+                                          .resvNo(resvNo)
+                                          .user(user)
+                                          .userNm("김재원")
+                                          .meetingRoom(MeetingRoom.builder().roomCd("A101").build())
+                                          .startTime(LocalDateTime.of(2025, 5, 1, 10, 0))
+                                          .endTime(LocalDateTime.of(2025, 5, 1, 11, 0))
+                                          .version(3L)
+                                          .build();
+        when(reservationRepository.findSlotById(resvNo)).thenReturn(Optional.of(
+                new ResvSlotDto(resvNo, "A101", existing.getStartTime(), existing.getEndTime())));
+        when(meetingRoomRepository.findByRoomCd("A101")).thenReturn(Optional.of(existing.getMeetingRoom()));
+        when(reservationRepository.findById(resvNo)).thenReturn(Optional.of(existing));
+
+        ReservationConflictException exception = assertThrows(ReservationConflictException.class, () ->
+                reservationService.modifyReservation(resvNo, ResvDto.builder()
+                                                                     .userId("e101010")
+                                                                     .roomCd("A101")
+                                                                     .startTime(LocalDateTime.of(2025, 5, 1, 12, 0))
+                                                                     .endTime(LocalDateTime.of(2025, 5, 1, 13, 0))
+                                                                     .version(2L)
+                                                                     .build()));
+        assertEquals(3L, exception.getCurrent().getVersion());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 10, 0), exception.getCurrent().getStartTime());
+        verify(reservationSlotRepository, never()).saveAllAndFlush(any());
     }
 
     @Test
@@ -197,11 +593,28 @@ public class ReservationServiceTest {
     void deleteReservationTest() {
         Long resvNo = 1L;
 
-        when(reservationRepository.existsById(resvNo)).thenReturn(true);
+        when(reservationRepository.findSlotById(resvNo)).thenReturn(Optional.of(
+                new ResvSlotDto(resvNo, "A101", LocalDateTime.of(2025, 5, 1, 10, 0), LocalDateTime.of(2025, 5, 1, 11, 0))));
 
         reservationService.deleteReservation(resvNo);
 
-        verify(reservationRepository).existsById(resvNo);
+        verify(reservationRepository).findSlotById(resvNo);
         verify(reservationRepository).deleteById(resvNo);
     }
+
+    @Test
+    @DisplayName("월간 예약 ETag - 같은 조회 결과면 같은 값(다른 노드 포함), 예약 변경 시 변경")
+    void monthlyResvETagTest() {
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 10, 0);
+        List<ResvResponseDto> resvList = List.of(new ResvResponseDto(1L, "김재원", "A101", start, start.plusHours(1), 0L));
+        // 다른 노드에서 같은 내용으로 조회한 목록
+        List<ResvResponseDto> otherNode = List.of(new ResvResponseDto(1L, "김재원", "A101", start, start.plusHours(1), 0L));
+        List<ResvResponseDto> modified = List.of(new ResvResponseDto(1L, "김재원", "A101", start, start.plusHours(2), 1L));
+
+        String eTag = reservationService.monthlyResvETag(resvList);
+
+        assertEquals(eTag, reservationService.monthlyResvETag(otherNode));
+        assertNotEquals(eTag, reservationService.monthlyResvETag(modified));
+        assertNotEquals(eTag, reservationService.monthlyResvETag(List.of()));
+    }
 }
@@ -0,0 +1,122 @@
+package meeting.meeting_room_reservation.service;
+
+import meeting.meeting_room_reservation.model.dto.ResvAvailResponseDto;
+import meeting.meeting_room_reservation.model.dto.ResvDto;
+import meeting.meeting_room_reservation.model.dto.ResvResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReservationShardingTest.SHARD0,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "reservation.sharding.enabled=true",
+        "reservation.sharding.urls=" + ReservationShardingTest.SHARD0 + "," + ReservationShardingTest.SHARD1
+})
+class ReservationShardingTest {
+
+    static final String SHARD0 = "jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1";
+    static final String SHARD1 = "jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationShards reservationShards;
+
+    @Autowired
+    private ReservationIndex reservationIndex;
+
+    private final List<JdbcTemplate> shards = List.of(new JdbcTemplate(new DriverManagerDataSource(SHARD0, "sa", "")),
+                                                      new JdbcTemplate(new DriverManagerDataSource(SHARD1, "sa", "")));
+
+    // 샤드별 회의실(V1 기본 회의실 중 샤드마다 하나)
+    private String room0;
+    private String room1;
+
+    @BeforeEach
+    void setUp() {
+        for (JdbcTemplate shard : shards) {
+            shard.update("DELETE FROM reservation_slots");
+            shard.update("DELETE FROM reservations");
+        }
+        reservationIndex.load();
+
+        List<String> rooms = shards.get(0).queryForList("SELECT room_cd FROM meeting_rooms ORDER BY room_cd", String.class);
+        room0 = rooms.stream().filter(roomCd -> reservationShards.shardOf(roomCd) == 0).findFirst().orElseThrow();
+        room1 = rooms.stream().filter(roomCd -> reservationShards.shardOf(roomCd) == 1).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("회의실 샤드별 예약 저장, 예약 번호로 수정/삭제, 다른 샤드 회의실로 변경 거절")
+    void shardedWriteTest() {
+        ResvResponseDto resv0 = reservationService.saveReservation(resvDto(room0, 9));
+        ResvResponseDto resv1 = reservationService.saveReservation(resvDto(room1, 9));
+
+        assertThat(countOf(0, resv0.getResvNo())).isEqualTo(1);
+        assertThat(countOf(1, resv0.getResvNo())).isZero();
+        assertThat(countOf(1, resv1.getResvNo())).isEqualTo(1);
+        assertThat(countOf(0, resv1.getResvNo())).isZero();
+
+        // 같은 회의실, 같은 시간 중복은 회의실 샤드에서 확인
+        assertThatThrownBy(() -> reservationService.saveReservation(resvDto(room1, 9)))
+                .isInstanceOf(IllegalStateException.class);
+
+        ResvResponseDto modified = reservationService.modifyReservation(resv1.getResvNo(), resvDto(room1, 11));
+        assertThat(modified.getStartTime()).isEqualTo(LocalDateTime.of(2025, 8, 1, 11, 0));
+        assertThat(reservationService.selectReservationList(room1, "20250801"))
+                .extracting(ResvResponseDto::getResvNo).containsExactly(resv1.getResvNo());
+
+        assertThatThrownBy(() -> reservationService.modifyReservation(resv1.getResvNo(), resvDto(room0, 13)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        reservationService.deleteReservation(resv0.getResvNo());
+        assertThat(countOf(0, resv0.getResvNo())).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 샤드 조회 - 인덱스 적재, 여러 회의실 예약 가능 시간 병합")
+    void shardedFanOutReadTest() {
+        reservationService.saveReservation(resvDto(room0, 9));
+        reservationService.saveReservation(resvDto(room1, 10));
+
+        reservationIndex.load();
+        assertThat(reservationIndex.hasOverlap(room0, LocalDateTime.of(2025, 8, 1, 9, 0),
+                                               LocalDateTime.of(2025, 8, 1, 10, 0), null)).isTrue();
+        assertThat(reservationIndex.hasOverlap(room1, LocalDateTime.of(2025, 8, 1, 10, 0),
+                                               LocalDateTime.of(2025, 8, 1, 11, 0), null)).isTrue();
+
+        List<ResvAvailResponseDto> availability;
+        try (var stream = reservationService.selectBulkAvailability(List.of(room0, room1), "20250801", "20250801", null)) {
+            availability = stream.collect(Collectors.toList());
+        }
+        assertThat(availability).extracting(ResvAvailResponseDto::getRoomCd, ResvAvailResponseDto::getOccupiedSlotCnt)
+                                .containsExactlyInAnyOrder(tuple(room0, 2), tuple(room1, 2));
+    }
+
+    private long countOf(int shard, Long resvNo) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM reservations WHERE resv_no = ?", Long.class, resvNo);
+    }
+
+    private ResvDto resvDto(String roomCd, int hour) {
+        return ResvDto.builder()
+                      .userId("e101010")
+                      .roomCd(roomCd)
+                      .startTime(LocalDateTime.of(2025, 8, 1, hour, 0))
+                      .endTime(LocalDateTime.of(2025, 8, 1, hour + 1, 0))
+                      .build();
+    }
+}